@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
+
+/**
+ * Benchmarks of the frame encoding, reply decoding and enum lookups run for every property of every polling cycle.
+ * The DATE, TIME and NETWORK_SETTING cases of digestResponse cover convertDateFormatByValue and convertNetworkSettingByValue.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LgLCDProtocolBenchmark {
+
+	private LgLCDFrameEncoder frameEncoder;
+	private byte[] volumeCommand;
+	private byte[] getParam;
+	private String balanceName;
+
+	@Setup
+	public void setUp() {
+		frameEncoder = new LgLCDFrameEncoder(1);
+		volumeCommand = LgLCDConstants.commands.get(commandNames.VOLUME);
+		getParam = LgLCDConstants.commands.get(commandNames.GET);
+		balanceName = Balance.values()[Balance.values().length / 2].getName();
+	}
+
+	@Benchmark
+	public Object digestResponse(ReplyState replyState) {
+		return replyState.lgLCDDevice.digestResponse(replyState.reply, replyState.expectedResponse);
+	}
+
+	@Benchmark
+	public byte[] buildSendString() {
+		return LgLCDUtils.buildSendString((byte) 1, volumeCommand, getParam);
+	}
+
+	@Benchmark
+	public byte[] getRequestFrame() {
+		return frameEncoder.getRequestFrame(commandNames.VOLUME, commandNames.GET);
+	}
+
+	@Benchmark
+	public String[] getEnumNames() {
+		return EnumTypeHandler.getEnumNames(Tint.class);
+	}
+
+	@Benchmark
+	public String getNameEnumByValue() {
+		return EnumTypeHandler.getNameEnumByValue(Tint.class, "64");
+	}
+
+	@Benchmark
+	public String getValueOfEnumByName() {
+		return EnumTypeHandler.getValueOfEnumByName(Balance.class, balanceName);
+	}
+
+	/**
+	 * Reply of one command, decoded by {@link #digestResponse(ReplyState)}
+	 */
+	@State(Scope.Thread)
+	public static class ReplyState {
+
+		@Param({ "NATURAL_MODE", "TILE_ID", "TILE_MODE_CONTROL", "NATURAL_SIZE", "BACKLIGHT", "MUTE", "VOLUME", "TEMPERATURE", "FAILOVER_INPUT_LIST", "POWER_MANAGEMENT_MODE",
+				"POWER", "NETWORK_SETTING", "INPUT_SELECT", "INPUT", "FAN_STATUS", "SYNC_STATUS", "SERIAL_NUMBER", "FAILOVER", "SOFTWARE_VERSION", "DISPLAY_STAND_BY_MODE", "DATE",
+				"TIME", "TILE_MODE_SETTINGS", "ASPECT_RATIO", "BRIGHTNESS_CONTROL", "PICTURE_MODE", "BRIGHTNESS", "CONTRAST", "SHARPNESS", "SCREEN_COLOR", "TINT",
+				"COLOR_TEMPERATURE", "BALANCE", "SOUND_MODE", "NO_SIGNAL_POWER_OFF", "NO_IR_POWER_OFF", "LANGUAGE", "POWER_ON_STATUS", "REBOOT" })
+		private String command;
+
+		private LgLCDDevice lgLCDDevice;
+		private commandNames expectedResponse;
+		private byte[] reply;
+
+		@Setup
+		public void setUp() {
+			lgLCDDevice = new LgLCDDevice();
+			expectedResponse = commandNames.valueOf(command);
+			reply = buildReply(expectedResponse);
+		}
+	}
+
+	/**
+	 * Build the OK reply of a display with default settings to the read request of the command
+	 */
+	private static byte[] buildReply(commandNames command) {
+		byte[] letters = LgLCDConstants.commands.get(command);
+		String data = "ff";
+		switch (command) {
+			case NETWORK_SETTING:
+				data = "82 ff";
+				break;
+			case NATURAL_SIZE:
+				data = "a5 ff";
+				break;
+			case POWER_MANAGEMENT_MODE:
+				data = "0c ff";
+				break;
+			case SYNC_STATUS:
+				data = "02 ff";
+				break;
+			default:
+				break;
+		}
+		return new LgLCDSimulatedDisplay(1).reply(new String(new char[] { (char) letters[0], (char) letters[1] }), data, false);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+
+/**
+ * Benchmark of a full polling interval of getMultipleStatistics, with the device replies served in process
+ * by {@link LgLCDSimulatedDisplay} so that only the adapter CPU time is measured.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LgLCDStatisticsBenchmark {
+
+	private LgLCDDevice lgLCDDevice;
+	private int pollingInterval;
+
+	@Setup
+	public void setUp() throws Exception {
+		lgLCDDevice = new InProcessLgLCDDevice();
+		lgLCDDevice.setHost("127.0.0.1");
+		lgLCDDevice.setConfigManagement("true");
+		lgLCDDevice.init();
+		pollingInterval = LgLCDConstants.DEFAULT_POLLING_INTERVAL;
+	}
+
+	@TearDown
+	public void tearDown() {
+		lgLCDDevice.destroy();
+	}
+
+	@Benchmark
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		List<Statistics> statistics = null;
+		for (int i = 0; i < pollingInterval; i++) {
+			statistics = lgLCDDevice.getMultipleStatistics();
+		}
+		return statistics;
+	}
+
+	/**
+	 * LgLCDDevice answering every frame from a virtual display instead of the network, without cool down delay
+	 */
+	static class InProcessLgLCDDevice extends LgLCDDevice {
+		private final LgLCDSimulatedDisplay display = new LgLCDSimulatedDisplay(1);
+
+		@Override
+		public byte[] send(byte[] data) {
+			String frame = new String(data, 0, data.length - 1, StandardCharsets.US_ASCII);
+			return display.reply(frame.substring(0, 2), frame.length() > 6 ? frame.substring(6) : "", false);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+/**
+ * AdaptiveCoolDownDelay adjusts the delay between two commands from the observed behavior of the display, AIMD style:
+ * the delay shrinks by a fixed step after a streak of replies that came back within the current delay,
+ * and doubles on every NG reply or timeout. The delay always stays between {@link LgLCDConstants#MIN_DELAY_TIME}
+ * and {@link LgLCDConstants#MAX_DELAY_TIME}.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class AdaptiveCoolDownDelay {
+
+	private long currentDelay;
+	private int successStreak;
+	private double averageLatency;
+	private long successCount;
+	private long failureCount;
+
+	/**
+	 * AdaptiveCoolDownDelay instantiation
+	 *
+	 * @param initialDelay the initialDelay is the configured cool down delay in ms
+	 */
+	AdaptiveCoolDownDelay(long initialDelay) {
+		reset(initialDelay);
+	}
+
+	/**
+	 * Start over from the given delay
+	 *
+	 * @param initialDelay the initialDelay is the delay in ms to start from
+	 */
+	synchronized void reset(long initialDelay) {
+		currentDelay = clamp(initialDelay);
+		successStreak = 0;
+		averageLatency = 0;
+		successCount = 0;
+		failureCount = 0;
+	}
+
+	/**
+	 * Retrieves {@link #currentDelay}
+	 *
+	 * @return delay in ms to apply before the next command
+	 */
+	synchronized long getDelay() {
+		return currentDelay;
+	}
+
+	/**
+	 * Retrieves {@link #averageLatency}
+	 *
+	 * @return exponentially weighted average of the reply latency in ms
+	 */
+	synchronized double getAverageLatency() {
+		return averageLatency;
+	}
+
+	/**
+	 * Get the share of NG replies and timeouts among all recorded commands
+	 *
+	 * @return failure rate between 0 and 1
+	 */
+	synchronized double getFailureRate() {
+		long total = successCount + failureCount;
+		return total == 0 ? 0 : (double) failureCount / total;
+	}
+
+	/**
+	 * Record a command answered with an OK reply
+	 *
+	 * @param latency the latency is the time in ms between sending the command and receiving the reply
+	 */
+	synchronized void onSuccess(long latency) {
+		successCount++;
+		averageLatency = averageLatency == 0 ? latency : averageLatency + LgLCDConstants.ADAPTIVE_DELAY_LATENCY_WEIGHT * (latency - averageLatency);
+		if (averageLatency > currentDelay) {
+			// The display is slower than the gap we give it, do not shrink further
+			successStreak = 0;
+			return;
+		}
+		successStreak++;
+		if (successStreak >= LgLCDConstants.ADAPTIVE_DELAY_SUCCESS_STREAK) {
+			currentDelay = clamp(currentDelay - LgLCDConstants.ADAPTIVE_DELAY_DECREASE_STEP);
+			successStreak = 0;
+		}
+	}
+
+	/**
+	 * Record a command answered with an NG reply or not answered in time
+	 */
+	synchronized void onFailure() {
+		failureCount++;
+		successStreak = 0;
+		currentDelay = clamp(currentDelay * LgLCDConstants.ADAPTIVE_DELAY_INCREASE_FACTOR);
+	}
+
+	/**
+	 * Keep the delay in the supported range
+	 */
+	private static long clamp(long delay) {
+		return Math.max(LgLCDConstants.MIN_DELAY_TIME, Math.min(LgLCDConstants.MAX_DELAY_TIME, delay));
+	}
+}
@@ -8,10 +8,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 4/21/2023
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum Balance {
+public enum Balance implements NameValueEnum {
 
 	L50("L50", "00"),
 	L49("L49", "01"),
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+/**
+ * CommandPriority defines the order in which {@link LgLCDCommandQueue} sends the queued commands to the display,
+ * in declaration order
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public enum CommandPriority {
+
+	/**
+	 * Commands of an operator control
+	 */
+	CONTROL,
+
+	/**
+	 * Background polling commands
+	 */
+	POLL
+}
@@ -3,40 +3,33 @@
  */
 package com.avispl.symphony.dal.communicator.lg.lcd;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-
-import org.springframework.core.convert.ConversionException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ClassTypeHandler  class defined the enum for monitoring and controlling process
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 12/13/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
 public class EnumTypeHandler {
 
 	/**
-	 * Get an array of all enum names
+	 * Name and value indexes of every enum class, built once on first use
+	 */
+	private static final Map<Class<?>, EnumIndex<?>> enumIndexes = new ConcurrentHashMap<>();
+
+	/**
+	 * Get an array of all enum names. The array is shared across calls and must not be modified.
 	 *
 	 * @param enumType the enumtype is enum class
 	 */
-	public static <T extends Enum<T>> String[] getEnumNames(Class<T> enumType) {
-		List<String> names = new ArrayList<>();
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getName");
-				String name = (String) method.invoke(c); // getName executed
-				names.add(name);
-			} catch (Exception e) {
-				throw new ConversionException("Error to convert enum " + enumType.getSimpleName() + " to names") {
-				};
-			}
-		}
-		return names.toArray(new String[names.size()]);
+	public static <T extends Enum<T> & NameValueEnum> String[] getEnumNames(Class<T> enumType) {
+		return getEnumIndex(enumType).names;
 	}
 
 	/**
@@ -47,20 +40,9 @@ public class EnumTypeHandler {
 	 * @param <T> is enum type instance
 	 * @return String is value of enum or None if not found the value of enum
 	 */
-	public static <T extends Enum<T>> String getNameEnumByValue(Class<T> enumType, String value) {
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getValue");
-				String name = (String) method.invoke(c);
-				if (name.equals(value)) {
-					method = c.getClass().getMethod("getName");
-					return (String) method.invoke(c);
-				}
-			} catch (Exception e) {
-				return LgLCDConstants.NA;
-			}
-		}
-		return LgLCDConstants.NA;
+	public static <T extends Enum<T> & NameValueEnum> String getNameEnumByValue(Class<T> enumType, String value) {
+		T constant = getEnumByValue(enumType, value);
+		return constant == null ? LgLCDConstants.NA : constant.getName();
 	}
 
 	/**
@@ -71,19 +53,55 @@ public class EnumTypeHandler {
 	 * @param <T> is enum type instance
 	 * @return String is value of enum or None if not found the value of enum
 	 */
-	public static <T extends Enum<T>> String getValueOfEnumByName(Class<T> enumType, String value) {
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getName");
-				String name = (String) method.invoke(c);
-				if (name.equals(value)) {
-					method = c.getClass().getMethod("getValue");
-					return (String) method.invoke(c);
-				}
-			} catch (Exception e) {
-				return LgLCDConstants.NA;
+	public static <T extends Enum<T> & NameValueEnum> String getValueOfEnumByName(Class<T> enumType, String value) {
+		T constant = getEnumIndex(enumType).constantByName.get(value);
+		return constant == null ? LgLCDConstants.NA : constant.getValue();
+	}
+
+	/**
+	 * Get enum constant by value
+	 *
+	 * @param enumType the enumtype is enum class
+	 * @param value the value is value of enum
+	 * @param <T> is enum type instance
+	 * @return enum constant or null if not found the value of enum
+	 */
+	public static <T extends Enum<T> & NameValueEnum> T getEnumByValue(Class<T> enumType, String value) {
+		return getEnumIndex(enumType).constantByValue.get(value);
+	}
+
+	/**
+	 * Get the index of the enum class, building it on first use
+	 *
+	 * @param enumType the enumtype is enum class
+	 * @param <T> is enum type instance
+	 * @return EnumIndex of the enum class
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T extends Enum<T> & NameValueEnum> EnumIndex<T> getEnumIndex(Class<T> enumType) {
+		return (EnumIndex<T>) enumIndexes.computeIfAbsent(enumType, key -> new EnumIndex<>(enumType.getEnumConstants()));
+	}
+
+	/**
+	 * Immutable name and value indexes of one enum class.
+	 * When several constants share a name or a value, the first declared one wins as in a linear scan.
+	 */
+	private static class EnumIndex<T extends Enum<T> & NameValueEnum> {
+		private final String[] names;
+		private final Map<String, T> constantByName;
+		private final Map<String, T> constantByValue;
+
+		EnumIndex(T[] constants) {
+			names = new String[constants.length];
+			Map<String, T> byName = new HashMap<>();
+			Map<String, T> byValue = new HashMap<>();
+			for (int i = 0; i < constants.length; i++) {
+				names[i] = constants[i].getName();
+				byName.putIfAbsent(constants[i].getName(), constants[i]);
+				byValue.putIfAbsent(constants[i].getValue(), constants[i]);
 			}
+			constantByName = Collections.unmodifiableMap(byName);
+			constantByValue = Collections.unmodifiableMap(byValue);
 		}
-		return LgLCDConstants.NA;
 	}
-}
\ No newline at end of file
+}
@@ -9,10 +9,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 12/1/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum FailOverEnum {
+public enum FailOverEnum implements NameValueEnum {
 
 	OFF("Off", "00"),
 	AUTO("Auto", "01"),
@@ -9,10 +9,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 1/4/2023
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum FailOverInputSourceEnum {
+public enum FailOverInputSourceEnum implements NameValueEnum {
 
 	RGB("AV", "60"),
 	DVI_D("DVI-D", "70"),
@@ -10,10 +10,10 @@ import java.util.Arrays;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 1/4/2023
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum InputSourceDropdown {
+public enum InputSourceDropdown implements NameValueEnum {
 
 	AV("AV", "20", false),
 	COMPONENT("", "40", false),
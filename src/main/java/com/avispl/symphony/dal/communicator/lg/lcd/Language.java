@@ -9,10 +9,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 1/11/2023
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum Language {
+public enum Language implements NameValueEnum {
 
 	CZECH("Czech", "00"),
 	DANISH("Danish", "01"),
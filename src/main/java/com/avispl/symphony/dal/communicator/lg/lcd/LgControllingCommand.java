@@ -10,7 +10,7 @@ import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 12/28/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
 public enum LgControllingCommand {
@@ -20,51 +20,52 @@ public enum LgControllingCommand {
 	PRIORITY_DOWN(LgLCDConstants.PRIORITY_DOWN, false, false, LgLCDConstants.commandNames.FAILOVER),
 	PRIORITY_INPUT(LgLCDConstants.PRIORITY_INPUT, false, false, LgLCDConstants.commandNames.FAILOVER),
 	TEMPERATURE(LgLCDConstants.TEMPERATURE, true, false, LgLCDConstants.commandNames.TEMPERATURE),
-	SOFTWARE_VERSION(LgLCDConstants.SOFTWARE_VERSION, true, false, LgLCDConstants.commandNames.SOFTWARE_VERSION),
-	TILE_MODE_SETTINGS(LgLCDConstants.TILE_MODE_SETTINGS, true, false, LgLCDConstants.commandNames.TILE_MODE_SETTINGS),
-	SERIAL_NUMBER(LgLCDConstants.SERIAL_NUMBER, true, false, LgLCDConstants.commandNames.SERIAL_NUMBER),
-	DISPLAY_STAND_BY_MODE(LgLCDConstants.DISPLAY_STAND_BY_MODE, true, false, LgLCDConstants.commandNames.DISPLAY_STAND_BY_MODE),
-	POWER_MANAGEMENT_MODE(LgLCDConstants.POWER_MANAGEMENT_MODE, false, true, LgLCDConstants.commandNames.POWER_MANAGEMENT_MODE),
+	SOFTWARE_VERSION(LgLCDConstants.SOFTWARE_VERSION, true, false, LgLCDConstants.commandNames.SOFTWARE_VERSION, RefreshClass.ON_CONNECT),
+	TILE_MODE_SETTINGS(LgLCDConstants.TILE_MODE_SETTINGS, true, false, LgLCDConstants.commandNames.TILE_MODE_SETTINGS, RefreshClass.PERIODIC),
+	SERIAL_NUMBER(LgLCDConstants.SERIAL_NUMBER, true, false, LgLCDConstants.commandNames.SERIAL_NUMBER, RefreshClass.ON_CONNECT),
+	DISPLAY_STAND_BY_MODE(LgLCDConstants.DISPLAY_STAND_BY_MODE, true, false, LgLCDConstants.commandNames.DISPLAY_STAND_BY_MODE, RefreshClass.PERIODIC),
+	POWER_MANAGEMENT_MODE(LgLCDConstants.POWER_MANAGEMENT_MODE, false, true, LgLCDConstants.commandNames.POWER_MANAGEMENT_MODE, RefreshClass.PERIODIC),
 	DATE(LgLCDConstants.DATE, true, false, LgLCDConstants.commandNames.DATE),
 	TIME(LgLCDConstants.TIME, true, false, LgLCDConstants.commandNames.TIME),
-	NETWORK_SETTING(LgLCDConstants.NETWORK_SETTING, true, false, LgLCDConstants.commandNames.NETWORK_SETTING),
+	NETWORK_SETTING(LgLCDConstants.NETWORK_SETTING, true, false, LgLCDConstants.commandNames.NETWORK_SETTING, RefreshClass.PERIODIC),
 	INPUT_SELECT(LgLCDConstants.INPUT_SELECT, true, false, LgLCDConstants.commandNames.INPUT_SELECT),
 	POWER(LgLCDConstants.POWER, false, true, LgLCDConstants.commandNames.POWER),
 	FAN_STATUS(LgLCDConstants.FAN, true, false, LgLCDConstants.commandNames.FAN_STATUS),
 	SYNC_STATUS(LgLCDConstants.SIGNAL, true, false, LgLCDConstants.commandNames.SYNC_STATUS),
-	FAILOVER(LgLCDConstants.FAILOVER_MODE, true, false, LgLCDConstants.commandNames.FAILOVER),
-	TILE_MODE(LgLCDConstants.TILE_MODE, true, false, LgLCDConstants.commandNames.TILE_MODE_CONTROL),
-	NATURAL_MODE(LgLCDConstants.NATURAL_MODE, true, false, LgLCDConstants.commandNames.NATURAL_MODE),
-	TILE_ID(LgLCDConstants.TILE_MODE_ID, true, false, LgLCDConstants.commandNames.TILE_ID),
-	NATURAL_SIZE(LgLCDConstants.NATURAL_SIZE, true, false, LgLCDConstants.commandNames.NATURAL_SIZE),
+	FAILOVER(LgLCDConstants.FAILOVER_MODE, true, false, LgLCDConstants.commandNames.FAILOVER, RefreshClass.PERIODIC),
+	TILE_MODE(LgLCDConstants.TILE_MODE, true, false, LgLCDConstants.commandNames.TILE_MODE_CONTROL, RefreshClass.PERIODIC),
+	NATURAL_MODE(LgLCDConstants.NATURAL_MODE, true, false, LgLCDConstants.commandNames.NATURAL_MODE, RefreshClass.PERIODIC),
+	TILE_ID(LgLCDConstants.TILE_MODE_ID, true, false, LgLCDConstants.commandNames.TILE_ID, RefreshClass.PERIODIC),
+	NATURAL_SIZE(LgLCDConstants.NATURAL_SIZE, true, false, LgLCDConstants.commandNames.NATURAL_SIZE, RefreshClass.PERIODIC),
 	MUTE(LgLCDConstants.MUTE, false, true, LgLCDConstants.commandNames.MUTE),
 	VOLUME(LgLCDConstants.VOLUME, false, true, LgLCDConstants.commandNames.VOLUME),
 	BACKLIGHT(LgLCDConstants.BACKLIGHT, false, true, LgLCDConstants.commandNames.BACKLIGHT),
-	FAILOVER_INPUT_LIST(LgLCDConstants.FAILOVER_INPUT_LIST, true, false, LgLCDConstants.commandNames.FAILOVER_INPUT_LIST),
-	ASPECT_RATIO(LgLCDConstants.ASPECT_RATIO, false, true, LgLCDConstants.commandNames.ASPECT_RATIO),
-	BRIGHTNESS_CONTROL(LgLCDConstants.BRIGHTNESS_CONTROL, false, true, LgLCDConstants.commandNames.BRIGHTNESS_CONTROL),
-	CONTRAST(LgLCDConstants.CONTRAST, false, true, LgLCDConstants.commandNames.CONTRAST),
-	PICTURE_MODE(LgLCDConstants.PICTURE_MODE, false, true, LgLCDConstants.commandNames.PICTURE_MODE),
-	BRIGHTNESS(LgLCDConstants.BRIGHTNESS, false, true, LgLCDConstants.commandNames.BRIGHTNESS),
-	SHARPNESS(LgLCDConstants.SHARPNESS, false, true, LgLCDConstants.commandNames.SHARPNESS),
-	SCREEN_COLOR(LgLCDConstants.SCREEN_COLOR, false, true, LgLCDConstants.commandNames.SCREEN_COLOR),
-	TINT(LgLCDConstants.TINT, false, true, LgLCDConstants.commandNames.TINT),
-	COLOR_TEMPERATURE(LgLCDConstants.COLOR_TEMPERATURE, false, true, LgLCDConstants.commandNames.COLOR_TEMPERATURE),
-	BALANCE(LgLCDConstants.BALANCE, false, true, LgLCDConstants.commandNames.BALANCE),
-	SOUND_MODE(LgLCDConstants.SOUND_MODE, false, true, LgLCDConstants.commandNames.SOUND_MODE),
-	NO_SIGNAL_POWER_OFF(LgLCDConstants.NO_SIGNAL_POWER_OFF, false, true, LgLCDConstants.commandNames.NO_SIGNAL_POWER_OFF),
-	NO_IR_POWER_OFF(LgLCDConstants.NO_IR_POWER_OFF, false, true, LgLCDConstants.commandNames.NO_IR_POWER_OFF),
-	LANGUAGE(LgLCDConstants.LANGUAGE, false, true, LgLCDConstants.commandNames.LANGUAGE),
-	POWER_ON_STATUS(LgLCDConstants.POWER_ON_STATUS, false, true, LgLCDConstants.commandNames.POWER_ON_STATUS),
+	FAILOVER_INPUT_LIST(LgLCDConstants.FAILOVER_INPUT_LIST, true, false, LgLCDConstants.commandNames.FAILOVER_INPUT_LIST, RefreshClass.PERIODIC),
+	ASPECT_RATIO(LgLCDConstants.ASPECT_RATIO, false, true, LgLCDConstants.commandNames.ASPECT_RATIO, RefreshClass.PERIODIC),
+	BRIGHTNESS_CONTROL(LgLCDConstants.BRIGHTNESS_CONTROL, false, true, LgLCDConstants.commandNames.BRIGHTNESS_CONTROL, RefreshClass.PERIODIC),
+	CONTRAST(LgLCDConstants.CONTRAST, false, true, LgLCDConstants.commandNames.CONTRAST, RefreshClass.PERIODIC),
+	PICTURE_MODE(LgLCDConstants.PICTURE_MODE, false, true, LgLCDConstants.commandNames.PICTURE_MODE, RefreshClass.PERIODIC),
+	BRIGHTNESS(LgLCDConstants.BRIGHTNESS, false, true, LgLCDConstants.commandNames.BRIGHTNESS, RefreshClass.PERIODIC),
+	SHARPNESS(LgLCDConstants.SHARPNESS, false, true, LgLCDConstants.commandNames.SHARPNESS, RefreshClass.PERIODIC),
+	SCREEN_COLOR(LgLCDConstants.SCREEN_COLOR, false, true, LgLCDConstants.commandNames.SCREEN_COLOR, RefreshClass.PERIODIC),
+	TINT(LgLCDConstants.TINT, false, true, LgLCDConstants.commandNames.TINT, RefreshClass.PERIODIC),
+	COLOR_TEMPERATURE(LgLCDConstants.COLOR_TEMPERATURE, false, true, LgLCDConstants.commandNames.COLOR_TEMPERATURE, RefreshClass.PERIODIC),
+	BALANCE(LgLCDConstants.BALANCE, false, true, LgLCDConstants.commandNames.BALANCE, RefreshClass.PERIODIC),
+	SOUND_MODE(LgLCDConstants.SOUND_MODE, false, true, LgLCDConstants.commandNames.SOUND_MODE, RefreshClass.PERIODIC),
+	NO_SIGNAL_POWER_OFF(LgLCDConstants.NO_SIGNAL_POWER_OFF, false, true, LgLCDConstants.commandNames.NO_SIGNAL_POWER_OFF, RefreshClass.PERIODIC),
+	NO_IR_POWER_OFF(LgLCDConstants.NO_IR_POWER_OFF, false, true, LgLCDConstants.commandNames.NO_IR_POWER_OFF, RefreshClass.PERIODIC),
+	LANGUAGE(LgLCDConstants.LANGUAGE, false, true, LgLCDConstants.commandNames.LANGUAGE, RefreshClass.PERIODIC),
+	POWER_ON_STATUS(LgLCDConstants.POWER_ON_STATUS, false, true, LgLCDConstants.commandNames.POWER_ON_STATUS, RefreshClass.PERIODIC),
 	REBOOT(LgLCDConstants.REBOOT, false, false, LgLCDConstants.commandNames.REBOOT);
 
 	private final String name;
 	private final boolean isMonitorType;
 	private final boolean isControlType;
 	private commandNames commandNames;
+	private final RefreshClass refreshClass;
 
 	/**
-	 * InputSourceDropdown instantiation
+	 * InputSourceDropdown instantiation, the value is read on every polling cycle
 	 *
 	 * @param name {@link #name}
 	 * @param isMonitor {@link #isMonitorType}
@@ -72,10 +73,24 @@ public enum LgControllingCommand {
 	 * @param commandNames {@link #commandNames}
 	 */
 	LgControllingCommand(String name, boolean isMonitor, boolean isControl, commandNames commandNames) {
+		this(name, isMonitor, isControl, commandNames, RefreshClass.EVERY_CYCLE);
+	}
+
+	/**
+	 * InputSourceDropdown instantiation
+	 *
+	 * @param name {@link #name}
+	 * @param isMonitor {@link #isMonitorType}
+	 * @param isControl {@link #isControlType}
+	 * @param commandNames {@link #commandNames}
+	 * @param refreshClass {@link #refreshClass}
+	 */
+	LgControllingCommand(String name, boolean isMonitor, boolean isControl, commandNames commandNames, RefreshClass refreshClass) {
 		this.name = name;
 		this.isMonitorType = isMonitor;
 		this.isControlType = isControl;
 		this.commandNames = commandNames;
+		this.refreshClass = refreshClass;
 	}
 
 	/**
@@ -105,6 +120,15 @@ public enum LgControllingCommand {
 		return commandNames;
 	}
 
+	/**
+	 * Retrieves {@link #refreshClass}
+	 *
+	 * @return value of {@link #refreshClass}
+	 */
+	public RefreshClass getRefreshClass() {
+		return refreshClass;
+	}
+
 	/**
 	 * Retrieves {@link #isMonitorType}
 	 *
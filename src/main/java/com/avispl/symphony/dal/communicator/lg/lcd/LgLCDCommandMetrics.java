@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
+
+/**
+ * LgLCDCommandMetrics counts, for every {@link LgControllingCommand}, the commands sent to the display, their reply latency in a histogram,
+ * the timeouts, the NG replies and the bytes sent and received.
+ * The command of a frame is resolved from its two bytes command code, and from the sub-command of the data for the codes shared by several commands.
+ * The counters of all commands are held in a single AtomicLongArray, so recording never takes a lock and never allocates,
+ * and a {@link CommandSummary} can be read at any time while the commands are being recorded.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDCommandMetrics {
+
+	/**
+	 * Upper bounds in ms of the latency buckets, the last bucket holds the latencies above the last bound
+	 */
+	static final long[] LATENCY_BOUNDS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000 };
+
+	private static final int REQUESTS = 0;
+	private static final int TIMEOUTS = 1;
+	private static final int NG_REPLIES = 2;
+	private static final int ERRORS = 3;
+	private static final int BYTES_SENT = 4;
+	private static final int BYTES_RECEIVED = 5;
+	private static final int LATENCY_TOTAL = 6;
+	private static final int LATENCY_MAX = 7;
+	private static final int FIRST_BUCKET = 8;
+	private static final int STRIDE = FIRST_BUCKET + LATENCY_BOUNDS.length + 1;
+
+	/**
+	 * Offset of the data in a frame, after the command code, the set ID and their separators
+	 */
+	private static final int DATA_OFFSET = 6;
+
+	/**
+	 * Slot of the frames whose command is not resolved, after the slots of the commands
+	 */
+	private static final int OTHER = LgControllingCommand.values().length;
+
+	/**
+	 * Keys of an open addressing table holding the slot of every command code, and of every command code followed by its sub-command.
+	 * The table is looked up with the primitive key, 0 marks an empty entry as no key is 0.
+	 */
+	private static final int[] SLOT_KEYS;
+
+	/**
+	 * Slot of the key at the same index of {@link #SLOT_KEYS}
+	 */
+	private static final int[] SLOT_VALUES;
+
+	static {
+		Map<Integer, Integer> slots = new HashMap<>();
+		for (LgControllingCommand command : LgControllingCommand.values()) {
+			byte[] code = LgLCDConstants.commands.get(command.getCommandNames());
+			if (code == null) {
+				continue;
+			}
+			byte[] subCommand = getSubCommand(command.getCommandNames());
+			int key = subCommand == null ? getKey(code[0], code[1]) : getKey(code[0], code[1], subCommand[0], subCommand[1]);
+			//The priority controls share the code of the failover, the command read by the polling cycle names the slot
+			if (!slots.containsKey(key) || command.isMonitorType() || command.isControlType()) {
+				slots.put(key, command.ordinal());
+			}
+		}
+		//At most half full, so a lookup of an unknown code reaches an empty entry quickly
+		int capacity = Integer.highestOneBit(Math.max(slots.size(), 1) * 4 - 1);
+		SLOT_KEYS = new int[capacity];
+		SLOT_VALUES = new int[capacity];
+		for (Map.Entry<Integer, Integer> slot : slots.entrySet()) {
+			int index = getIndex(slot.getKey());
+			while (SLOT_KEYS[index] != 0) {
+				index = (index + 1) & (capacity - 1);
+			}
+			SLOT_KEYS[index] = slot.getKey();
+			SLOT_VALUES[index] = slot.getValue();
+		}
+	}
+
+	private final AtomicLongArray counters = new AtomicLongArray((OTHER + 1) * STRIDE);
+
+	/**
+	 * Record a command the device replied to, or did not reply to in time
+	 *
+	 * @param frame the frame is the full command frame
+	 * @param response the response is the reply of the device, null if it did not reply in time
+	 * @param isNG the isNG is true if the device replied NG
+	 * @param latency the latency is the time in ms the device took to reply
+	 */
+	void recordReply(byte[] frame, byte[] response, boolean isNG, long latency) {
+		int offset = getSlot(frame) * STRIDE;
+		recordRequest(offset, frame);
+		if (response == null) {
+			counters.incrementAndGet(offset + TIMEOUTS);
+			return;
+		}
+		counters.addAndGet(offset + BYTES_RECEIVED, response.length);
+		if (isNG) {
+			counters.incrementAndGet(offset + NG_REPLIES);
+		}
+		counters.addAndGet(offset + LATENCY_TOTAL, latency);
+		counters.incrementAndGet(offset + FIRST_BUCKET + getBucket(latency));
+		long max;
+		do {
+			max = counters.get(offset + LATENCY_MAX);
+		} while (latency > max && !counters.compareAndSet(offset + LATENCY_MAX, max, latency));
+	}
+
+	/**
+	 * Record a command which did not get a reply in time
+	 *
+	 * @param frame the frame is the full command frame
+	 */
+	void recordTimeout(byte[] frame) {
+		int offset = getSlot(frame) * STRIDE;
+		recordRequest(offset, frame);
+		counters.incrementAndGet(offset + TIMEOUTS);
+	}
+
+	/**
+	 * Record a command which failed before a reply was received, such as a refused connection
+	 *
+	 * @param frame the frame is the full command frame
+	 */
+	void recordError(byte[] frame) {
+		int offset = getSlot(frame) * STRIDE;
+		recordRequest(offset, frame);
+		counters.incrementAndGet(offset + ERRORS);
+	}
+
+	/**
+	 * Get the summary of a command
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @return CommandSummary of the command
+	 */
+	CommandSummary getSummary(LgControllingCommand command) {
+		return getSummary(command.ordinal());
+	}
+
+	/**
+	 * Get the summary of every command sent at least once, the frames of no known command are summed up under {@link LgLCDConstants#METRICS_OTHER}
+	 *
+	 * @return Map of the names of the commands and their summary, in the order of the commands
+	 */
+	Map<String, CommandSummary> getSummaries() {
+		Map<String, CommandSummary> summaries = new LinkedHashMap<>();
+		LgControllingCommand[] commands = LgControllingCommand.values();
+		for (int slot = 0; slot <= OTHER; slot++) {
+			if (counters.get(slot * STRIDE + REQUESTS) == 0) {
+				continue;
+			}
+			summaries.put(slot == OTHER ? LgLCDConstants.METRICS_OTHER : commands[slot].getName(), getSummary(slot));
+		}
+		return Collections.unmodifiableMap(summaries);
+	}
+
+	/**
+	 * Get the summary of all commands
+	 *
+	 * @return CommandSummary summing up every command
+	 */
+	CommandSummary getTotal() {
+		long[] values = new long[STRIDE];
+		for (int slot = 0; slot <= OTHER; slot++) {
+			for (int i = 0; i < STRIDE; i++) {
+				long value = counters.get(slot * STRIDE + i);
+				values[i] = i == LATENCY_MAX ? Math.max(values[i], value) : values[i] + value;
+			}
+		}
+		return new CommandSummary(values);
+	}
+
+	/**
+	 * Get the summary of the command at a slot
+	 *
+	 * @param slot the slot is index of the command
+	 * @return CommandSummary of the command
+	 */
+	private CommandSummary getSummary(int slot) {
+		long[] values = new long[STRIDE];
+		for (int i = 0; i < STRIDE; i++) {
+			values[i] = counters.get(slot * STRIDE + i);
+		}
+		return new CommandSummary(values);
+	}
+
+	/**
+	 * Count a command sent to the device
+	 *
+	 * @param offset the offset is index of the first counter of the command
+	 * @param frame the frame is the full command frame
+	 */
+	private void recordRequest(int offset, byte[] frame) {
+		counters.incrementAndGet(offset + REQUESTS);
+		counters.addAndGet(offset + BYTES_SENT, frame.length);
+	}
+
+	/**
+	 * Get the slot of the command of a frame
+	 *
+	 * @param frame the frame is the full command frame
+	 * @return int slot of the command, {@link #OTHER} if the command is not known
+	 */
+	static int getSlot(byte[] frame) {
+		if (frame == null || frame.length < 2) {
+			return OTHER;
+		}
+		if (frame.length > DATA_OFFSET + 1) {
+			int slot = findSlot(getKey(frame[0], frame[1], frame[DATA_OFFSET], frame[DATA_OFFSET + 1]));
+			if (slot >= 0) {
+				return slot;
+			}
+		}
+		int slot = findSlot(getKey(frame[0], frame[1]));
+		return slot < 0 ? OTHER : slot;
+	}
+
+	/**
+	 * Look the slot of a key up in {@link #SLOT_KEYS}
+	 *
+	 * @param key the key is key of a command code
+	 * @return int slot of the key, -1 if the key is not known
+	 */
+	private static int findSlot(int key) {
+		int index = getIndex(key);
+		while (SLOT_KEYS[index] != 0) {
+			if (SLOT_KEYS[index] == key) {
+				return SLOT_VALUES[index];
+			}
+			index = (index + 1) & (SLOT_KEYS.length - 1);
+		}
+		return -1;
+	}
+
+	/**
+	 * Get the first index of a key in {@link #SLOT_KEYS}, the bytes of the key are mixed as the low bits of a command code key are often 0
+	 *
+	 * @param key the key is key of a command code
+	 * @return int index in the table
+	 */
+	private static int getIndex(int key) {
+		int hash = key * 0x9E3779B9;
+		return (hash ^ hash >>> 16) & (SLOT_KEYS.length - 1);
+	}
+
+	/**
+	 * Get the bucket of a latency
+	 *
+	 * @param latency the latency is the time in ms the device took to reply
+	 * @return int index of the bucket
+	 */
+	private static int getBucket(long latency) {
+		for (int i = 0; i < LATENCY_BOUNDS.length; i++) {
+			if (latency <= LATENCY_BOUNDS[i]) {
+				return i;
+			}
+		}
+		return LATENCY_BOUNDS.length;
+	}
+
+	/**
+	 * Get the sub-command written at the start of the data of a command, such as 0c for the power management mode of the sn code
+	 *
+	 * @param command the command is commandNames enum instance
+	 * @return byte[] the two bytes of the sub-command, null if the command has none
+	 */
+	private static byte[] getSubCommand(commandNames command) {
+		for (commandNames param : commandNames.values()) {
+			if (param.name().equals(command.name() + "_PARAM")) {
+				byte[] data = LgLCDConstants.commands.get(param);
+				return data != null && data.length >= 2 ? data : null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the key of a command code
+	 *
+	 * @param first the first is first byte of the code
+	 * @param second the second is second byte of the code
+	 * @return int key of the code
+	 */
+	private static int getKey(byte first, byte second) {
+		return (Character.toLowerCase(first) & 0xFF) << 24 | (Character.toLowerCase(second) & 0xFF) << 16;
+	}
+
+	/**
+	 * Get the key of a command code followed by its sub-command
+	 *
+	 * @param first the first is first byte of the code
+	 * @param second the second is second byte of the code
+	 * @param firstData the firstData is first byte of the sub-command
+	 * @param secondData the secondData is second byte of the sub-command
+	 * @return int key of the code and sub-command
+	 */
+	private static int getKey(byte first, byte second, byte firstData, byte secondData) {
+		return getKey(first, second) | (Character.toLowerCase(firstData) & 0xFF) << 8 | Character.toLowerCase(secondData) & 0xFF;
+	}
+
+	/**
+	 * CommandSummary is an immutable copy of the counters of a command, taken while the commands keep being recorded
+	 *
+	 * @author Kevin / Symphony Dev Team<br>
+	 * Created on 10/17/2026
+	 * @version 1.5.0
+	 * @since 1.5.0
+	 */
+	public static class CommandSummary {
+
+		private final long[] values;
+
+		/**
+		 * CommandSummary instantiation
+		 *
+		 * @param values the values are counters of the command
+		 */
+		private CommandSummary(long[] values) {
+			this.values = values;
+		}
+
+		/**
+		 * Get the number of commands sent
+		 *
+		 * @return long number of commands
+		 */
+		public long getRequests() {
+			return values[REQUESTS];
+		}
+
+		/**
+		 * Get the number of commands without a reply in time
+		 *
+		 * @return long number of timeouts
+		 */
+		public long getTimeouts() {
+			return values[TIMEOUTS];
+		}
+
+		/**
+		 * Get the number of NG replies
+		 *
+		 * @return long number of NG replies
+		 */
+		public long getNGReplies() {
+			return values[NG_REPLIES];
+		}
+
+		/**
+		 * Get the number of commands which failed before a reply was received, other than timeouts
+		 *
+		 * @return long number of errors
+		 */
+		public long getErrors() {
+			return values[ERRORS];
+		}
+
+		/**
+		 * Get the number of bytes sent
+		 *
+		 * @return long number of bytes
+		 */
+		public long getBytesSent() {
+			return values[BYTES_SENT];
+		}
+
+		/**
+		 * Get the number of bytes received
+		 *
+		 * @return long number of bytes
+		 */
+		public long getBytesReceived() {
+			return values[BYTES_RECEIVED];
+		}
+
+		/**
+		 * Get the highest reply latency
+		 *
+		 * @return long latency in ms
+		 */
+		public long getMaxLatency() {
+			return values[LATENCY_MAX];
+		}
+
+		/**
+		 * Get the average reply latency
+		 *
+		 * @return long latency in ms, 0 if no reply was received
+		 */
+		public long getAverageLatency() {
+			long replies = getReplies();
+			return replies == 0 ? 0 : values[LATENCY_TOTAL] / replies;
+		}
+
+		/**
+		 * Get the number of replies in every latency bucket, bounded by {@link #LATENCY_BOUNDS}
+		 *
+		 * @return long[] number of replies of every bucket, the last bucket holds the latencies above the last bound
+		 */
+		public long[] getLatencyHistogram() {
+			return Arrays.copyOfRange(values, FIRST_BUCKET, STRIDE);
+		}
+
+		/**
+		 * Get a percentile of the reply latency, the upper bound of the bucket holding it
+		 *
+		 * @param percentile the percentile is percentile between 0 and 100
+		 * @return long latency in ms, the highest latency when it is above the last bound, 0 if no reply was received
+		 */
+		public long getLatencyPercentile(double percentile) {
+			long replies = getReplies();
+			if (replies == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(replies * percentile / 100));
+			long count = 0;
+			for (int i = 0; i < LATENCY_BOUNDS.length; i++) {
+				count += values[FIRST_BUCKET + i];
+				if (count >= rank) {
+					return Math.min(LATENCY_BOUNDS[i], getMaxLatency());
+				}
+			}
+			return getMaxLatency();
+		}
+
+		/**
+		 * Get the number of replies received
+		 *
+		 * @return long number of replies
+		 */
+		private long getReplies() {
+			long replies = 0;
+			for (int i = FIRST_BUCKET; i < STRIDE; i++) {
+				replies += values[i];
+			}
+			return replies;
+		}
+	}
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * LgLCDCommandQueue holds the commands of one display and sends them one at a time through {@link LgLCDFleetScheduler},
+ * so the serial link only ever has one writer.
+ * Queued commands are taken by {@link CommandPriority} first and in submission order second, so an operator control
+ * goes ahead of every polling command still waiting in the queue.
+ * The queue also tracks the controls in progress, letting the polling cycle step aside between two commands,
+ * and the latency the operator observed for each control.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDCommandQueue {
+
+	private final AtomicLong sequence = new AtomicLong();
+	private final LgLCDFleetScheduler fleetScheduler;
+	private final Object link;
+	private final LongSupplier readyDelay;
+	private final PriorityQueue<PrioritizedCommand<?>> commands = new PriorityQueue<>();
+	private PrioritizedCommand<?> runningCommand;
+	private volatile Thread workerThread;
+	private boolean isScheduled;
+	private boolean isShutdown;
+
+	private int pendingControls;
+	private long controlCount;
+	private long lastControlLatency;
+	private long maxControlLatency;
+
+	/**
+	 * LgLCDCommandQueue instantiation without rate limit, on its own serial link
+	 */
+	LgLCDCommandQueue() {
+		this(LgLCDFleetScheduler.getInstance(), () -> 0);
+	}
+
+	/**
+	 * LgLCDCommandQueue instantiation on its own serial link
+	 *
+	 * @param fleetScheduler {@link #fleetScheduler}
+	 * @param readyDelay the readyDelay gives the time in ms before the display accepts the next command
+	 */
+	LgLCDCommandQueue(LgLCDFleetScheduler fleetScheduler, LongSupplier readyDelay) {
+		this(fleetScheduler, null, readyDelay);
+	}
+
+	/**
+	 * LgLCDCommandQueue instantiation
+	 *
+	 * @param fleetScheduler {@link #fleetScheduler}
+	 * @param link the link is the serial link shared with the queues of the other set IDs of a daisy chain, null for a link of its own
+	 * @param readyDelay the readyDelay gives the time in ms before the display accepts the next command
+	 */
+	LgLCDCommandQueue(LgLCDFleetScheduler fleetScheduler, Object link, LongSupplier readyDelay) {
+		this.fleetScheduler = fleetScheduler;
+		this.link = link == null ? this : link;
+		this.readyDelay = readyDelay;
+	}
+
+	/**
+	 * Queue a command.
+	 * The Future deadline counts from the moment the command is sent, not while it waits for its turn.
+	 * The wait for its turn is bounded by the same deadline: a command still queued when it expires is cancelled without being sent.
+	 *
+	 * @param command the command is the work to run on a worker thread
+	 * @param priority the priority is the priority of the command
+	 * @param <T> the result type of the command
+	 * @return Future of the command
+	 * @throws RejectedExecutionException if the queue has been shut down
+	 */
+	<T> Future<T> submit(Callable<T> command, CommandPriority priority) {
+		PrioritizedCommand<T> prioritizedCommand = new PrioritizedCommand<>(command, priority, sequence.getAndIncrement());
+		boolean isNewlyScheduled;
+		synchronized (this) {
+			if (isShutdown) {
+				throw new RejectedExecutionException("The command queue has been shut down");
+			}
+			commands.add(prioritizedCommand);
+			isNewlyScheduled = !isScheduled;
+			isScheduled = true;
+		}
+		if (isNewlyScheduled) {
+			fleetScheduler.schedule(this);
+		} else if (priority == CommandPriority.CONTROL) {
+			fleetScheduler.promote(this);
+		}
+		return prioritizedCommand;
+	}
+
+	/**
+	 * Check whether the caller runs a command of this queue
+	 *
+	 * @return true if the caller is a queued command
+	 */
+	boolean isWorkerThread() {
+		return Thread.currentThread() == workerThread;
+	}
+
+	/**
+	 * Retrieves {@link #link}
+	 *
+	 * @return serial link of the display, only one queue of a link has a command in flight at a time
+	 */
+	Object getLink() {
+		return link;
+	}
+
+	/**
+	 * Get the time before the display accepts the next command
+	 *
+	 * @return delay in ms, 0 or less if the display is ready
+	 */
+	long getReadyDelay() {
+		return readyDelay.getAsLong();
+	}
+
+	/**
+	 * Check whether the next command is an operator control
+	 *
+	 * @return true if the command at the head of the queue has {@link CommandPriority#CONTROL} priority
+	 */
+	synchronized boolean isNextCommandControl() {
+		PrioritizedCommand<?> nextCommand = commands.peek();
+		return nextCommand != null && nextCommand.priority == CommandPriority.CONTROL;
+	}
+
+	/**
+	 * Send the command at the head of the queue on the calling worker thread
+	 *
+	 * @return true if more commands are queued, the queue stays scheduled; false if the queue is empty
+	 */
+	boolean runNextCommand() {
+		PrioritizedCommand<?> nextCommand;
+		synchronized (this) {
+			nextCommand = commands.poll();
+			runningCommand = nextCommand;
+		}
+		if (nextCommand != null) {
+			workerThread = Thread.currentThread();
+			try {
+				nextCommand.run();
+			} finally {
+				workerThread = null;
+				//Do not leak the interrupt of a cancelled command to the next display
+				Thread.interrupted();
+			}
+		}
+		synchronized (this) {
+			runningCommand = null;
+			isScheduled = !commands.isEmpty();
+			return isScheduled;
+		}
+	}
+
+	/**
+	 * Record that an operator control has been requested, before it waits for the device
+	 *
+	 * @return timestamp of the request, to pass to {@link #endControl(long)}
+	 */
+	synchronized long beginControl() {
+		pendingControls++;
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * Record that an operator control is finished and wake up the polling cycle if no other control is pending
+	 *
+	 * @param startTime the startTime is the timestamp returned by {@link #beginControl()}
+	 */
+	synchronized void endControl(long startTime) {
+		pendingControls--;
+		controlCount++;
+		lastControlLatency = System.currentTimeMillis() - startTime;
+		maxControlLatency = Math.max(maxControlLatency, lastControlLatency);
+		if (pendingControls == 0) {
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Check whether operator controls are waiting
+	 *
+	 * @return true if at least one control is in progress
+	 */
+	synchronized boolean hasPendingControls() {
+		return pendingControls > 0;
+	}
+
+	/**
+	 * Wait until no operator control is in progress
+	 */
+	synchronized void awaitControls() throws InterruptedException {
+		while (pendingControls > 0) {
+			wait();
+		}
+	}
+
+	/**
+	 * Retrieves {@link #controlCount}
+	 *
+	 * @return number of controls finished since the queue was created
+	 */
+	synchronized long getControlCount() {
+		return controlCount;
+	}
+
+	/**
+	 * Retrieves {@link #lastControlLatency}
+	 *
+	 * @return time in ms between the request and the end of the latest control
+	 */
+	synchronized long getLastControlLatency() {
+		return lastControlLatency;
+	}
+
+	/**
+	 * Retrieves {@link #maxControlLatency}
+	 *
+	 * @return highest control latency in ms since the queue was created
+	 */
+	synchronized long getMaxControlLatency() {
+		return maxControlLatency;
+	}
+
+	/**
+	 * Cancel the queued commands, interrupt the running one and reject new ones
+	 */
+	void shutdownNow() {
+		synchronized (this) {
+			isShutdown = true;
+			if (runningCommand != null) {
+				runningCommand.cancel(true);
+			}
+			for (PrioritizedCommand<?> command : commands) {
+				command.cancel(false);
+			}
+			commands.clear();
+		}
+	}
+
+	/**
+	 * Command ordered by priority, then by submission order
+	 *
+	 * @param <T> the result type of the command
+	 */
+	private static class PrioritizedCommand<T> extends FutureTask<T> implements Comparable<PrioritizedCommand<?>> {
+
+		private final CommandPriority priority;
+		private final long sequence;
+		private boolean isStarted;
+
+		/**
+		 * PrioritizedCommand instantiation
+		 *
+		 * @param command the command is the work to run
+		 * @param priority {@link #priority}
+		 * @param sequence {@link #sequence}
+		 */
+		PrioritizedCommand(Callable<T> command, CommandPriority priority, long sequence) {
+			super(command);
+			this.priority = priority;
+			this.sequence = sequence;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run() {
+			synchronized (this) {
+				isStarted = true;
+				notifyAll();
+			}
+			super.run();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void done() {
+			synchronized (this) {
+				notifyAll();
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * Wait for the command to be sent first, then the timeout applies from there.
+		 * A command which is not sent within the timeout, every worker being busy with other displays, is cancelled and times out.
+		 */
+		@Override
+		public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			long queueDeadline = System.nanoTime() + unit.toNanos(timeout);
+			synchronized (this) {
+				while (!isStarted && !isDone()) {
+					long remaining = queueDeadline - System.nanoTime();
+					if (remaining <= 0) {
+						//Cancelled under the lock of run(), so the command is either sent or never sent
+						cancel(false);
+						throw new TimeoutException("The command was not sent before its deadline");
+					}
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+			}
+			return super.get(timeout, unit);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int compareTo(PrioritizedCommand<?> other) {
+			int result = priority.compareTo(other.priority);
+			return result != 0 ? result : Long.compare(sequence, other.sequence);
+		}
+	}
+}
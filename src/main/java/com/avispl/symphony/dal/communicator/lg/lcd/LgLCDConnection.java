@@ -0,0 +1,637 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * LgLCDConnection keeps a single non-blocking TCP connection to the display open across polling cycles.
+ * The connection is closed after {@link #idleTimeout} of inactivity, probed for a half-closed peer before reuse,
+ * and transparently re-established when a write fails on a stale socket.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDConnection {
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final String host;
+	private final int port;
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(LgLCDConstants.READ_BUFFER_SIZE);
+
+	private volatile SocketChannel channel;
+	private volatile Selector selector;
+	private long idleTimeout;
+	private int connectTimeout;
+	private long lastActivityTimestamp;
+	private int reconnectCount;
+
+	/**
+	 * LgLCDConnection instantiation
+	 *
+	 * @param host {@link #host}
+	 * @param port {@link #port}
+	 * @param idleTimeout {@link #idleTimeout}
+	 * @param connectTimeout {@link #connectTimeout}
+	 */
+	LgLCDConnection(String host, int port, long idleTimeout, int connectTimeout) {
+		this.host = host;
+		this.port = port;
+		this.idleTimeout = idleTimeout;
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * Retrieves {@link #host}
+	 *
+	 * @return value of {@link #host}
+	 */
+	String getHost() {
+		return host;
+	}
+
+	/**
+	 * Retrieves {@link #port}
+	 *
+	 * @return value of {@link #port}
+	 */
+	int getPort() {
+		return port;
+	}
+
+	/**
+	 * Sets {@link #idleTimeout} value
+	 *
+	 * @param idleTimeout new value of {@link #idleTimeout}
+	 */
+	synchronized void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Sets {@link #connectTimeout} value
+	 *
+	 * @param connectTimeout new value of {@link #connectTimeout}
+	 */
+	synchronized void setConnectTimeout(int connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * Retrieves {@link #reconnectCount}
+	 *
+	 * @return number of times the connection has been re-established after the first connect
+	 */
+	synchronized int getReconnectCount() {
+		return reconnectCount;
+	}
+
+	/**
+	 * Retrieves {@link #lastActivityTimestamp}
+	 *
+	 * @return timestamp of the latest successful write or read, 0 if the connection was never used
+	 */
+	synchronized long getLastActivityTimestamp() {
+		return lastActivityTimestamp;
+	}
+
+	/**
+	 * Check whether the connection is currently open
+	 *
+	 * @return true if the underlying channel is connected
+	 */
+	boolean isConnected() {
+		SocketChannel currentChannel = channel;
+		return currentChannel != null && currentChannel.isOpen() && currentChannel.isConnected();
+	}
+
+	/**
+	 * Send a frame and wait for the matching reply.
+	 * Replies of another command or set ID, late replies of a timed out command of the daisy chain, are discarded.
+	 * The connection is kept when the display does not reply in time, a set ID of the daisy chain which is off does not disconnect the others.
+	 *
+	 * @param frame the frame is the full command frame including the carriage return
+	 * @param readTimeout the readTimeout is the time in ms to wait for the reply
+	 * @return byte[] is the reply frame ending with the reply terminator
+	 * @throws Exception if the device can not be reached or does not reply in time
+	 */
+	synchronized byte[] send(byte[] frame, int readTimeout) throws Exception {
+		ensureConnected();
+		SocketChannel currentChannel = channel;
+		try {
+			write(currentChannel, frame);
+		} catch (IOException e) {
+			// The display may have dropped a connection that looked healthy, retry once on a fresh one
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Write to %s:%s failed, reconnecting: %s", host, port, e.getMessage()));
+			}
+			close();
+			ensureConnected();
+			currentChannel = channel;
+			write(currentChannel, frame);
+		}
+		try {
+			byte[] response = read(currentChannel, selector, frame, readTimeout);
+			lastActivityTimestamp = System.currentTimeMillis();
+			return response;
+		} catch (SocketTimeoutException e) {
+			throw e;
+		} catch (IOException | ClosedSelectorException e) {
+			close();
+			if (e instanceof IOException) {
+				throw (IOException) e;
+			}
+			throw new IOException(String.format("Connection to %s:%s was closed while waiting for the reply", host, port), e);
+		}
+	}
+
+	/**
+	 * Send a frame which may get no reply, a frame to the broadcast set ID, without waiting for a reply.
+	 * The replies it gets are discarded as they arrive, until expectedReplies were received or no byte arrived for quietPeriod,
+	 * so a late reply is not mistaken for the reply of the next command of the same set ID.
+	 *
+	 * @param frame the frame is the full command frame including the carriage return
+	 * @param expectedReplies the expectedReplies is the highest number of replies the frame can get
+	 * @param quietPeriod the quietPeriod is the time in ms without any byte after which no more reply is expected
+	 * @param readTimeout the readTimeout is the longest time in ms spent discarding the replies
+	 * @return int number of replies discarded
+	 * @throws Exception if the device can not be reached
+	 */
+	synchronized int sendWithoutReply(byte[] frame, int expectedReplies, int quietPeriod, int readTimeout) throws Exception {
+		ensureConnected();
+		SocketChannel currentChannel = channel;
+		Selector currentSelector = selector;
+		if (currentChannel == null || currentSelector == null) {
+			throw new ClosedChannelException();
+		}
+		int replyCount = 0;
+		try {
+			write(currentChannel, frame);
+			lastActivityTimestamp = System.currentTimeMillis();
+			long deadline = lastActivityTimestamp + readTimeout;
+			long quietDeadline = lastActivityTimestamp + quietPeriod;
+			while (replyCount < expectedReplies) {
+				long remaining = Math.min(deadline, quietDeadline) - System.currentTimeMillis();
+				if (remaining <= 0) {
+					break;
+				}
+				currentSelector.select(remaining);
+				currentSelector.selectedKeys().clear();
+				readBuffer.clear();
+				int read = currentChannel.read(readBuffer);
+				if (read < 0) {
+					throw new EOFException(String.format("Connection closed by %s:%s", host, port));
+				}
+				for (int i = 0; i < read; i++) {
+					if (readBuffer.get(i) == LgLCDConstants.REPLY_TERMINATOR) {
+						replyCount++;
+					}
+				}
+				if (read > 0) {
+					quietDeadline = System.currentTimeMillis() + quietPeriod;
+				}
+			}
+		} catch (IOException | ClosedSelectorException e) {
+			close();
+			if (e instanceof IOException) {
+				throw (IOException) e;
+			}
+			throw new IOException(String.format("Connection to %s:%s was closed while waiting for the reply", host, port), e);
+		}
+		return replyCount;
+	}
+
+	/**
+	 * Send frames with up to window frames in flight. Each reply is matched to the oldest outstanding frame with the same
+	 * command letter and set ID, a new frame is written as soon as a reply frees a slot.
+	 * Frames without a reply when the deadline expires are left null in the result and the connection is kept,
+	 * their late replies are discarded before the next command is sent.
+	 *
+	 * @param frames the frames are full command frames including the carriage return
+	 * @param window the window is the maximum number of frames written ahead of their reply
+	 * @param readTimeout the readTimeout is the time in ms to wait for each reply
+	 * @return PipelineResult holding the replies in the same order as the frames
+	 * @throws Exception if the device can not be reached
+	 */
+	synchronized PipelineResult sendPipelined(List<byte[]> frames, int window, int readTimeout) throws Exception {
+		PipelineResult result = new PipelineResult(frames.size());
+		ensureConnected();
+		SocketChannel currentChannel = channel;
+		Selector currentSelector = selector;
+		if (currentChannel == null || currentSelector == null) {
+			throw new ClosedChannelException();
+		}
+		Deque<Integer> outstanding = new ArrayDeque<>();
+		byte[] stream = new byte[LgLCDConstants.READ_BUFFER_SIZE];
+		int length = 0;
+		int next = 0;
+		long deadline = System.currentTimeMillis() + readTimeout;
+		try {
+			while (next < frames.size() || !outstanding.isEmpty()) {
+				while (next < frames.size() && outstanding.size() < window) {
+					write(currentChannel, frames.get(next));
+					result.sendTimestamps[next] = System.currentTimeMillis();
+					outstanding.addLast(next);
+					next++;
+				}
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					break;
+				}
+				currentSelector.select(remaining);
+				currentSelector.selectedKeys().clear();
+				readBuffer.clear();
+				int read = currentChannel.read(readBuffer);
+				if (read < 0) {
+					throw new EOFException(String.format("Connection closed by %s:%s", host, port));
+				}
+				if (read == 0) {
+					continue;
+				}
+				if (length + read > stream.length) {
+					stream = Arrays.copyOf(stream, Math.max(stream.length * 2, length + read));
+				}
+				readBuffer.flip();
+				readBuffer.get(stream, length, read);
+				length += read;
+
+				int frameStart = 0;
+				for (int i = 0; i < length; i++) {
+					if (stream[i] == LgLCDConstants.REPLY_TERMINATOR && i - frameStart + 1 >= LgLCDConstants.MIN_REPLY_LENGTH) {
+						byte[] reply = Arrays.copyOfRange(stream, frameStart, i + 1);
+						frameStart = i + 1;
+						if (matchReply(reply, frames, outstanding, result)) {
+							deadline = System.currentTimeMillis() + readTimeout;
+						}
+					}
+				}
+				System.arraycopy(stream, frameStart, stream, 0, length - frameStart);
+				length -= frameStart;
+			}
+		} catch (IOException | ClosedSelectorException e) {
+			close();
+			if (e instanceof IOException) {
+				throw (IOException) e;
+			}
+			throw new IOException(String.format("Connection to %s:%s was closed while waiting for the reply", host, port), e);
+		}
+		if (!outstanding.isEmpty()) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("%s pipelined replies from %s:%s were not received", outstanding.size(), host, port));
+			}
+			result.isReplyDropped = true;
+		} else {
+			lastActivityTimestamp = System.currentTimeMillis();
+		}
+		return result;
+	}
+
+	/**
+	 * Match a reply to the oldest outstanding frame with the same command letter and set ID
+	 *
+	 * @return true if the reply belongs to an outstanding frame
+	 */
+	private boolean matchReply(byte[] reply, List<byte[]> frames, Deque<Integer> outstanding, PipelineResult result) {
+		boolean isOldest = true;
+		Iterator<Integer> iterator = outstanding.iterator();
+		while (iterator.hasNext()) {
+			int index = iterator.next();
+			if (isReplyOf(reply, frames.get(index))) {
+				iterator.remove();
+				result.replies[index] = reply;
+				result.latencies[index] = System.currentTimeMillis() - result.sendTimestamps[index];
+				if (!isOldest) {
+					result.isOutOfOrder = true;
+				}
+				return true;
+			}
+			isOldest = false;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Unexpected pipelined reply %s from %s:%s", new String(reply), host, port));
+		}
+		result.isOutOfOrder = true;
+		return false;
+	}
+
+	/**
+	 * Check whether the reply "[Command2][ ][Set ID][ ][OK/NG][Data][x]" answers the frame "[Command1][Command2][ ][Set ID][ ][Data][Cr]"
+	 *
+	 * @param reply the reply is the reply frame
+	 * @param frame the frame is the command frame
+	 * @return true if command letter and set ID are the same, any set ID answers a frame sent to the broadcast set ID 0
+	 */
+	static boolean isReplyOf(byte[] reply, byte[] frame) {
+		if (reply.length < LgLCDConstants.MIN_REPLY_LENGTH || frame.length < 2 || reply[0] != frame[1]) {
+			return false;
+		}
+		int replyIdEnd = indexOf(reply, (byte) ' ', 2);
+		int frameIdEnd = indexOf(frame, (byte) ' ', 3);
+		if (replyIdEnd < 0 || frameIdEnd < 0) {
+			return false;
+		}
+		int frameId = LgLCDUtils.parseHexValue(frame, 3, frameIdEnd);
+		return frameId == 0 || LgLCDUtils.parseHexValue(reply, 2, replyIdEnd) == frameId;
+	}
+
+	/**
+	 * Find a byte in the data
+	 *
+	 * @return index of the byte or -1 if not found
+	 */
+	private static int indexOf(byte[] data, byte value, int from) {
+		for (int i = from; i < data.length; i++) {
+			if (data[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Close the connection, the next {@link #send(byte[], int)} reconnects.
+	 * Not synchronized so a timed out command blocked in {@link #send(byte[], int)} can be aborted from another thread.
+	 */
+	void close() {
+		Selector currentSelector = selector;
+		SocketChannel currentChannel = channel;
+		selector = null;
+		channel = null;
+		if (currentSelector != null) {
+			try {
+				currentSelector.close();
+			} catch (IOException e) {
+				logger.debug("Unable to close the selector", e);
+			}
+		}
+		if (currentChannel != null) {
+			try {
+				currentChannel.close();
+			} catch (IOException e) {
+				logger.debug("Unable to close the channel", e);
+			}
+		}
+	}
+
+	/**
+	 * Make sure the channel is open and usable: close it if it has been idle too long or the peer has closed it,
+	 * then connect if needed
+	 */
+	private void ensureConnected() throws IOException {
+		SocketChannel currentChannel = channel;
+		if (currentChannel != null) {
+			long idleTime = System.currentTimeMillis() - lastActivityTimestamp;
+			if (idleTime >= idleTimeout) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Connection to %s:%s idle for %s ms, closing", host, port, idleTime));
+				}
+				close();
+			} else if (!isHealthy(currentChannel)) {
+				close();
+			}
+		}
+		if (channel == null) {
+			if (lastActivityTimestamp != 0) {
+				reconnectCount++;
+			}
+			connect();
+		}
+	}
+
+	/**
+	 * Probe the channel without blocking: a closed peer is reported by end of stream, late replies of timed out
+	 * commands are discarded so they are not mistaken for the reply of the next command
+	 *
+	 * @return true if the channel can be reused
+	 */
+	private boolean isHealthy(SocketChannel currentChannel) {
+		if (!currentChannel.isOpen() || !currentChannel.isConnected()) {
+			return false;
+		}
+		try {
+			readBuffer.clear();
+			int read;
+			while ((read = currentChannel.read(readBuffer)) > 0) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Discarding %s stale bytes from %s:%s", read, host, port));
+				}
+				readBuffer.clear();
+			}
+			return read == 0;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Open a new non-blocking channel
+	 */
+	private void connect() throws IOException {
+		SocketChannel socketChannel = SocketChannel.open();
+		Selector channelSelector = null;
+		try {
+			socketChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+			socketChannel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+			socketChannel.configureBlocking(false);
+			channelSelector = Selector.open();
+			if (!socketChannel.connect(new InetSocketAddress(host, port))) {
+				socketChannel.register(channelSelector, SelectionKey.OP_CONNECT);
+				if (channelSelector.select(connectTimeout) == 0) {
+					throw new SocketTimeoutException(String.format("Connection to %s:%s timed out after %s ms", host, port, connectTimeout));
+				}
+				socketChannel.finishConnect();
+				channelSelector.selectedKeys().clear();
+			}
+			socketChannel.register(channelSelector, SelectionKey.OP_READ);
+		} catch (IOException e) {
+			if (channelSelector != null) {
+				channelSelector.close();
+			}
+			socketChannel.close();
+			throw e;
+		}
+		channel = socketChannel;
+		selector = channelSelector;
+		lastActivityTimestamp = System.currentTimeMillis();
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Opened persistent connection to %s:%s", host, port));
+		}
+	}
+
+	/**
+	 * Write the whole frame to the channel
+	 */
+	private void write(SocketChannel currentChannel, byte[] frame) throws IOException {
+		if (currentChannel == null) {
+			throw new ClosedChannelException();
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(frame);
+		while (buffer.hasRemaining()) {
+			if (currentChannel.write(buffer) == 0) {
+				// Socket send buffer is full, which should never happen for frames this small
+				Thread.yield();
+			}
+		}
+	}
+
+	/**
+	 * Read the reply of a frame, waiting on the selector until the reply terminator arrives or the timeout expires
+	 */
+	private byte[] read(SocketChannel currentChannel, Selector currentSelector, byte[] frame, int readTimeout) throws IOException {
+		if (currentChannel == null || currentSelector == null) {
+			throw new ClosedChannelException();
+		}
+		long deadline = System.currentTimeMillis() + readTimeout;
+		byte[] response = new byte[LgLCDConstants.READ_BUFFER_SIZE];
+		int length = 0;
+		while (true) {
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				throw new SocketTimeoutException(String.format("No reply from %s:%s within %s ms", host, port, readTimeout));
+			}
+			currentSelector.select(remaining);
+			currentSelector.selectedKeys().clear();
+			readBuffer.clear();
+			int read = currentChannel.read(readBuffer);
+			if (read < 0) {
+				throw new EOFException(String.format("Connection closed by %s:%s", host, port));
+			}
+			if (read == 0) {
+				continue;
+			}
+			if (length + read > response.length) {
+				response = Arrays.copyOf(response, Math.max(response.length * 2, length + read));
+			}
+			readBuffer.flip();
+			readBuffer.get(response, length, read);
+			length += read;
+			if (isFrameComplete(response, length)) {
+				byte[] reply = findReplyOf(frame, response, length);
+				if (reply != null) {
+					return reply;
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Discarding reply %s from %s:%s, not the reply of %s", new String(response, 0, length), host, port, new String(frame).trim()));
+				}
+				length = 0;
+			}
+		}
+	}
+
+	/**
+	 * Find the reply of a frame in the bytes received, skipping the replies received before it
+	 *
+	 * @param frame the frame is the command frame
+	 * @param response the response is the bytes received so far, ending with the reply terminator
+	 * @param length the length is number of valid bytes in the response
+	 * @return byte[] reply of the frame or null if the bytes hold no reply of the frame
+	 */
+	private static byte[] findReplyOf(byte[] frame, byte[] response, int length) {
+		int replyStart = 0;
+		while (replyStart < length) {
+			byte[] reply = Arrays.copyOfRange(response, replyStart, length);
+			if (isReplyOf(reply, frame)) {
+				return reply;
+			}
+			int terminator = indexOf(response, LgLCDConstants.REPLY_TERMINATOR, replyStart + LgLCDConstants.MIN_REPLY_LENGTH - 1);
+			if (terminator < 0 || terminator >= length - 1) {
+				return null;
+			}
+			replyStart = terminator + 1;
+		}
+		return null;
+	}
+
+	/**
+	 * A reply is "[Command2][ ][Set ID][ ][OK/NG][Data][x]", so it is complete once the terminator follows the status
+	 *
+	 * @param response the response is the bytes received so far
+	 * @param length the length is number of valid bytes in the response
+	 * @return true if the reply is complete
+	 */
+	static boolean isFrameComplete(byte[] response, int length) {
+		return length >= LgLCDConstants.MIN_REPLY_LENGTH && response[length - 1] == LgLCDConstants.REPLY_TERMINATOR;
+	}
+
+	/**
+	 * Replies of a pipelined send
+	 */
+	static class PipelineResult {
+
+		private final byte[][] replies;
+		private final long[] sendTimestamps;
+		private final long[] latencies;
+		private boolean isOutOfOrder;
+		private boolean isReplyDropped;
+
+		/**
+		 * PipelineResult instantiation
+		 *
+		 * @param size the size is number of frames sent
+		 */
+		PipelineResult(int size) {
+			this.replies = new byte[size][];
+			this.sendTimestamps = new long[size];
+			this.latencies = new long[size];
+		}
+
+		/**
+		 * Get reply of a frame
+		 *
+		 * @param index the index is position of the frame in the sent list
+		 * @return byte[] reply or null if the device did not reply
+		 */
+		byte[] getReply(int index) {
+			return replies[index];
+		}
+
+		/**
+		 * Get latency of a frame
+		 *
+		 * @param index the index is position of the frame in the sent list
+		 * @return long time in ms between writing the frame and receiving its reply, 0 if the device did not reply
+		 */
+		long getLatency(int index) {
+			return latencies[index];
+		}
+
+		/**
+		 * Retrieves {@link #isOutOfOrder}
+		 *
+		 * @return true if a reply came back out of order or did not match any frame
+		 */
+		boolean isOutOfOrder() {
+			return isOutOfOrder;
+		}
+
+		/**
+		 * Retrieves {@link #isReplyDropped}
+		 *
+		 * @return true if at least one frame did not get a reply
+		 */
+		boolean isReplyDropped() {
+			return isReplyDropped;
+		}
+	}
+}
@@ -11,7 +11,7 @@ import java.util.Map;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 30/1/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
 public class LgLCDConstants {
@@ -93,6 +93,10 @@ public class LgLCDConstants {
 
 	final static byte[] signalStatus = { '0', '2', ' ', 'F', 'F' };
 
+	final static powerStatusNames[] powerStatusByCode = LgLCDUtils.buildCodeLookup(powerStatusNames.class, powerStatus, 0);
+
+	final static fanStatusNames[] fanStatusByCode = LgLCDUtils.buildCodeLookup(fanStatusNames.class, fanStatusCodes, 0);
+
 	enum syncStatusNames {NO_SYNC, SYNC}
 
 	final static Map<syncStatusNames, byte[]> syncStatusCodes = new HashMap<syncStatusNames, byte[]>() {{
@@ -130,6 +134,10 @@ public class LgLCDConstants {
 		put(inputNames.PLAY_VIA_URL, new byte[] { 'e', '3' });
 	}};
 
+	final static syncStatusNames[] syncStatusByCode = LgLCDUtils.buildCodeLookup(syncStatusNames.class, syncStatusCodes, 2);
+
+	final static inputNames[] inputsByCode = LgLCDUtils.buildCodeLookup(inputNames.class, inputs, 0);
+
 	enum controlProperties {power, input}
 
 	public static String POWER = "Power";
@@ -255,4 +263,59 @@ public class LgLCDConstants {
 	public static int MAX_CONFIG_TIMEOUT = 3000;
 	public static int DEFAULT_POLLING_INTERVAL = 2;
 	public static int ORDINAL_TO_INDEX_CONVERT_FACTOR = 1;
+	public static String IS_VALID_PERSISTENT_CONNECTION = "true";
+	public static int DEFAULT_CONNECTION_IDLE_TIMEOUT = 120000;
+	public static int MIN_CONNECTION_IDLE_TIMEOUT = 5000;
+	public static int DEFAULT_CONNECT_TIMEOUT = 3000;
+	public static long PING_REPLY_LIFETIME = 30000;
+	public static int READ_BUFFER_SIZE = 256;
+	public static int MIN_REPLY_LENGTH = 8;
+	public static byte REPLY_TERMINATOR = 'x';
+	public static int DEFAULT_PIPELINE_WINDOW = 1;
+	public static int MAX_PIPELINE_WINDOW = 8;
+	public static String IS_VALID_ADAPTIVE_COOL_DOWN = "true";
+	public static int ADAPTIVE_DELAY_SUCCESS_STREAK = 5;
+	public static int ADAPTIVE_DELAY_DECREASE_STEP = 20;
+	public static int ADAPTIVE_DELAY_INCREASE_FACTOR = 2;
+	public static double ADAPTIVE_DELAY_LATENCY_WEIGHT = 0.2;
+	public static int DEFAULT_PERIODIC_REFRESH_INTERVAL = 10;
+	public static int MAX_PERIODIC_REFRESH_INTERVAL = 1440;
+	public static int FLEET_MAX_CONCURRENCY = 32;
+	public static long FLEET_WORKER_KEEP_ALIVE = 60000;
+	public static String WALL = "Wall";
+	public static String WALL_TILE = "Tile";
+	public static String WALL_LAST_CONTROL_DURATION = "LastControlDuration(ms)";
+	public static String WALL_TILE_OK = "OK";
+	public static String WALL_TILE_MISMATCH = "Mismatch";
+	public static String WALL_TILE_NG = "NG";
+	public static String WALL_TILE_NO_REPLY = "NoReply";
+	public static String DASH = "-";
+	public static int BROADCAST_SET_ID = 0;
+	public static int BROADCAST_REPLY_WINDOW = 100;
+	public static int MAX_SET_ID = 255;
+	public static String LAST_CONTROL_LATENCY = "LastControlLatency(ms)";
+	public static String MAX_CONTROL_LATENCY = "MaxControlLatency(ms)";
+	public static String SNAPSHOT_AGE = "SnapshotAge(s)";
+	public static long SNAPSHOT_SAVE_INTERVAL = 60000;
+	public static String DEFAULT_POLLING_PRIORITY = "Power,InputSelect,InputSignal,Temperature(C)";
+	public static String IS_VALID_ADAPTER_METRICS = "true";
+	public static String ADAPTER_METRICS = "AdapterMetrics";
+	public static String METRICS_OTHER = "Other";
+	public static String METRICS_REQUESTS = "Requests";
+	public static String METRICS_TIMEOUTS = "Timeouts";
+	public static String METRICS_NG_REPLIES = "NGReplies";
+	public static String METRICS_ERRORS = "Errors";
+	public static String METRICS_LATENCY_P50 = "LatencyP50(ms)";
+	public static String METRICS_LATENCY_P95 = "LatencyP95(ms)";
+	public static String METRICS_LATENCY_MAX = "LatencyMax(ms)";
+	public static String METRICS_BYTES_SENT = "BytesSent";
+	public static String METRICS_BYTES_RECEIVED = "BytesReceived";
+	public static String METRICS_RECONNECTS = "Reconnects";
+	public static long DEFAULT_CONTROL_COALESCING_WINDOW = 100;
+	public static long MAX_CONTROL_COALESCING_WINDOW = 1000;
+	public static String CONTROL_RESULT_SKIPPED = "Skipped, %s failed";
+	public static String CONTROL_BATCH_FAILED = "%s of %s controls failed: %s";
+	public static String CONTROL_BATCH_FAILURE = "%s: %s";
+	public static String IS_VALID_OPTIMISTIC_CONTROL = "true";
+	public static String CONTROL_DRIFT_COUNT = "ControlDriftCount";
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+
+/**
+ * LgLCDControlBatch orders the controls of a batch so the controls depending on another one of the batch are applied after it:
+ * the display is powered on first, the tile mode before the natural mode, the failover before the input priority and the priority moves,
+ * and the display is powered off or rebooted last. The other controls keep the order of the request.
+ * A property controlled several times keeps only its latest value, except the priority moves where every press moves the input once.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDControlBatch {
+
+	private static final int POWER_ON_RANK = 0;
+	private static final int DEFAULT_RANK = 1;
+	private static final int POWER_OFF_RANK = 5;
+	private static final int REBOOT_RANK = 6;
+
+	/**
+	 * Rank of the controls which have to follow another control, the controls of a lower rank are applied first
+	 */
+	private static final Map<LgControllingCommand, Integer> RANKS = new EnumMap<>(LgControllingCommand.class);
+
+	/**
+	 * Control each dependent control needs, it is skipped when its prerequisite failed in the same batch
+	 */
+	private static final Map<LgControllingCommand, LgControllingCommand> PREREQUISITES = new EnumMap<>(LgControllingCommand.class);
+
+	static {
+		RANKS.put(LgControllingCommand.NATURAL_MODE, 2);
+		RANKS.put(LgControllingCommand.NATURAL_SIZE, 3);
+		RANKS.put(LgControllingCommand.INPUT_PRIORITY, 2);
+		RANKS.put(LgControllingCommand.PRIORITY_INPUT, 3);
+		RANKS.put(LgControllingCommand.PRIORITY_UP, 4);
+		RANKS.put(LgControllingCommand.PRIORITY_DOWN, 4);
+		RANKS.put(LgControllingCommand.REBOOT, REBOOT_RANK);
+		PREREQUISITES.put(LgControllingCommand.NATURAL_MODE, LgControllingCommand.TILE_MODE);
+		PREREQUISITES.put(LgControllingCommand.NATURAL_SIZE, LgControllingCommand.NATURAL_MODE);
+		PREREQUISITES.put(LgControllingCommand.INPUT_PRIORITY, LgControllingCommand.FAILOVER);
+		PREREQUISITES.put(LgControllingCommand.PRIORITY_INPUT, LgControllingCommand.INPUT_PRIORITY);
+		PREREQUISITES.put(LgControllingCommand.PRIORITY_UP, LgControllingCommand.INPUT_PRIORITY);
+		PREREQUISITES.put(LgControllingCommand.PRIORITY_DOWN, LgControllingCommand.INPUT_PRIORITY);
+	}
+
+	private LgLCDControlBatch() {
+	}
+
+	/**
+	 * Drop the superseded values of the batch and order its controls by dependency
+	 *
+	 * @param controllableProperties the controllableProperties are controls in the order of the request
+	 * @return List of the controls to apply, in order
+	 */
+	static List<ControllableProperty> order(List<ControllableProperty> controllableProperties) {
+		Map<String, ControllableProperty> latestControls = new LinkedHashMap<>();
+		List<ControllableProperty> batch = new ArrayList<>(controllableProperties.size());
+		for (ControllableProperty controllableProperty : controllableProperties) {
+			LgControllingCommand command = getCommand(controllableProperty.getProperty());
+			if (command == LgControllingCommand.PRIORITY_UP || command == LgControllingCommand.PRIORITY_DOWN) {
+				batch.add(controllableProperty);
+				continue;
+			}
+			//Keep the position of the latest value, it is the one the operator ended with
+			latestControls.remove(controllableProperty.getProperty());
+			latestControls.put(controllableProperty.getProperty(), controllableProperty);
+		}
+		batch.addAll(latestControls.values());
+		//ControllableProperty does not implement equals, the position of a control is looked up by identity
+		Map<ControllableProperty, Integer> positions = new IdentityHashMap<>();
+		for (int i = 0; i < controllableProperties.size(); i++) {
+			positions.put(controllableProperties.get(i), i);
+		}
+		batch.sort(Comparator.comparingInt(LgLCDControlBatch::getRank).thenComparingInt(positions::get));
+		return Collections.unmodifiableList(batch);
+	}
+
+	/**
+	 * Get the command of a controlled property
+	 *
+	 * @param property the property is name of the controlled property
+	 * @return LgControllingCommand of the property, null for a control of the video wall or a property which is not a command
+	 */
+	static LgControllingCommand getCommand(String property) {
+		if (property == null || property.startsWith(LgLCDConstants.WALL + LgLCDConstants.HASH)) {
+			return null;
+		}
+		String propertyKey = property.substring(property.indexOf(LgLCDConstants.HASH) + 1);
+		for (LgControllingCommand command : LgControllingCommand.values()) {
+			if (command.getName().equalsIgnoreCase(propertyKey)) {
+				return command;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the control a control depends on
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @return LgControllingCommand of the prerequisite, null if the control does not depend on another one
+	 */
+	static LgControllingCommand getPrerequisite(LgControllingCommand command) {
+		return PREREQUISITES.get(command);
+	}
+
+	/**
+	 * Get the rank of a control, the controls of a lower rank are applied first
+	 *
+	 * @param controllableProperty the controllableProperty is the control
+	 * @return int rank of the control
+	 */
+	private static int getRank(ControllableProperty controllableProperty) {
+		LgControllingCommand command = getCommand(controllableProperty.getProperty());
+		if (command == LgControllingCommand.POWER) {
+			return String.valueOf(LgLCDConstants.NUMBER_ONE).equals(String.valueOf(controllableProperty.getValue())) ? POWER_ON_RANK : POWER_OFF_RANK;
+		}
+		return command == null ? DEFAULT_RANK : RANKS.getOrDefault(command, DEFAULT_RANK);
+	}
+}
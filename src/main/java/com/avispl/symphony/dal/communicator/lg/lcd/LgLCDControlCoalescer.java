@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+/**
+ * LgLCDControlCoalescer keeps only the latest value of the slider controls requested within a short window, per {@link LgControllingCommand}.
+ * The first request of a window leads it: it waits until the window has elapsed, then sends the latest value requested.
+ * The requests arriving while a leader is waiting only replace the value and are acknowledged right away,
+ * so dragging a slider sends one frame per window instead of one frame per intermediate value.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDControlCoalescer {
+
+	private final String[] latestValues = new String[LgControllingCommand.values().length];
+	private final boolean[] hasLeader = new boolean[LgControllingCommand.values().length];
+	private long supersededCount;
+
+	/**
+	 * Request a value of a command, the caller leading the window waits until the window has elapsed
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @param value the value is value requested
+	 * @param window the window is time in ms the leader waits for newer values
+	 * @return true if the caller leads the window and has to send the value returned by {@link #take(LgControllingCommand)},
+	 * false if the value will be sent by the leader of the window
+	 * @throws InterruptedException if the leader is interrupted while waiting, it no longer leads the window
+	 */
+	boolean offer(LgControllingCommand command, String value, long window) throws InterruptedException {
+		int index = command.ordinal();
+		synchronized (this) {
+			latestValues[index] = value;
+			if (hasLeader[index]) {
+				supersededCount++;
+				return false;
+			}
+			hasLeader[index] = true;
+		}
+		try {
+			Thread.sleep(window);
+		} catch (InterruptedException e) {
+			take(command);
+			throw e;
+		}
+		return true;
+	}
+
+	/**
+	 * Take the latest value requested of a command and end its window, the next request leads a new window
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @return String latest value requested, null if no value is pending
+	 */
+	synchronized String take(LgControllingCommand command) {
+		int index = command.ordinal();
+		String value = latestValues[index];
+		latestValues[index] = null;
+		hasLeader[index] = false;
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #supersededCount}
+	 *
+	 * @return number of requested values replaced by a newer one before they were sent
+	 */
+	synchronized long getSupersededCount() {
+		return supersededCount;
+	}
+}
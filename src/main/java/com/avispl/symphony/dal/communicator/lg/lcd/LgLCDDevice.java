@@ -4,27 +4,41 @@
 package com.avispl.symphony.dal.communicator.lg.lcd;
 
 import java.net.ConnectException;
-import java.net.Socket;
+import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -41,6 +55,7 @@ import com.avispl.symphony.dal.communicator.SocketCommunicator;
 import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
 import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.controlProperties;
 import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.fanStatusNames;
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.powerStatusNames;
 import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.replyStatusNames;
 import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.syncStatusNames;
 import com.avispl.symphony.dal.util.StringUtils;
@@ -75,24 +90,30 @@ import com.avispl.symphony.dal.util.StringUtils;
  * <li> Temperature </li>
  *
  * @author Harry, Kevin
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
 public class LgLCDDevice extends SocketCommunicator implements Controller, Monitorable {
 
 	int monitorID;
 	private int currentCommandIndex = 0;
-	private int defaultConfigTimeout;
+	private int defaultConfigTimeout = LgLCDConstants.DEFAULT_CONFIG_TIMEOUT;
 	private int currentCachingLifetime;
 	private int pollingIntervalInIntValue;
 	private int currentGetMultipleInPollingInterval = 0;
 	private boolean isEmergencyDelivery;
 	private final Set<String> historicalProperties = new HashSet<>();
-	private final Set<String> failedMonitor = new HashSet<>();
+	private final Set<LgControllingCommand> failedMonitor = EnumSet.noneOf(LgControllingCommand.class);
 	private int localCachedFailedMonitor = 0;
-	private Map<String, String> cacheMapOfPriorityInputAndValue = new HashMap<>();
-	private int countControlUnavailable = 0;
-	private ExtendedStatistics localExtendedStatistics;
+	private final LgLCDPriorityInputs priorityInputs = new LgLCDPriorityInputs();
+	private long controlUnavailableTimestamp = 0;
+
+	/**
+	 * Statistics and controls last published, the instance published is never modified afterwards:
+	 * a polling cycle publishes a new instance and a control publishes a copy carrying its changes,
+	 * so the statistics returned to Symphony are never changed while they are serialized
+	 */
+	private final AtomicReference<ExtendedStatistics> localExtendedStatistics = new AtomicReference<>();
 
 	/**
 	 * a variable to check the adapter init
@@ -101,20 +122,126 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 
 	/**
 	 * To avoid timeout errors, caused by the unavailability of the control protocol, all polling-dependent communication operations (monitoring)
-	 * should be performed asynchronously. This executor service executes such operations.
+	 * should be performed asynchronously. This queue executes such operations, and the commands of the operator controls ahead of them.
 	 */
-	private ExecutorService fetchingDataExSer;
-	private ExecutorService timeoutManagementExSer;
+	private LgLCDCommandQueue commandQueue;
 
 	/**
-	 * Local caching to store failed requests after a period of time
+	 * Time of the last successful read of each command, a failed command keeps its cached value until its entry expires
 	 */
-	private final Map<String, Integer> localCachingLifeTimeOfMap = new HashMap<>();
+	private final LgLCDPropertyCache propertyCache = new LgLCDPropertyCache();
 
 	/**
 	 * Local cache stores data after a period of time
 	 */
-	private final Map<String, String> localCacheMapOfPropertyNameAndValue = new HashMap<>();
+	private final LgLCDPropertyStore localPropertyStore = new LgLCDPropertyStore();
+
+	/**
+	 * Names of the statistics and controls added, changed or removed by the last published polling cycle
+	 */
+	private volatile Set<String> changedProperties = Collections.emptySet();
+
+	/**
+	 * Whether {@link #localExtendedStatistics} holds the statistics built from {@link #localPropertyStore} on a polling cycle
+	 */
+	private boolean isStatisticsPublished;
+
+	/**
+	 * Parts of the statistics built from {@link #localPropertyStore}, in the order they are merged: the monitoring values, the groups of controls, then the wall
+	 */
+	private final LgLCDStatisticsSection[] statisticsSections = new LgLCDStatisticsSection[STATISTICS_SECTION_COUNT];
+
+	/**
+	 * Statistics merged from {@link #statisticsSections} and published as they are, null if the sections no longer match the published statistics
+	 */
+	private ExtendedStatistics sectionedStatistics;
+
+	/**
+	 * Section being built, it records the properties read by {@link #getValueByName(String)}
+	 */
+	private LgLCDStatisticsSection readingSection;
+
+	/**
+	 * Count of the operator controls when the statistics were last published, a control since then changes the published statistics
+	 */
+	private long publishedControlCount;
+
+	/**
+	 * Adapter properties shaping the statistics when they were last published
+	 */
+	private boolean publishedConfigManagement;
+	private List<Integer> publishedWallSetIDList = Collections.emptyList();
+	private final Set<String> publishedHistoricalProperties = new HashSet<>();
+
+	/**
+	 * store pollingPriority adapter properties, names of the properties read first, before every other property
+	 */
+	private String pollingPriority;
+
+	/**
+	 * The value of {@link #pollingPriority} {@link #pollingOrder} was built from
+	 */
+	private String currentPollingPriority;
+
+	/**
+	 * Commands read by the polling cycles, the commands of {@link #pollingPriority} first then the others in declaration order
+	 */
+	private List<LgControllingCommand> pollingOrder = buildPollingOrder(Collections.emptyList());
+
+	/**
+	 * Commands of {@link #pollingPriority}, read alone on the first call after init
+	 */
+	private List<LgControllingCommand> firstPaintCommands = Collections.emptyList();
+
+	/**
+	 * Whether the first paint has to run on the next call of {@link #getMultipleStatistics()}
+	 */
+	private boolean isFirstPaintPending;
+
+	/**
+	 * Whether the first polling cycle after init has not completed yet
+	 */
+	private boolean isFirstPassAfterInit;
+
+	/**
+	 * Commands read successfully by the first paint, the first polling cycle does not read them again
+	 */
+	private final Set<LgControllingCommand> firstPaintPolledCommands = EnumSet.noneOf(LgControllingCommand.class);
+
+	/**
+	 * store snapshotDirectory adapter properties, the directory where the last known values of the display are saved, empty to disable the snapshot
+	 */
+	private String snapshotDirectory;
+
+	/**
+	 * Time the snapshot loaded on init was saved, 0 once the values have been read from the device
+	 */
+	private long snapshotTimestamp;
+
+	/**
+	 * Time the snapshot was last saved
+	 */
+	private long lastSnapshotSaveTimestamp;
+
+	/**
+	 * Whether the values changed since the snapshot was last saved
+	 */
+	private boolean isSnapshotOutdated;
+
+	/**
+	 * store adapterMetrics adapter properties, true to publish the {@link #commandMetrics} as statistics
+	 */
+	private String adapterMetrics;
+
+	/**
+	 * adapterMetrics in boolean value
+	 */
+	private boolean isAdapterMetrics;
+
+	/**
+	 * Latency, timeouts, NG replies and bytes of every command sent to the display since the adapter was created
+	 */
+	private final LgLCDCommandMetrics commandMetrics = new LgLCDCommandMetrics();
 
 	/**
 	 * store pollingInterval adapter properties
@@ -127,17 +254,27 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	private String configTimeout;
 
 	/**
-	 * Timestamp of the latest command sent to a device.
+	 * Apply default delay in between of all the commands performed by the adapter.
 	 */
-	private long lastCommandTimestamp;
+	private long commandsCoolDownDelay;
 
 	/**
-	 * Apply default delay in between of all the commands performed by the adapter.
+	 * store adaptiveCoolDown adapter properties
 	 */
-	private long commandsCoolDownDelay;
+	private String adaptiveCoolDown;
+
+	/**
+	 * adaptiveCoolDown in boolean value
+	 */
+	private volatile boolean isAdaptiveCoolDown;
+
+	/**
+	 * Cool down delay measured from the device replies, used instead of {@link #commandsCoolDownDelay} when {@link #isAdaptiveCoolDown} is enabled
+	 */
+	private final AdaptiveCoolDownDelay adaptiveCoolDownDelay = new AdaptiveCoolDownDelay(LgLCDConstants.DEFAULT_DELAY_TIME);
 
 	/**
-	 * store cachingLifetime adapter properties
+	 * store cachingLifetime adapter properties, the time in minutes a value is still reported after the last successful read of its property
 	 */
 	private String cachingLifetime;
 
@@ -157,730 +294,1468 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	private boolean isConfigManagement;
 
 	/**
-	 * ReentrantLock to prevent null pointer exception to localExtendedStatistics when controlProperty method is called before GetMultipleStatistics method.
+	 * store persistentConnection adapter properties
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private String persistentConnection;
 
 	/**
-	 * Using Condition to pause the current thread execution until control is complete
+	 * persistentConnection in boolean value
 	 */
-	private final Condition condition = reentrantLock.newCondition();
+	private boolean isPersistentConnection;
 
 	/**
-	 * {@inheritDoc}
-	 *
-	 * Override the send() method to add a cool down delay time after every send command
+	 * store connectionIdleTimeout adapter properties
 	 */
-	@Override
-	public byte[] send(byte[] data) throws Exception {
-		try {
-			long currentTime = System.currentTimeMillis() - lastCommandTimestamp;
-			//check next command wait commandsCoolDownDelay time
-			if (currentTime < commandsCoolDownDelay) {
-				Thread.sleep(commandsCoolDownDelay - currentTime);
-			}
-			lastCommandTimestamp = System.currentTimeMillis();
-			if (logger.isDebugEnabled()) {
-				logger.debug(String.format("Issuing command %s, timestamp: %s", data, lastCommandTimestamp));
-			}
-			return super.send(data);
-		} finally {
-			logger.debug("send data command successfully");
-		}
-	}
+	private String connectionIdleTimeout;
 
 	/**
-	 * {@inheritDoc}
+	 * connectionIdleTimeout in milliseconds
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		fetchingDataExSer = Executors.newFixedThreadPool(1);
-		timeoutManagementExSer = Executors.newFixedThreadPool(1);
-		isFirstInit = false;
-		super.internalInit();
-	}
+	private int connectionIdleTimeoutInMs = LgLCDConstants.DEFAULT_CONNECTION_IDLE_TIMEOUT;
 
 	/**
-	 * {@inheritDoc}
+	 * Host and port of the device, shared with the adapters of the other set IDs of a daisy chain.
+	 * It holds the connection kept open across polling cycles when {@link #isPersistentConnection} is enabled,
+	 * and the timestamp of the latest command sent to the serial link.
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
-		}
-		if (!cacheMapOfPriorityInputAndValue.isEmpty()) {
-			cacheMapOfPriorityInputAndValue.clear();
-		}
+	private volatile LgLCDEndpoint endpoint;
 
-		if (!localCacheMapOfPropertyNameAndValue.isEmpty()) {
-			localCacheMapOfPropertyNameAndValue.clear();
-		}
-		isConfigManagement = false;
-		failedMonitor.clear();
-		localCachingLifeTimeOfMap.clear();
-		try {
-			fetchingDataExSer.shutdownNow();
-			timeoutManagementExSer.shutdownNow();
-		} catch (Exception e) {
-			logger.warn("Unable to end the TCP connection.", e);
-		} finally {
-			super.internalDestroy();
-		}
-	}
+	/**
+	 * Encoder holding the prebuilt request frames of {@link #monitorID}
+	 */
+	private LgLCDFrameEncoder frameEncoder;
 
 	/**
-	 * Constructor set the TCP/IP port to be used as well the default monitor ID
+	 * Decoders of the OK replies, keyed by the expected command
 	 */
-	public LgLCDDevice() {
-		super();
-		this.setPort(9761);
-		this.monitorID = 1;
+	private final Map<commandNames, LgLCDResponseDecoder> responseDecoders = new EnumMap<>(commandNames.class);
 
-		// set list of command success strings (included at the end of response when command succeeds, typically ending with command prompt)
-		this.setCommandSuccessList(Collections.singletonList("OK"));
-		// set list of error response strings (included at the end of response when command fails, typically ending with command prompt)
-		this.setCommandErrorList(Collections.singletonList("NG"));
-	}
+	/**
+	 * store pipelineWindow adapter properties
+	 */
+	private String pipelineWindow;
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
-	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * pipelineWindow in int value, 1 means strict one-at-a-time mode
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (isInitialized()) {
-			long pingResultTotal = 0L;
-
-			for (int i = 0; i < this.getPingAttempts(); i++) {
-				long startTime = System.currentTimeMillis();
-
-				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-					puSocketConnection.setSoTimeout(this.getPingTimeout());
-					if (puSocketConnection.isConnected()) {
-						long pingResult = System.currentTimeMillis() - startTime;
-						pingResultTotal += pingResult;
-						if (this.logger.isTraceEnabled()) {
-							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-						}
-					} else {
-						if (this.logger.isDebugEnabled()) {
-							this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-						}
-						return this.getPingTimeout();
-					}
-				} catch (SocketTimeoutException | ConnectException tex) {
-					if (this.logger.isDebugEnabled()) {
-						this.logger.error(String.format("PING TIMEOUT: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-					}
-					throw new SocketTimeoutException("Connection timed out");
-				} catch (Exception e) {
-					if (this.logger.isDebugEnabled()) {
-						this.logger.error(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-					}
-					return this.getPingTimeout();
-				}
-			}
-			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-		} else {
-			throw new IllegalStateException("Cannot use device class without calling init() first");
-		}
-	}
+	private int pipelineWindowInIntValue = LgLCDConstants.DEFAULT_PIPELINE_WINDOW;
 
 	/**
-	 * Retrieves {@link #configTimeout}
-	 *
-	 * @return value of {@link #configTimeout}
+	 * Set when the device mis-ordered or dropped pipelined replies, polling falls back to strict one-at-a-time mode
+	 * until the pipelineWindow property changes or the adapter is re-initialized
 	 */
-	public String getConfigTimeout() {
-		return configTimeout;
-	}
+	private boolean isPipelineFallback;
 
 	/**
-	 * Sets {@link #configTimeout} value
-	 *
-	 * @param configTimeout new value of {@link #configTimeout}
+	 * store controlCoalescingWindow adapter properties, time in ms the slider controls are coalesced, 0 sends every value
 	 */
-	public void setConfigTimeout(String configTimeout) {
-		this.configTimeout = configTimeout;
-	}
+	private String controlCoalescingWindow;
 
 	/**
-	 * Retrieves {@link #cachingLifetime}
-	 *
-	 * @return value of {@link #cachingLifetime}
+	 * controlCoalescingWindow in long value
 	 */
-	public String getCachingLifetime() {
-		return cachingLifetime;
-	}
+	private volatile long controlCoalescingWindowInMs = LgLCDConstants.DEFAULT_CONTROL_COALESCING_WINDOW;
 
 	/**
-	 * Sets {@link #cachingLifetime} value
-	 *
-	 * @param cachingLifetime new value of {@link #cachingLifetime}
+	 * store optimisticControl adapter properties, true to return from a control once the device acknowledged it and verify the result later
 	 */
-	public void setCachingLifetime(String cachingLifetime) {
-		this.cachingLifetime = cachingLifetime;
-	}
+	private String optimisticControl;
 
 	/**
-	 * Retrieves {@link #configManagement}
-	 *
-	 * @return value of {@link #configManagement}
+	 * optimisticControl in boolean value
 	 */
-	public String getConfigManagement() {
-		return configManagement;
-	}
+	private volatile boolean isOptimisticControl;
 
 	/**
-	 * Sets {@link #configManagement} value
-	 *
-	 * @param configManagement new value of {@link #configManagement}
+	 * Number of controls whose value read back differs from the value the device acknowledged
 	 */
-	public void setConfigManagement(String configManagement) {
-		this.configManagement = configManagement;
-	}
+	private final AtomicLong controlDriftCount = new AtomicLong();
 
 	/**
-	 * Pool for keeping all the async operations in, to track any operations in progress and cancel them if needed
+	 * Time of the last reply of the display, ping reuses its latency instead of opening a connection to the display
 	 */
-	private final List<Future> devicesExecutionPool = new CopyOnWriteArrayList<>();
+	private volatile long lastReplyTimestamp;
 
 	/**
-	 * Retrieves {@link #historicalProperties}
-	 *
-	 * @return value of {@link #historicalProperties}
+	 * Time in ms the display took to send its last reply
 	 */
-	public String getHistoricalProperties() {
-		return String.join(LgLCDConstants.COMMA, this.historicalProperties);
-	}
+	private volatile long lastReplyLatency;
 
 	/**
-	 * Sets {@link #historicalProperties} value
-	 *
-	 * @param historicalProperties new value of {@link #historicalProperties}
+	 * Time of the last command the display did not reply to
 	 */
-	public void setHistoricalProperties(String historicalProperties) {
-		this.historicalProperties.clear();
-		Arrays.asList(historicalProperties.split(LgLCDConstants.COMMA)).forEach(propertyName -> this.historicalProperties.add(propertyName.trim()));
-	}
+	private volatile long lastFailureTimestamp;
+
+	private static final int MONITORING_SECTION = 0;
+	private static final int FAIL_OVER_SECTION = 1;
+	private static final int DISPLAY_AND_SOUND_SECTION = 2;
+	private static final int TILE_MODE_SECTION = 3;
+	private static final int COMMAND_SECTION = 4;
+	private static final LgControllingCommand[] SECTION_COMMANDS = LgControllingCommand.values();
+	private static final int WALL_SECTION = COMMAND_SECTION + SECTION_COMMANDS.length;
+	private static final int STATISTICS_SECTION_COUNT = WALL_SECTION + 1;
 
 	/**
-	 * This method is recalled by Symphony to get the current monitor ID (Future purpose)
-	 *
-	 * @return int This returns the current monitor ID.
+	 * Slider controls whose requests are coalesced
 	 */
-	public int getMonitorID() {
-		return monitorID;
-	}
+	private static final Set<LgControllingCommand> COALESCED_CONTROLS = Collections.unmodifiableSet(EnumSet.of(LgControllingCommand.VOLUME, LgControllingCommand.BACKLIGHT,
+			LgControllingCommand.BRIGHTNESS, LgControllingCommand.CONTRAST, LgControllingCommand.COLOR_TEMPERATURE));
 
 	/**
-	 * This method is used by Symphony to set the monitor ID (Future purpose)
-	 *
-	 * @param monitorID This is the monitor ID to be set
+	 * Latest values of the slider controls waiting for the end of their coalescing window
 	 */
-	public void setMonitorID(int monitorID) {
-		this.monitorID = monitorID;
-	}
+	private final LgLCDControlCoalescer controlCoalescer = new LgLCDControlCoalescer();
 
 	/**
-	 * Retrieves {@link #coolDownDelay}
-	 *
-	 * @return value of {@link #coolDownDelay}
+	 * store periodicRefreshInterval adapter properties
 	 */
-	public String getCoolDownDelay() {
-		return coolDownDelay;
-	}
+	private String periodicRefreshInterval;
 
 	/**
-	 * Sets {@link #coolDownDelay} value
-	 *
-	 * @param coolDownDelay new value of {@link #coolDownDelay}
+	 * periodicRefreshInterval in milliseconds, 0 reads every property on every polling cycle
 	 */
-	public void setCoolDownDelay(String coolDownDelay) {
-		this.coolDownDelay = coolDownDelay;
-	}
+	private long periodicRefreshIntervalInMs = TimeUnit.MINUTES.toMillis(LgLCDConstants.DEFAULT_PERIODIC_REFRESH_INTERVAL);
 
 	/**
-	 * Retrieves {@link #pollingInterval}
-	 *
-	 * @return value of {@link #pollingInterval}
+	 * Timestamp of the last successful read of the commands whose {@link RefreshClass} is not {@link RefreshClass#EVERY_CYCLE}
 	 */
-	public String getPollingInterval() {
-		return pollingInterval;
-	}
+	private final Map<LgControllingCommand, Long> lastRefreshTimestamps = new EnumMap<>(LgControllingCommand.class);
 
 	/**
-	 * Sets {@link #pollingInterval} value
-	 *
-	 * @param pollingInterval new value of {@link #pollingInterval}
+	 * store wallSetIDs adapter properties
 	 */
-	public void setPollingInterval(String pollingInterval) {
-		this.pollingInterval = pollingInterval;
-	}
+	private String wallSetIDs;
 
 	/**
-	 * This method is recalled by Symphony to control a list of properties
-	 *
-	 * @param controllableProperties This is the list of properties to be controlled
-	 * @return byte This returns the calculated xor checksum.
+	 * Set IDs of the tiles of the video wall controlled with broadcast frames, empty when the wall controls are disabled
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
-		}
-		for (ControllableProperty p : controllableProperties) {
-			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
-		}
-	}
+	private List<Integer> wallSetIDList = Collections.emptyList();
 
 	/**
-	 * This method is recalled by Symphony to control specific property
-	 *
-	 * @param controllableProperty This is the property to be controlled
+	 * Outcome of the latest wall control on each tile, keyed by set ID
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			if (localExtendedStatistics == null) {
-				return;
+	private final Map<Integer, String> wallTileStatus = new TreeMap<>();
+
+	/**
+	 * Time in ms the latest wall control took, from the broadcast frame to the end of the read back
+	 */
+	private long wallLastControlDuration = -1;
+
+	/**
+	 * Reconnect count of the persistent connection when {@link #lastRefreshTimestamps} was last validated
+	 */
+	private int lastRefreshReconnectCount;
+
+	/**
+	 * ReentrantLock to prevent null pointer exception to localExtendedStatistics when controlProperty method is called before GetMultipleStatistics method.
+	 * The lock is fair, so a control waiting for it goes first when the polling cycle steps aside.
+	 */
+	private final ReentrantLock reentrantLock = new ReentrantLock(true);
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Override the send() method to add a cool down delay time after every send command
+	 */
+	@Override
+	public byte[] send(byte[] data) throws Exception {
+		LgLCDCommandQueue queue = commandQueue;
+		if (queue != null && !queue.isWorkerThread()) {
+			return sendByCommandQueue(queue, () -> send(data));
+		}
+		try {
+			waitCoolDownDelay();
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Issuing command %s, timestamp: %s", data, getEndpoint().getLastCommandTimestamp()));
+			}
+			long startTime = System.currentTimeMillis();
+			try {
+				byte[] response = isPersistentConnection ? getLgLCDConnection().send(data, defaultConfigTimeout) : super.send(data);
+				recordCommandResult(data, response, System.currentTimeMillis() - startTime);
+				return response;
+			} catch (Exception e) {
+				if (isAdaptiveCoolDown) {
+					adaptiveCoolDownDelay.onFailure();
+				}
+				recordCommandFailure(data, e);
+				throw e;
+			}
+		} finally {
+			logger.debug("send data command successfully");
+		}
+	}
+
+	/**
+	 * Send a command requested outside of the polling cycle, an operator control, ahead of the queued polling commands
+	 *
+	 * @param queue the queue is the command queue of the display
+	 * @param command the command is the command sending the frame on the worker
+	 * @return reply of the device
+	 */
+	private <T> T sendByCommandQueue(LgLCDCommandQueue queue, Callable<T> command) throws Exception {
+		Future<T> future = queue.submit(command, CommandPriority.CONTROL);
+		try {
+			//The deadline starts when the command is sent, leave room for the cool down delay
+			return future.get(defaultConfigTimeout + LgLCDConstants.MAX_DELAY_TIME, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			//Interrupting a command in progress on the persistent connection would close it, it ends with its own read timeout
+			future.cancel(!isPersistentConnection);
+			throw e;
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+
+	/**
+	 * Get the time left before the cool down delay has elapsed since the latest command of any set ID on the serial link,
+	 * the fleet scheduler does not hand the display to a worker before then
+	 *
+	 * @return delay in ms, 0 or less if the next command can be sent
+	 */
+	private long getCoolDownRemaining() {
+		LgLCDEndpoint currentEndpoint = endpoint;
+		if (currentEndpoint == null) {
+			return 0;
+		}
+		long coolDownDelay = isAdaptiveCoolDown ? adaptiveCoolDownDelay.getDelay() : commandsCoolDownDelay;
+		return coolDownDelay - (System.currentTimeMillis() - currentEndpoint.getLastCommandTimestamp());
+	}
+
+	/**
+	 * Wait until commandsCoolDownDelay has elapsed since the latest command, then record the new command timestamp
+	 */
+	private void waitCoolDownDelay() throws InterruptedException {
+		long coolDownRemaining = getCoolDownRemaining();
+		//check next command wait commandsCoolDownDelay time
+		if (coolDownRemaining > 0) {
+			Thread.sleep(coolDownRemaining);
+		}
+		getEndpoint().setLastCommandTimestamp(System.currentTimeMillis());
+	}
+
+	/**
+	 * Send frames pipelined on the persistent connection, the cool-down delay is applied once before the first frame.
+	 * The command metrics record the latency of each reply from the write of its frame. The batch is spaced by a single cool-down delay,
+	 * so the adaptive cool down delay records it once: as a failure if any reply is missing or NG, else with the time per frame of the batch.
+	 *
+	 * @param frames the frames are full command frames
+	 * @return PipelineResult holding the replies in the same order as the frames
+	 */
+	private LgLCDConnection.PipelineResult sendPipelined(List<byte[]> frames) throws Exception {
+		waitCoolDownDelay();
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Issuing %s pipelined commands with window %s, timestamp: %s", frames.size(), pipelineWindowInIntValue, getEndpoint().getLastCommandTimestamp()));
+		}
+		long startTime = System.currentTimeMillis();
+		LgLCDConnection.PipelineResult result;
+		try {
+			result = getLgLCDConnection().sendPipelined(frames, pipelineWindowInIntValue, defaultConfigTimeout);
+		} catch (Exception e) {
+			if (isAdaptiveCoolDown) {
+				adaptiveCoolDownDelay.onFailure();
+			}
+			for (byte[] frame : frames) {
+				recordCommandFailure(frame, e);
+			}
+			throw e;
+		}
+		long lastCommandTimestamp = System.currentTimeMillis();
+		getEndpoint().setLastCommandTimestamp(lastCommandTimestamp);
+		boolean isBatchFailed = false;
+		for (int i = 0; i < frames.size(); i++) {
+			isBatchFailed |= recordReply(frames.get(i), result.getReply(i), result.getLatency(i));
+		}
+		if (isAdaptiveCoolDown) {
+			if (isBatchFailed) {
+				adaptiveCoolDownDelay.onFailure();
+			} else {
+				adaptiveCoolDownDelay.onSuccess((lastCommandTimestamp - startTime) / frames.size());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Feed the command metrics and the adaptive cool down delay with the outcome of a command
+	 *
+	 * @param frame the frame is the full command frame
+	 * @param response the response is the reply of the device, null if it did not reply
+	 * @param latency the latency is the time in ms the device took to reply
+	 */
+	private void recordCommandResult(byte[] frame, byte[] response, long latency) {
+		boolean isFailed = recordReply(frame, response, latency);
+		if (!isAdaptiveCoolDown) {
+			return;
+		}
+		if (isFailed) {
+			adaptiveCoolDownDelay.onFailure();
+		} else {
+			adaptiveCoolDownDelay.onSuccess(latency);
+		}
+	}
+
+	/**
+	 * Feed the command metrics with the outcome of a command
+	 *
+	 * @param frame the frame is the full command frame
+	 * @param response the response is the reply of the device, null if it did not reply
+	 * @param latency the latency is the time in ms the device took to reply
+	 * @return boolean true if the device did not reply or replied NG
+	 */
+	private boolean recordReply(byte[] frame, byte[] response, long latency) {
+		boolean isFailed = response == null || hasReplyStatus(response, replyStatusNames.NG);
+		commandMetrics.recordReply(frame, response, response != null && isFailed, latency);
+		if (response != null) {
+			//An NG reply still proves the display is reachable
+			lastReplyLatency = latency;
+			lastReplyTimestamp = System.currentTimeMillis();
+		}
+		return isFailed;
+	}
+
+	/**
+	 * Feed the command metrics with a command which failed without a reply.
+	 * A command interrupted by the deadline of its caller is counted as a timeout as well as a read timeout.
+	 *
+	 * @param frame the frame is the full command frame
+	 * @param e the e is the failure of the command
+	 */
+	private void recordCommandFailure(byte[] frame, Exception e) {
+		lastFailureTimestamp = System.currentTimeMillis();
+		if (e instanceof SocketTimeoutException || e instanceof ClosedByInterruptException || Thread.currentThread().isInterrupted()) {
+			commandMetrics.recordTimeout(frame);
+		} else {
+			commandMetrics.recordError(frame);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Close the persistent connection as well, the next command reconnects.
+	 * It is shared by every set ID of the serial link, a command which timed out is abandoned with {@link #abandonCommand(Future)} instead.
+	 */
+	@Override
+	public void destroyChannel() {
+		LgLCDEndpoint currentEndpoint = endpoint;
+		if (currentEndpoint != null && isPersistentConnection) {
+			currentEndpoint.closeConnection();
+		}
+		super.destroyChannel();
+	}
+
+	/**
+	 * Get the persistent connection, shared with the other set IDs of the endpoint
+	 *
+	 * @return LgLCDConnection instance
+	 */
+	private LgLCDConnection getLgLCDConnection() {
+		return getEndpoint().getConnection(connectionIdleTimeoutInMs);
+	}
+
+	/**
+	 * Get the endpoint acquired by {@link #internalInit()}, the host and port can not change after init
+	 *
+	 * @return LgLCDEndpoint instance
+	 * @throws IllegalStateException if the adapter is not initialized or has been destroyed, a command still in flight
+	 * after {@link #internalDestroy()} must not acquire the endpoint again
+	 */
+	private LgLCDEndpoint getEndpoint() {
+		LgLCDEndpoint currentEndpoint = endpoint;
+		if (currentEndpoint == null) {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+		return currentEndpoint;
+	}
+
+	/**
+	 * Get the frame encoder, creating it when the monitor ID has changed
+	 *
+	 * @return LgLCDFrameEncoder instance
+	 */
+	private synchronized LgLCDFrameEncoder getFrameEncoder() {
+		int setID = monitorID & 0xFF;
+		if (frameEncoder == null || frameEncoder.getMonitorID() != setID) {
+			frameEncoder = new LgLCDFrameEncoder(setID);
+		}
+		return frameEncoder;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		synchronized (this) {
+			if (endpoint == null) {
+				endpoint = LgLCDEndpoint.acquire(this.host, this.getPort());
+			}
+		}
+		commandQueue = new LgLCDCommandQueue(LgLCDFleetScheduler.getInstance(), endpoint, this::getCoolDownRemaining);
+		isFirstInit = false;
+		isPipelineFallback = false;
+		lastRefreshTimestamps.clear();
+		restoreSnapshot();
+		convertPollingPriority();
+		isFirstPaintPending = !firstPaintCommands.isEmpty();
+		isFirstPassAfterInit = true;
+		firstPaintPolledCommands.clear();
+		super.internalInit();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (isSnapshotOutdated) {
+			saveSnapshot(true);
+		}
+		snapshotTimestamp = 0;
+		lastReplyTimestamp = 0;
+		if (localExtendedStatistics.get() != null) {
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			extendedStatistics.setStatistics(new HashMap<>());
+			extendedStatistics.setControllableProperties(new ArrayList<>());
+			publishStatistics(extendedStatistics);
+		}
+		priorityInputs.clear();
+
+		if (!localPropertyStore.isEmpty()) {
+			localPropertyStore.clear();
+		}
+		isConfigManagement = false;
+		isStatisticsPublished = false;
+		sectionedStatistics = null;
+		changedProperties = Collections.emptySet();
+		failedMonitor.clear();
+		propertyCache.clear();
+		try {
+			commandQueue.shutdownNow();
+			synchronized (this) {
+				if (endpoint != null) {
+					endpoint.release();
+					endpoint = null;
+				}
+			}
+		} catch (Exception e) {
+			logger.warn("Unable to end the TCP connection.", e);
+		} finally {
+			super.internalDestroy();
+		}
+	}
+
+	/**
+	 * Constructor set the TCP/IP port to be used as well the default monitor ID
+	 */
+	public LgLCDDevice() {
+		super();
+		this.setPort(9761);
+		this.monitorID = 1;
+		registerResponseDecoders();
+
+		// set list of command success strings (included at the end of response when command succeeds, typically ending with command prompt)
+		this.setCommandSuccessList(Collections.singletonList("OK"));
+		// set list of error response strings (included at the end of response when command fails, typically ending with command prompt)
+		this.setCommandErrorList(Collections.singletonList("NG"));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 * <p>
+	 * The latency of the last reply is reported while the display replies to the commands of the adapter.
+	 * Otherwise a power status request is sent on the persistent connection if it is open, and a single connection is opened
+	 * to the display only when there is no open connection to probe, as a display accepting a single session may drop the connection
+	 * of the adapter for the one of the ping
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (isInitialized()) {
+			int recentReplyLatency = getRecentReplyLatency();
+			if (recentReplyLatency > 0) {
+				if (this.logger.isTraceEnabled()) {
+					this.logger.trace(String.format("PING OK: %s replied to the last command in %s ms", host, recentReplyLatency));
+				}
+				return recentReplyLatency;
+			}
+			LgLCDEndpoint currentEndpoint = endpoint;
+			if (isPersistentConnection && currentEndpoint != null && currentEndpoint.isConnected()) {
+				int probeLatency = probePersistentConnection();
+				if (probeLatency > 0) {
+					return probeLatency;
+				}
+			}
+			return probeConnect();
+		} else {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+	}
+
+	/**
+	 * Request the power status on the persistent connection, the reply latency is recorded by {@link #send(byte[])}
+	 *
+	 * @return int latency in ms of the reply, 0 if the display did not reply
+	 */
+	private int probePersistentConnection() {
+		try {
+			send(LgLCDUtils.buildSendString((byte) monitorID, LgLCDConstants.commands.get(commandNames.POWER), LgLCDConstants.commands.get(commandNames.GET)));
+		} catch (Exception e) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("PING: %s did not reply on the persistent connection, connecting to it instead: %s", host, e.getMessage()));
+			}
+			return 0;
+		}
+		int latency = getRecentReplyLatency();
+		if (latency > 0 && this.logger.isTraceEnabled()) {
+			this.logger.trace(String.format("PING OK: %s replied on the persistent connection in %s ms", host, latency));
+		}
+		return latency;
+	}
+
+	/**
+	 * Open a connection to the control port of the display without blocking longer than the ping timeout, then close it
+	 *
+	 * @return int time in ms taken to connect, the ping timeout if the connection failed for an unknown reason
+	 * @throws SocketTimeoutException if the display did not accept the connection within the ping timeout
+	 */
+	private int probeConnect() throws Exception {
+		long startTime = System.currentTimeMillis();
+		try (SocketChannel socketChannel = SocketChannel.open(); Selector channelSelector = Selector.open()) {
+			socketChannel.configureBlocking(false);
+			if (!socketChannel.connect(new InetSocketAddress(this.host, this.getPort()))) {
+				socketChannel.register(channelSelector, SelectionKey.OP_CONNECT);
+				if (channelSelector.select(this.getPingTimeout()) == 0) {
+					throw new SocketTimeoutException("Connection timed out");
+				}
+				socketChannel.finishConnect();
+			}
+			long pingResult = System.currentTimeMillis() - startTime;
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace(String.format("PING OK: Connection to %s on port %s succeeded in %s ms", host, this.getPort(), pingResult));
+			}
+			return Math.max(1, Math.toIntExact(Math.min(pingResult, this.getPingTimeout())));
+		} catch (SocketTimeoutException | ConnectException tex) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.error(String.format("PING TIMEOUT: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+			}
+			throw new SocketTimeoutException("Connection timed out");
+		} catch (Exception e) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.error(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+			}
+			return this.getPingTimeout();
+		}
+	}
+
+	/**
+	 * Get the latency of the last reply of the display if it replied within {@link LgLCDConstants#PING_REPLY_LIFETIME} and no command failed since then
+	 *
+	 * @return int latency in ms of the last reply, 0 if the display did not reply recently
+	 */
+	private int getRecentReplyLatency() {
+		long replyTimestamp = lastReplyTimestamp;
+		if (replyTimestamp == 0 || replyTimestamp < lastFailureTimestamp || System.currentTimeMillis() - replyTimestamp > LgLCDConstants.PING_REPLY_LIFETIME) {
+			return 0;
+		}
+		return (int) Math.max(1, Math.min(lastReplyLatency, this.getPingTimeout()));
+	}
+
+	/**
+	 * Retrieves {@link #configTimeout}
+	 *
+	 * @return value of {@link #configTimeout}
+	 */
+	public String getConfigTimeout() {
+		return configTimeout;
+	}
+
+	/**
+	 * Sets {@link #configTimeout} value
+	 *
+	 * @param configTimeout new value of {@link #configTimeout}
+	 */
+	public void setConfigTimeout(String configTimeout) {
+		this.configTimeout = configTimeout;
+	}
+
+	/**
+	 * Retrieves {@link #cachingLifetime}
+	 *
+	 * @return value of {@link #cachingLifetime}
+	 */
+	public String getCachingLifetime() {
+		return cachingLifetime;
+	}
+
+	/**
+	 * Sets {@link #cachingLifetime} value
+	 *
+	 * @param cachingLifetime new value of {@link #cachingLifetime}
+	 */
+	public void setCachingLifetime(String cachingLifetime) {
+		this.cachingLifetime = cachingLifetime;
+	}
+
+	/**
+	 * Retrieves {@link #configManagement}
+	 *
+	 * @return value of {@link #configManagement}
+	 */
+	public String getConfigManagement() {
+		return configManagement;
+	}
+
+	/**
+	 * Sets {@link #configManagement} value
+	 *
+	 * @param configManagement new value of {@link #configManagement}
+	 */
+	public void setConfigManagement(String configManagement) {
+		this.configManagement = configManagement;
+	}
+
+	/**
+	 * Retrieves {@link #persistentConnection}
+	 *
+	 * @return value of {@link #persistentConnection}
+	 */
+	public String getPersistentConnection() {
+		return persistentConnection;
+	}
+
+	/**
+	 * Sets {@link #persistentConnection} value
+	 *
+	 * @param persistentConnection new value of {@link #persistentConnection}
+	 */
+	public void setPersistentConnection(String persistentConnection) {
+		this.persistentConnection = persistentConnection;
+	}
+
+	/**
+	 * Retrieves {@link #connectionIdleTimeout}
+	 *
+	 * @return value of {@link #connectionIdleTimeout}
+	 */
+	public String getConnectionIdleTimeout() {
+		return connectionIdleTimeout;
+	}
+
+	/**
+	 * Sets {@link #connectionIdleTimeout} value
+	 *
+	 * @param connectionIdleTimeout new value of {@link #connectionIdleTimeout}
+	 */
+	public void setConnectionIdleTimeout(String connectionIdleTimeout) {
+		this.connectionIdleTimeout = connectionIdleTimeout;
+	}
+
+	/**
+	 * Retrieves {@link #adaptiveCoolDown}
+	 *
+	 * @return value of {@link #adaptiveCoolDown}
+	 */
+	public String getAdaptiveCoolDown() {
+		return adaptiveCoolDown;
+	}
+
+	/**
+	 * Sets {@link #adaptiveCoolDown} value
+	 *
+	 * @param adaptiveCoolDown new value of {@link #adaptiveCoolDown}
+	 */
+	public void setAdaptiveCoolDown(String adaptiveCoolDown) {
+		this.adaptiveCoolDown = adaptiveCoolDown;
+	}
+
+	/**
+	 * Retrieves {@link #pipelineWindow}
+	 *
+	 * @return value of {@link #pipelineWindow}
+	 */
+	public String getPipelineWindow() {
+		return pipelineWindow;
+	}
+
+	/**
+	 * Sets {@link #pipelineWindow} value
+	 *
+	 * @param pipelineWindow new value of {@link #pipelineWindow}
+	 */
+	public void setPipelineWindow(String pipelineWindow) {
+		this.pipelineWindow = pipelineWindow;
+	}
+
+	/**
+	 * Retrieves {@link #controlCoalescingWindow}
+	 *
+	 * @return value of {@link #controlCoalescingWindow}
+	 */
+	public String getControlCoalescingWindow() {
+		return controlCoalescingWindow;
+	}
+
+	/**
+	 * Sets {@link #controlCoalescingWindow} value
+	 *
+	 * @param controlCoalescingWindow new value of {@link #controlCoalescingWindow}
+	 */
+	public void setControlCoalescingWindow(String controlCoalescingWindow) {
+		this.controlCoalescingWindow = controlCoalescingWindow;
+	}
+
+	/**
+	 * Retrieves {@link #optimisticControl}
+	 *
+	 * @return value of {@link #optimisticControl}
+	 */
+	public String getOptimisticControl() {
+		return optimisticControl;
+	}
+
+	/**
+	 * Sets {@link #optimisticControl} value
+	 *
+	 * @param optimisticControl new value of {@link #optimisticControl}
+	 */
+	public void setOptimisticControl(String optimisticControl) {
+		this.optimisticControl = optimisticControl;
+	}
+
+	/**
+	 * Retrieves {@link #periodicRefreshInterval}
+	 *
+	 * @return value of {@link #periodicRefreshInterval}
+	 */
+	public String getPeriodicRefreshInterval() {
+		return periodicRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #periodicRefreshInterval} value
+	 *
+	 * @param periodicRefreshInterval new value of {@link #periodicRefreshInterval}
+	 */
+	public void setPeriodicRefreshInterval(String periodicRefreshInterval) {
+		this.periodicRefreshInterval = periodicRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #wallSetIDs}
+	 *
+	 * @return value of {@link #wallSetIDs}
+	 */
+	public String getWallSetIDs() {
+		return wallSetIDs;
+	}
+
+	/**
+	 * Sets {@link #wallSetIDs} value
+	 *
+	 * @param wallSetIDs new value of {@link #wallSetIDs}
+	 */
+	public void setWallSetIDs(String wallSetIDs) {
+		this.wallSetIDs = wallSetIDs;
+	}
+
+	/**
+	 * Retrieves {@link #pollingPriority}
+	 *
+	 * @return value of {@link #pollingPriority}
+	 */
+	public String getPollingPriority() {
+		return pollingPriority;
+	}
+
+	/**
+	 * Sets {@link #pollingPriority} value
+	 *
+	 * @param pollingPriority new value of {@link #pollingPriority}
+	 */
+	public void setPollingPriority(String pollingPriority) {
+		this.pollingPriority = pollingPriority;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #adapterMetrics}
+	 *
+	 * @return value of {@link #adapterMetrics}
+	 */
+	public String getAdapterMetrics() {
+		return adapterMetrics;
+	}
+
+	/**
+	 * Sets {@link #adapterMetrics} value
+	 *
+	 * @param adapterMetrics new value of {@link #adapterMetrics}
+	 */
+	public void setAdapterMetrics(String adapterMetrics) {
+		this.adapterMetrics = adapterMetrics;
+	}
+
+	/**
+	 * Get the metrics of every command sent to the display since the adapter was created, whether {@link #adapterMetrics} is enabled or not
+	 *
+	 * @return Map of the names of the commands and a copy of their metrics, in the order of the commands
+	 */
+	public Map<String, LgLCDCommandMetrics.CommandSummary> getCommandMetrics() {
+		return commandMetrics.getSummaries();
+	}
+
+	/**
+	 * Get the number of times the persistent connection to the display was re-established
+	 *
+	 * @return int number of reconnections, 0 if the connection is not persistent
+	 */
+	public int getReconnectCount() {
+		LgLCDEndpoint currentEndpoint = endpoint;
+		return isPersistentConnection && currentEndpoint != null ? currentEndpoint.getConnection(connectionIdleTimeoutInMs).getReconnectCount() : 0;
+	}
+
+	/**
+	 * Get the number of optimistic controls whose read back did not match the value acknowledged by the display
+	 *
+	 * @return long number of control drifts
+	 */
+	public long getControlDriftCount() {
+		return controlDriftCount.get();
+	}
+
+	/**
+	 * Pool for keeping all the async operations in, to track any operations in progress and cancel them if needed
+	 */
+	private final List<Future> devicesExecutionPool = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Retrieves {@link #historicalProperties}
+	 *
+	 * @return value of {@link #historicalProperties}
+	 */
+	public String getHistoricalProperties() {
+		return String.join(LgLCDConstants.COMMA, this.historicalProperties);
+	}
+
+	/**
+	 * Retrieves {@link #changedProperties}
+	 *
+	 * @return names of the statistics and controls added, changed or removed by the last published polling cycle
+	 */
+	public Set<String> getChangedProperties() {
+		return changedProperties;
+	}
+
+	/**
+	 * Sets {@link #historicalProperties} value
+	 *
+	 * @param historicalProperties new value of {@link #historicalProperties}
+	 */
+	public void setHistoricalProperties(String historicalProperties) {
+		this.historicalProperties.clear();
+		Arrays.asList(historicalProperties.split(LgLCDConstants.COMMA)).forEach(propertyName -> this.historicalProperties.add(propertyName.trim()));
+	}
+
+	/**
+	 * This method is recalled by Symphony to get the current monitor ID (Future purpose)
+	 *
+	 * @return int This returns the current monitor ID.
+	 */
+	public int getMonitorID() {
+		return monitorID;
+	}
+
+	/**
+	 * This method is used by Symphony to set the monitor ID (Future purpose)
+	 *
+	 * @param monitorID This is the monitor ID to be set
+	 */
+	public void setMonitorID(int monitorID) {
+		this.monitorID = monitorID;
+	}
+
+	/**
+	 * Retrieves {@link #coolDownDelay}
+	 *
+	 * @return value of {@link #coolDownDelay}
+	 */
+	public String getCoolDownDelay() {
+		return coolDownDelay;
+	}
+
+	/**
+	 * Sets {@link #coolDownDelay} value
+	 *
+	 * @param coolDownDelay new value of {@link #coolDownDelay}
+	 */
+	public void setCoolDownDelay(String coolDownDelay) {
+		this.coolDownDelay = coolDownDelay;
+	}
+
+	/**
+	 * Retrieves {@link #pollingInterval}
+	 *
+	 * @return value of {@link #pollingInterval}
+	 */
+	public String getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Sets {@link #pollingInterval} value
+	 *
+	 * @param pollingInterval new value of {@link #pollingInterval}
+	 */
+	public void setPollingInterval(String pollingInterval) {
+		this.pollingInterval = pollingInterval;
+	}
+
+	/**
+	 * This method is recalled by Symphony to control a list of properties
+	 *
+	 * @param controllableProperties This is the list of properties to be controlled
+	 * @throws ResourceNotReachableException if a control failed or was skipped, listing every such control with its reason
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		controlPropertiesInBatch(controllableProperties);
+	}
+
+	/**
+	 * Apply a list of controls as one batch: the lock is taken once, a property controlled several times is sent with its latest value only,
+	 * and the controls are ordered so a control is applied after the controls it depends on, see {@link LgLCDControlBatch}.
+	 * The frames are sent back-to-back, spaced by the cool down delay only, as the polling cycle waits for the whole batch.
+	 * A control whose prerequisite failed in the same batch is skipped.
+	 * The whole batch is applied before the failed and skipped controls are reported together, once the lock is released.
+	 *
+	 * @param controllableProperties the controllableProperties are controls to apply
+	 * @throws ResourceNotReachableException if a control failed or was skipped, listing every such control with its reason
+	 */
+	private void controlPropertiesInBatch(List<ControllableProperty> controllableProperties) {
+		LgLCDCommandQueue queue = commandQueue;
+		if (queue == null) {
+			return;
+		}
+		//The failed and skipped controls with their reason, in the order they were applied
+		Map<String, String> failures = new LinkedHashMap<>();
+		Exception firstFailure = null;
+		List<ControllableProperty> batch = LgLCDControlBatch.order(controllableProperties);
+		Set<LgControllingCommand> failedCommands = EnumSet.noneOf(LgControllingCommand.class);
+		long controlStartTime = queue.beginControl();
+		reentrantLock.lock();
+		try {
+			for (ControllableProperty controllableProperty : batch) {
+				String property = controllableProperty.getProperty();
+				LgControllingCommand command = LgLCDControlBatch.getCommand(property);
+				LgControllingCommand prerequisite = command == null ? null : LgLCDControlBatch.getPrerequisite(command);
+				if (prerequisite != null && failedCommands.contains(prerequisite)) {
+					failedCommands.add(command);
+					failures.putIfAbsent(property, String.format(LgLCDConstants.CONTROL_RESULT_SKIPPED, prerequisite.getName()));
+					continue;
+				}
+				try {
+					applyControl(property, String.valueOf(controllableProperty.getValue()));
+				} catch (Exception e) {
+					if (command != null) {
+						failedCommands.add(command);
+					}
+					if (firstFailure == null) {
+						firstFailure = e;
+					}
+					//A property moved several times reports its first failure
+					failures.putIfAbsent(property, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+					logger.error(String.format("Error when controlling %s", property), e);
+				}
+			}
+		} finally {
+			reentrantLock.unlock();
+			queue.endControl(controlStartTime);
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Batch of %s controls finished in %s ms", batch.size(), queue.getLastControlLatency()));
+			}
+		}
+		if (!failures.isEmpty()) {
+			String failedControls = failures.entrySet().stream().map(failure -> String.format(LgLCDConstants.CONTROL_BATCH_FAILURE, failure.getKey(), failure.getValue()))
+					.collect(Collectors.joining("; "));
+			throw new ResourceNotReachableException(String.format(LgLCDConstants.CONTROL_BATCH_FAILED, failures.size(), batch.size(), failedControls), firstFailure);
+		}
+	}
+
+	/**
+	 * This method is recalled by Symphony to control specific property
+	 *
+	 * @param controllableProperty This is the property to be controlled
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		LgLCDCommandQueue queue = commandQueue;
+		if (queue == null) {
+			return;
+		}
+		String value = String.valueOf(controllableProperty.getValue());
+		String property = controllableProperty.getProperty();
+		LgControllingCommand coalescedCommand = getCoalescedCommand(property);
+		if (coalescedCommand != null && !controlCoalescer.offer(coalescedCommand, value, controlCoalescingWindowInMs)) {
+			//A request of the same slider is waiting for the end of its window, it sends this value unless a newer one comes
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Control of %s with value %s coalesced with the pending one", property, value));
+			}
+			return;
+		}
+		//Announce the control before waiting for the lock, the polling cycle steps aside at its next command
+		long controlStartTime = queue.beginControl();
+		reentrantLock.lock();
+		try {
+			if (coalescedCommand != null) {
+				//Send the latest value requested while this request was waiting
+				value = controlCoalescer.take(coalescedCommand);
+			}
+			applyControl(property, value);
+		} finally {
+			reentrantLock.unlock();
+			queue.endControl(controlStartTime);
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Control of %s finished in %s ms", controllableProperty.getProperty(), queue.getLastControlLatency()));
+			}
+		}
+	}
+
+	/**
+	 * Apply a control to the device and to the published statistics, the caller holds {@link #reentrantLock}
+	 *
+	 * @param property the property is name of the controlled property
+	 * @param value the value is value of the control
+	 */
+	private void applyControl(String property, String value) throws Exception {
+		ExtendedStatistics publishedStatistics = localExtendedStatistics.get();
+		if (publishedStatistics == null) {
+			return;
+		}
+		isEmergencyDelivery = true;
+		//A control may change the settings read less often, read them again on the next polling cycle
+		lastRefreshTimestamps.clear();
+		//Apply the control on copies, they are published once the control succeeded
+		Map<String, String> stats = publishedStatistics.getStatistics() == null ? new HashMap<>() : new HashMap<>(publishedStatistics.getStatistics());
+		List<AdvancedControllableProperty> advancedControllableProperties = publishedStatistics.getControllableProperties() == null ? new ArrayList<>()
+				: new ArrayList<>(publishedStatistics.getControllableProperties());
+		if (property.equalsIgnoreCase(controlProperties.power.name())) {
+			if (value.equals(String.valueOf(LgLCDConstants.NUMBER_ONE))) {
+				powerON();
+			} else if (value.equals(String.valueOf(LgLCDConstants.ZERO))) {
+				powerOFF();
 			}
-			condition.signal();
-			isEmergencyDelivery = true;
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
-			String value = String.valueOf(controllableProperty.getValue());
-			String property = controllableProperty.getProperty();
-			if (controllableProperty.getProperty().equalsIgnoreCase(controlProperties.power.name())) {
-				if (controllableProperty.getValue().toString().equals(String.valueOf(LgLCDConstants.NUMBER_ONE))) {
-					powerON();
-				} else if (controllableProperty.getValue().toString().equals(String.valueOf(LgLCDConstants.ZERO))) {
-					powerOFF();
-				}
+		} else {
+			String propertyKey;
+			String[] propertyList = property.split(LgLCDConstants.HASH);
+			String group = property + LgLCDConstants.HASH;
+			if (property.contains(LgLCDConstants.HASH)) {
+				propertyKey = propertyList[1];
+				group = propertyList[0] + LgLCDConstants.HASH;
 			} else {
-				String propertyKey;
-				String[] propertyList = property.split(LgLCDConstants.HASH);
-				String group = property + LgLCDConstants.HASH;
-				if (property.contains(LgLCDConstants.HASH)) {
-					propertyKey = propertyList[1];
-					group = propertyList[0] + LgLCDConstants.HASH;
-				} else {
-					propertyKey = property;
-				}
-				LgControllingCommand lgControllingCommand = LgControllingCommand.getCommandByName(propertyKey);
-				switch (lgControllingCommand) {
-					case VOLUME:
-						String dataConvert = Integer.toHexString((int) Float.parseFloat(value));
-						sendRequestToControlValue(commandNames.VOLUME, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						String volumeValue = String.valueOf((int) Float.parseFloat(value));
-						stats.put(group + LgLCDConstants.VOLUME_VALUE, volumeValue);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.VOLUME, volumeValue);
-						updateValueForTheControllableProperty(group + LgLCDConstants.MUTE, String.valueOf(LgLCDConstants.ZERO), stats, advancedControllableProperties);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.MUTE, String.valueOf(LgLCDConstants.ZERO));
-						break;
-					case MUTE:
-						String mute = LgLCDConstants.UNMUTE_VALUE;
-						if (String.valueOf(LgLCDConstants.NUMBER_ONE).equals(value)) {
-							mute = LgLCDConstants.MUTE_VALUE;
-						}
-						sendRequestToControlValue(commandNames.MUTE, mute.getBytes(StandardCharsets.UTF_8), false, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.MUTE, String.valueOf(Integer.parseInt(mute)));
-						break;
-					case BACKLIGHT:
-						dataConvert = Integer.toHexString((int) Float.parseFloat(value));
-						sendRequestToControlValue(commandNames.BACKLIGHT, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						String backlight = String.valueOf((int) Float.parseFloat(value));
-						stats.put(group + LgLCDConstants.BACKLIGHT_VALUE, backlight);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BACKLIGHT, backlight);
-						break;
-					case INPUT_SELECT:
-						dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, true);
-						try {
-							sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						} catch (Exception e) {
-							dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, false);
-							sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						}
-						String inputSelect = getValueByName(LgLCDConstants.INPUT_SELECT);
-						stats.put(LgLCDConstants.INPUT_SELECT, inputSelect);
-						retrieveDataByCommandName(commandNames.SYNC_STATUS, commandNames.SYNC_STATUS_PARAM, lgControllingCommand);
-						String signal = getValueByName(LgLCDConstants.SIGNAL);
-						stats.put(LgLCDConstants.SIGNAL, signal);
-						stats.put(group + LgLCDConstants.SIGNAL, signal);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SIGNAL, signal);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.INPUT_SELECT, inputSelect);
-						break;
-					case POWER_MANAGEMENT_MODE:
-						dataConvert = LgLCDConstants.BYTE_COMMAND + EnumTypeHandler.getValueOfEnumByName(PowerManagementModeEnum.class, value);
-						sendRequestToControlValue(commandNames.POWER_MANAGEMENT_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.POWER_MANAGEMENT_MODE, value);
-						break;
-					case DISPLAY_STAND_BY_MODE:
-						dataConvert = EnumTypeHandler.getValueOfEnumByName(PowerManagement.class, value);
-						sendRequestToControlValue(commandNames.DISPLAY_STAND_BY_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
-						if (LgLCDConstants.OFF.equalsIgnoreCase(value)) {
-							stats.put(LgLCDConstants.DISPLAY_STAND_BY_MODE, LgLCDConstants.OFF);
-						} else {
-							stats.put(LgLCDConstants.DISPLAY_STAND_BY_MODE, LgLCDConstants.ON);
+				propertyKey = property;
+			}
+			if (LgLCDPropertyKeys.WALL_GROUP.equals(group)) {
+				controlWall(propertyKey, value, stats);
+				updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+				publishControlledStatistics(publishedStatistics, stats, advancedControllableProperties);
+				return;
+			}
+			LgControllingCommand lgControllingCommand = LgControllingCommand.getCommandByName(propertyKey);
+			switch (lgControllingCommand) {
+				case VOLUME:
+					String dataConvert = Integer.toHexString((int) Float.parseFloat(value));
+					sendRequestToControlValue(commandNames.VOLUME, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					String volumeValue = String.valueOf((int) Float.parseFloat(value));
+					stats.put(group + LgLCDConstants.VOLUME_VALUE, volumeValue);
+					updateCachedDeviceData(LgLCDConstants.VOLUME, volumeValue);
+					updateValueForTheControllableProperty(group + LgLCDConstants.MUTE, String.valueOf(LgLCDConstants.ZERO), stats, advancedControllableProperties);
+					updateCachedDeviceData(LgLCDConstants.MUTE, String.valueOf(LgLCDConstants.ZERO));
+					break;
+				case MUTE:
+					String mute = LgLCDConstants.UNMUTE_VALUE;
+					if (String.valueOf(LgLCDConstants.NUMBER_ONE).equals(value)) {
+						mute = LgLCDConstants.MUTE_VALUE;
+					}
+					sendRequestToControlValue(commandNames.MUTE, mute.getBytes(StandardCharsets.UTF_8), false, value);
+					localPropertyStore.putNumber(LgLCDConstants.MUTE, Integer.parseInt(mute));
+					break;
+				case BACKLIGHT:
+					dataConvert = Integer.toHexString((int) Float.parseFloat(value));
+					sendRequestToControlValue(commandNames.BACKLIGHT, dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					String backlight = String.valueOf((int) Float.parseFloat(value));
+					stats.put(group + LgLCDConstants.BACKLIGHT_VALUE, backlight);
+					updateCachedDeviceData(LgLCDConstants.BACKLIGHT, backlight);
+					break;
+				case INPUT_SELECT:
+					dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, true);
+					try {
+						sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					} catch (Exception e) {
+						dataConvert = InputSourceDropdown.getValueOfEnumByNameAndType(value, false);
+						sendRequestToControlValue(commandNames.INPUT_SELECT, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					}
+					String inputSelect = getValueByName(LgLCDConstants.INPUT_SELECT);
+					stats.put(LgLCDConstants.INPUT_SELECT, inputSelect);
+					readAfterControl(LgControllingCommand.SYNC_STATUS, commandNames.SYNC_STATUS_PARAM, lgControllingCommand);
+					String signal = getValueByName(LgLCDConstants.SIGNAL);
+					stats.put(LgLCDConstants.SIGNAL, signal);
+					stats.put(group + LgLCDConstants.SIGNAL, signal);
+					updateCachedDeviceData(LgLCDConstants.SIGNAL, signal);
+					updateCachedDeviceData(LgLCDConstants.INPUT_SELECT, inputSelect);
+					break;
+				case POWER_MANAGEMENT_MODE:
+					dataConvert = LgLCDConstants.BYTE_COMMAND + EnumTypeHandler.getValueOfEnumByName(PowerManagementModeEnum.class, value);
+					sendRequestToControlValue(commandNames.POWER_MANAGEMENT_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.POWER_MANAGEMENT_MODE, value);
+					break;
+				case DISPLAY_STAND_BY_MODE:
+					dataConvert = EnumTypeHandler.getValueOfEnumByName(PowerManagement.class, value);
+					sendRequestToControlValue(commandNames.DISPLAY_STAND_BY_MODE, dataConvert.getBytes(StandardCharsets.UTF_8), true, value);
+					if (LgLCDConstants.OFF.equalsIgnoreCase(value)) {
+						stats.put(LgLCDConstants.DISPLAY_STAND_BY_MODE, LgLCDConstants.OFF);
+					} else {
+						stats.put(LgLCDConstants.DISPLAY_STAND_BY_MODE, LgLCDConstants.ON);
+					}
+					updateCachedDeviceData(LgLCDConstants.DISPLAY_STAND_BY_MODE, value);
+					break;
+				case FAILOVER:
+					String inputPriority = group + LgLCDConstants.INPUT_PRIORITY;
+					String priorityInput = group + LgLCDConstants.PRIORITY_INPUT;
+					String priorityInputDown = group + LgLCDConstants.PRIORITY_DOWN;
+					String priorityInputUp = group + LgLCDConstants.PRIORITY_UP;
+					int failOverStatus = Integer.parseInt(value);
+					String failOverName = LgLCDConstants.OFF;
+					if (failOverStatus == LgLCDConstants.ZERO) {
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.OFF.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+						//Remove all priority 0,1,2,3.etc, priorityInput, and inputPriority.
+						stats.remove(inputPriority);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(inputPriority));
+
+						stats.remove(priorityInput);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
+
+						stats.remove(priorityInputDown);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
+
+						stats.remove(priorityInputUp);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
+
+						for (int i = 0; i < priorityInputs.size(); i++) {
+							stats.remove(LgLCDPropertyKeys.getFailOverPriority(i));
 						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.DISPLAY_STAND_BY_MODE, value);
-						break;
-					case FAILOVER:
-						String inputPriority = group + LgLCDConstants.INPUT_PRIORITY;
-						String priorityInput = group + LgLCDConstants.PRIORITY_INPUT;
-						String priorityInputDown = group + LgLCDConstants.PRIORITY_DOWN;
-						String priorityInputUp = group + LgLCDConstants.PRIORITY_UP;
-						int failOverStatus = Integer.parseInt(value);
-						String failOverName = LgLCDConstants.OFF;
-						if (failOverStatus == LgLCDConstants.ZERO) {
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.OFF.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-							//Remove all priority 0,1,2,3.etc, priorityInput, and inputPriority.
-							stats.remove(inputPriority);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(inputPriority));
-
-							stats.remove(priorityInput);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
-
-							stats.remove(priorityInputDown);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
-
-							stats.remove(priorityInputUp);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
-
-							if (cacheMapOfPriorityInputAndValue != null) {
-								for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
-									stats.remove(group + input.getKey());
-								}
-							}
-						} else if (failOverStatus == LgLCDConstants.NUMBER_ONE) {
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-							updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
-
-							AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgLCDConstants.INPUT_PRIORITY, String.valueOf(LgLCDConstants.ZERO),
-									LgLCDConstants.AUTO,
-									LgLCDConstants.MANUAL);
-							checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
-							failOverName = LgLCDConstants.AUTO;
+					} else if (failOverStatus == LgLCDConstants.NUMBER_ONE) {
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+						updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+
+						AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgLCDConstants.INPUT_PRIORITY, String.valueOf(LgLCDConstants.ZERO),
+								LgLCDConstants.AUTO,
+								LgLCDConstants.MANUAL);
+						checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
+						failOverName = LgLCDConstants.AUTO;
+					}
+					stats.put(LgLCDConstants.FAILOVER_MODE, failOverName);
+					updateCachedDeviceData(LgLCDConstants.FAILOVER_MODE, failOverName);
+					break;
+				case INPUT_PRIORITY:
+					String failoverStatus = LgLCDConstants.AUTO;
+					if (String.valueOf(LgLCDConstants.ZERO).equals(value)) {
+						for (int i = 0; i < priorityInputs.size(); i++) {
+							stats.remove(LgLCDPropertyKeys.getFailOverPriority(i));
 						}
-						stats.put(LgLCDConstants.FAILOVER_MODE, failOverName);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.FAILOVER_MODE, failOverName);
-						break;
-					case INPUT_PRIORITY:
-						String failoverStatus = LgLCDConstants.AUTO;
-						if (String.valueOf(LgLCDConstants.ZERO).equals(value)) {
-							if (cacheMapOfPriorityInputAndValue != null) {
-								for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
-									stats.remove(group + input.getKey());
-								}
-							}
-							priorityInputDown = group + LgLCDConstants.PRIORITY_DOWN;
-							priorityInputUp = group + LgLCDConstants.PRIORITY_UP;
-							priorityInput = group + LgLCDConstants.PRIORITY_INPUT;
-
-							stats.remove(priorityInputDown);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
-
-							stats.remove(priorityInputUp);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
-
-							stats.remove(priorityInput);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
-
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-						} else {
-							failoverStatus = LgLCDConstants.MANUAL;
-							sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.MANUAL.getValue().getBytes(StandardCharsets.UTF_8), false, value);
-							retrieveDataByCommandName(commandNames.FAILOVER_INPUT_LIST, commandNames.GET, lgControllingCommand);
-							// failover is Manual
-							AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgLCDConstants.INPUT_PRIORITY, String.valueOf(LgLCDConstants.NUMBER_ONE), LgLCDConstants.AUTO,
-									LgLCDConstants.MANUAL);
-							checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
-							for (Entry<String, String> entry : cacheMapOfPriorityInputAndValue.entrySet()) {
-								if (LgLCDConstants.PLAY_VIA_URL.equalsIgnoreCase(entry.getValue())) {
-									continue;
-								}
-								stats.put(group + entry.getKey(), entry.getValue());
-							}
-							stats.put(group + LgLCDConstants.PRIORITY_UP, LgLCDConstants.EMPTY_STRING);
-							advancedControllableProperties.add(createButton(group + LgLCDConstants.PRIORITY_UP, LgLCDConstants.UP, LgLCDConstants.PROCESSING, 0));
+						priorityInputDown = group + LgLCDConstants.PRIORITY_DOWN;
+						priorityInputUp = group + LgLCDConstants.PRIORITY_UP;
+						priorityInput = group + LgLCDConstants.PRIORITY_INPUT;
 
-							stats.put(group + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.EMPTY_STRING);
-							advancedControllableProperties.add(createButton(group + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.DOWN, LgLCDConstants.PROCESSING, 0));
+						stats.remove(priorityInputDown);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
 
-							String[] inputSelected = cacheMapOfPriorityInputAndValue.values().stream().filter(item -> !item.equalsIgnoreCase(LgLCDConstants.PLAY_VIA_URL)).collect(Collectors.toList())
-									.toArray(new String[0]);
+						stats.remove(priorityInputUp);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
 
-							String inputSourceDefaultValue = getValueByName(LgLCDConstants.PRIORITY_INPUT);
-							if (!LgLCDConstants.NA.equals(inputSourceDefaultValue)) {
-								Optional<Entry<String, String>> priorityInputOption = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> !item.getValue().equalsIgnoreCase(LgLCDConstants.PLAY_VIA_URL))
-										.findFirst();
-								if (priorityInputOption.isPresent()) {
-									inputSourceDefaultValue = priorityInputOption.get().getValue();
-								}
-								localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.PRIORITY_INPUT, inputSourceDefaultValue);
-							}
-							populatePriorityInput(stats, advancedControllableProperties, group, inputSourceDefaultValue);
-							AdvancedControllableProperty controlInputSource = controlDropdown(stats, inputSelected, group + LgLCDConstants.PRIORITY_INPUT, inputSourceDefaultValue);
-							checkControlPropertyBeforeAddNewProperty(controlInputSource, advancedControllableProperties);
-						}
-						stats.put(LgLCDConstants.FAILOVER_MODE, failoverStatus);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.FAILOVER_MODE, failoverStatus);
-						break;
-					case PRIORITY_INPUT:
-						localCacheMapOfPropertyNameAndValue.remove(LgLCDConstants.PRIORITY_INPUT);
-						localCacheMapOfPropertyNameAndValue.put(propertyKey, value);
-						populatePriorityInput(stats, advancedControllableProperties, group, value);
-						break;
-					case PRIORITY_DOWN:
-						String currentPriority = getValueByName(LgLCDConstants.PRIORITY_INPUT);
-						Map<String, String> newPriorityMap = new HashMap<>();
-						Entry<String, String> priorityKey = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> item.getValue().equals(currentPriority)).findFirst().orElse(null);
-						int len = cacheMapOfPriorityInputAndValue.size();
-						for (int i = 1; i <= len; i++) {
-							String currentKeyOfPriority = LgLCDConstants.PRIORITY + i;
-							String previousKeyOfPriority = LgLCDConstants.PRIORITY + (i - 1);
-							String nextKeyOfPriority = LgLCDConstants.PRIORITY + (i + 1);
-							if (currentPriority.equals(cacheMapOfPriorityInputAndValue.get(LgLCDConstants.PRIORITY + len))) {
-								break;
-							} else {
-								if (priorityKey.getKey().equals(currentKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(nextKeyOfPriority));
-								} else if (priorityKey.getKey().equals(previousKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(previousKeyOfPriority));
-								} else {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(currentKeyOfPriority));
-								}
-							}
-						}
-						if (!newPriorityMap.isEmpty()) {
-							if (StringUtils.isNullOrEmpty(newPriorityMap.get(LgLCDConstants.PRIORITY + newPriorityMap.size()))) {
-								newPriorityMap.remove(LgLCDConstants.PRIORITY + newPriorityMap.size());
-							}
-							cacheMapOfPriorityInputAndValue = newPriorityMap;
-						}
-						StringBuilder stringBuilder = new StringBuilder();
-						for (String values : cacheMapOfPriorityInputAndValue.values()) {
-							if (StringUtils.isNullOrEmpty(values) || LgLCDConstants.PLAY_VIA_URL.equalsIgnoreCase(values)) {
-								continue;
-							}
-							stringBuilder.append(EnumTypeHandler.getValueOfEnumByName(FailOverInputSourceEnum.class, values));
-							stringBuilder.append(LgLCDConstants.SPACE);
-						}
-						sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, stringBuilder.substring(0, stringBuilder.length() - 1).getBytes(StandardCharsets.UTF_8), false, value);
-						for (Entry<String, String> input : cacheMapOfPriorityInputAndValue.entrySet()) {
-							stats.put(group + input.getKey(), input.getValue());
-						}
-						populatePriorityInput(stats, advancedControllableProperties, group, currentPriority);
-						break;
-					case PRIORITY_UP:
-						currentPriority = getValueByName(LgLCDConstants.PRIORITY_INPUT);
-						newPriorityMap = new HashMap<>();
-						priorityKey = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> item.getValue().equals(currentPriority)).findFirst().orElse(null);
-						len = cacheMapOfPriorityInputAndValue.size();
-						for (int i = 1; i <= len; i++) {
-							String currentKeyOfPriority = LgLCDConstants.PRIORITY + i;
-							String previousKeyOfPriority = LgLCDConstants.PRIORITY + (i - 1);
-							String nextKeyOfPriority = LgLCDConstants.PRIORITY + (i + 1);
-							if (currentPriority.equals(cacheMapOfPriorityInputAndValue.get(LgLCDConstants.PRIORITY + 1))) {
-								break;
-							} else {
-								if (priorityKey.getKey().equals(nextKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(nextKeyOfPriority));
-								} else if (priorityKey.getKey().equals(currentKeyOfPriority)) {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(previousKeyOfPriority));
-								} else {
-									newPriorityMap.put(currentKeyOfPriority, cacheMapOfPriorityInputAndValue.get(currentKeyOfPriority));
-								}
-							}
-						}
-						if (!newPriorityMap.isEmpty()) {
-							if (StringUtils.isNullOrEmpty(newPriorityMap.get(LgLCDConstants.PRIORITY + newPriorityMap.size()))) {
-								newPriorityMap.remove(LgLCDConstants.PRIORITY + newPriorityMap.size());
-							}
-							cacheMapOfPriorityInputAndValue = newPriorityMap;
-						}
-						stringBuilder = new StringBuilder();
-						for (String values : cacheMapOfPriorityInputAndValue.values()) {
-							if (StringUtils.isNullOrEmpty(values) || LgLCDConstants.PLAY_VIA_URL.equalsIgnoreCase(values)) {
-								continue;
-							}
-							stringBuilder.append(EnumTypeHandler.getValueOfEnumByName(FailOverInputSourceEnum.class, values));
-							stringBuilder.append(LgLCDConstants.SPACE);
-						}
-						sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, stringBuilder.substring(0, stringBuilder.length() - 1).getBytes(StandardCharsets.UTF_8), false, value);
-						for (Entry<String, String> entry : cacheMapOfPriorityInputAndValue.entrySet()) {
-							if (LgLCDConstants.PLAY_VIA_URL.equalsIgnoreCase(entry.getValue())) {
-								continue;
+						stats.remove(priorityInput);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInput));
+
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.AUTO.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+					} else {
+						failoverStatus = LgLCDConstants.MANUAL;
+						sendRequestToControlValue(commandNames.FAILOVER, FailOverEnum.MANUAL.getValue().getBytes(StandardCharsets.UTF_8), false, value);
+						retrieveDataByCommandName(commandNames.FAILOVER_INPUT_LIST, commandNames.GET, lgControllingCommand);
+						// failover is Manual
+						AdvancedControllableProperty controlInputPriority = controlSwitch(stats, group + LgLCDConstants.INPUT_PRIORITY, String.valueOf(LgLCDConstants.NUMBER_ONE), LgLCDConstants.AUTO,
+								LgLCDConstants.MANUAL);
+						checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
+						String[] inputSelected = populatePriorityList(stats);
+						stats.put(group + LgLCDConstants.PRIORITY_UP, LgLCDConstants.EMPTY_STRING);
+						advancedControllableProperties.add(createButton(group + LgLCDConstants.PRIORITY_UP, LgLCDConstants.UP, LgLCDConstants.PROCESSING, 0));
+
+						stats.put(group + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.EMPTY_STRING);
+						advancedControllableProperties.add(createButton(group + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.DOWN, LgLCDConstants.PROCESSING, 0));
+
+						String inputSourceDefaultValue = getValueByName(LgLCDConstants.PRIORITY_INPUT);
+						if (!LgLCDConstants.NA.equals(inputSourceDefaultValue)) {
+							if (inputSelected.length > 0) {
+								inputSourceDefaultValue = inputSelected[0];
 							}
-							stats.remove(group + entry.getKey());
-							stats.put(group + entry.getKey(), entry.getValue());
+							localPropertyStore.put(LgLCDConstants.PRIORITY_INPUT, inputSourceDefaultValue);
 						}
-						populatePriorityInput(stats, advancedControllableProperties, group, currentPriority);
-						break;
-					case TILE_MODE:
-						String tileModeValue = LgLCDConstants.OFF;
-						String naturalModeKey = group + LgLCDConstants.NATURAL_MODE;
-						String naturalSize = group + LgLCDConstants.NATURAL_SIZE;
-						String tileID = group + LgLCDConstants.TILE_MODE_ID;
-						String paramTileMode;
-						if (String.valueOf(LgLCDConstants.ZERO).equals(value)) {
-							stats.remove(naturalModeKey);
-							stats.remove(naturalSize);
-							stats.remove(tileID);
-							advancedControllableProperties.removeIf(item -> item.getName().equals(naturalModeKey));
-							paramTileMode = String.valueOf(LgLCDConstants.ZERO) + LgLCDConstants.ZERO;
-							sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
-						} else {
-							tileModeValue = LgLCDConstants.ON;
-							retrieveDataByCommandName(commandNames.TILE_MODE_SETTINGS, commandNames.GET, lgControllingCommand);
-							paramTileMode =
-									Integer.toHexString(Integer.parseInt(stats.get(group + LgLCDConstants.TILE_MODE_COLUMN))) + Integer.toHexString(Integer.parseInt(stats.get(group + LgLCDConstants.TILE_MODE_ROW)));
-							sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
-							retrieveDataByCommandName(commandNames.NATURAL_MODE, commandNames.GET, lgControllingCommand);
-							String naturalMode = getValueByName(LgLCDConstants.NATURAL_MODE);
-							if (!LgLCDConstants.NA.equals(naturalMode)) {
-								naturalMode = String.valueOf(LgLCDConstants.ZERO == Integer.parseInt(naturalMode) ? 0 : 1);
-							}
-							AdvancedControllableProperty controlNaturalMode = controlSwitch(stats, group + LgLCDConstants.NATURAL_MODE, naturalMode, LgLCDConstants.OFF, LgLCDConstants.ON);
-							checkControlPropertyBeforeAddNewProperty(controlNaturalMode, advancedControllableProperties);
-							if (String.valueOf(LgLCDConstants.NUMBER_ONE).equals(naturalMode)) {
-								retrieveDataByCommandName(commandNames.NATURAL_SIZE, commandNames.NATURAL_SIZE_PARAM, lgControllingCommand);
-								stats.put(group + LgLCDConstants.NATURAL_SIZE, getValueByName(LgLCDConstants.NATURAL_SIZE));
-							}
-							retrieveDataByCommandName(commandNames.TILE_ID, commandNames.GET, lgControllingCommand);
-							String tileModeID = getValueByName(LgLCDConstants.TILE_MODE_ID);
-							if (!LgLCDConstants.NA.equals(tileModeID)) {
-								tileModeID = String.valueOf(Integer.parseInt(tileModeID));
-							}
-							stats.put(group + LgLCDConstants.TILE_MODE_ID, tileModeID);
+						populatePriorityInput(stats, advancedControllableProperties, inputSourceDefaultValue);
+						AdvancedControllableProperty controlInputSource = controlDropdown(stats, inputSelected, group + LgLCDConstants.PRIORITY_INPUT, inputSourceDefaultValue);
+						checkControlPropertyBeforeAddNewProperty(controlInputSource, advancedControllableProperties);
+					}
+					stats.put(LgLCDConstants.FAILOVER_MODE, failoverStatus);
+					updateCachedDeviceData(LgLCDConstants.FAILOVER_MODE, failoverStatus);
+					break;
+				case PRIORITY_INPUT:
+					localPropertyStore.remove(LgLCDConstants.PRIORITY_INPUT);
+					localPropertyStore.put(propertyKey, value);
+					populatePriorityInput(stats, advancedControllableProperties, value);
+					break;
+				case PRIORITY_DOWN:
+					String currentPriority = getValueByName(LgLCDConstants.PRIORITY_INPUT);
+					int priority = priorityInputs.indexOf(currentPriority);
+					priorityInputs.swap(priority, priority + 1);
+					String inputList = priorityInputs.getCodes();
+					sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, inputList.getBytes(StandardCharsets.UTF_8), false, value);
+					updateCachedDeviceData(LgLCDConstants.FAILOVER_INPUT_LIST, inputList);
+					populatePriorityList(stats);
+					populatePriorityInput(stats, advancedControllableProperties, currentPriority);
+					break;
+				case PRIORITY_UP:
+					currentPriority = getValueByName(LgLCDConstants.PRIORITY_INPUT);
+					priority = priorityInputs.indexOf(currentPriority);
+					priorityInputs.swap(priority, priority - 1);
+					inputList = priorityInputs.getCodes();
+					sendRequestToControlValue(commandNames.FAILOVER_INPUT_LIST, inputList.getBytes(StandardCharsets.UTF_8), false, value);
+					updateCachedDeviceData(LgLCDConstants.FAILOVER_INPUT_LIST, inputList);
+					populatePriorityList(stats);
+					populatePriorityInput(stats, advancedControllableProperties, currentPriority);
+					break;
+				case TILE_MODE:
+					String tileModeValue = LgLCDConstants.OFF;
+					String naturalModeKey = group + LgLCDConstants.NATURAL_MODE;
+					String naturalSize = group + LgLCDConstants.NATURAL_SIZE;
+					String tileID = group + LgLCDConstants.TILE_MODE_ID;
+					String paramTileMode;
+					if (String.valueOf(LgLCDConstants.ZERO).equals(value)) {
+						stats.remove(naturalModeKey);
+						stats.remove(naturalSize);
+						stats.remove(tileID);
+						advancedControllableProperties.removeIf(item -> item.getName().equals(naturalModeKey));
+						paramTileMode = String.valueOf(LgLCDConstants.ZERO) + LgLCDConstants.ZERO;
+						sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
+					} else {
+						tileModeValue = LgLCDConstants.ON;
+						retrieveDataByCommandName(commandNames.TILE_MODE_SETTINGS, commandNames.GET, lgControllingCommand);
+						paramTileMode =
+								Integer.toHexString(Integer.parseInt(stats.get(group + LgLCDConstants.TILE_MODE_COLUMN))) + Integer.toHexString(Integer.parseInt(stats.get(group + LgLCDConstants.TILE_MODE_ROW)));
+						sendRequestToControlValue(commandNames.TILE_MODE_CONTROL, paramTileMode.getBytes(StandardCharsets.UTF_8), false, value);
+						readAfterControl(LgControllingCommand.NATURAL_MODE, commandNames.GET, lgControllingCommand);
+						String naturalMode = getValueByName(LgLCDConstants.NATURAL_MODE);
+						if (!LgLCDConstants.NA.equals(naturalMode)) {
+							naturalMode = String.valueOf(LgLCDConstants.ZERO == Integer.parseInt(naturalMode) ? 0 : 1);
 						}
-						stats.put(LgLCDConstants.TILE_MODE, tileModeValue);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE, tileModeValue);
-						break;
-					case NATURAL_MODE:
-						naturalSize = group + LgLCDConstants.NATURAL_SIZE;
-						String paramNatural = String.valueOf(LgLCDConstants.ZERO);
-						if (String.valueOf(LgLCDConstants.ZERO).equals(value)) {
-							stats.remove(naturalSize);
-							paramNatural = paramNatural + LgLCDConstants.ZERO;
-							sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
-						} else {
-							paramNatural = paramNatural + LgLCDConstants.NUMBER_ONE;
-							sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
-							retrieveDataByCommandName(commandNames.NATURAL_SIZE, commandNames.NATURAL_SIZE_PARAM, lgControllingCommand);
+						AdvancedControllableProperty controlNaturalMode = controlSwitch(stats, group + LgLCDConstants.NATURAL_MODE, naturalMode, LgLCDConstants.OFF, LgLCDConstants.ON);
+						checkControlPropertyBeforeAddNewProperty(controlNaturalMode, advancedControllableProperties);
+						if (String.valueOf(LgLCDConstants.NUMBER_ONE).equals(naturalMode)) {
+							readAfterControl(LgControllingCommand.NATURAL_SIZE, commandNames.NATURAL_SIZE_PARAM, lgControllingCommand);
 							stats.put(group + LgLCDConstants.NATURAL_SIZE, getValueByName(LgLCDConstants.NATURAL_SIZE));
 						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NATURAL_MODE, String.valueOf(Integer.parseInt(paramNatural)));
-						break;
-					case BALANCE:
-						String balance = EnumTypeHandler.getValueOfEnumByName(Balance.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), balance.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BALANCE, balance);
-						break;
-					case BRIGHTNESS:
-						int brightness = (int) Float.parseFloat(value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(brightness).getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgLCDConstants.BRIGHTNESS_VALUE, String.valueOf(brightness));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BRIGHTNESS_VALUE, String.valueOf(brightness));
-						break;
-					case COLOR_TEMPERATURE:
-						int colorTemperature = (int) convertFromUIValueToApiValue(String.valueOf((int) Float.parseFloat(value)), LgLCDConstants.COLOR_TEMPERATURE_UI_MAX_VALUE,
-								LgLCDConstants.COLOR_TEMPERATURE_UI_MIN_VALUE);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(colorTemperature).getBytes(StandardCharsets.UTF_8), false, value);
-						int newValue = (int) convertFromApiValueToUIValue(String.valueOf(colorTemperature), LgLCDConstants.COLOR_TEMPERATURE_MAX_VALUE, LgLCDConstants.COLOR_TEMPERATURE_MIN_VALUE);
-						stats.put(group + LgLCDConstants.COLOR_TEMPERATURE_VALUE, String.valueOf(newValue));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.COLOR_TEMPERATURE, String.valueOf(colorTemperature));
-						break;
-					case CONTRAST:
-						int contrast = (int) Float.parseFloat(value);
-						dataConvert = Integer.toHexString(contrast);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgLCDConstants.CONTRAST_VALUE, String.valueOf(contrast));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.CONTRAST, String.valueOf(contrast));
-						break;
-					case SCREEN_COLOR:
-						int screenColor = (int) Float.parseFloat(value);
-						dataConvert = Integer.toHexString(screenColor);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgLCDConstants.SCREEN_COLOR_VALUE, String.valueOf(screenColor));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SCREEN_COLOR, String.valueOf(screenColor));
-						break;
-					case SHARPNESS:
-						int sharpness = (int) Float.parseFloat(value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(sharpness).getBytes(StandardCharsets.UTF_8), false, value);
-						stats.put(group + LgLCDConstants.SHARPNESS_VALUE, String.valueOf(sharpness));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SHARPNESS, String.valueOf(sharpness));
-						break;
-					case TINT:
-						String tint = EnumTypeHandler.getValueOfEnumByName(Tint.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), tint.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TINT, tint);
-						break;
-					case ASPECT_RATIO:
-						String aspectRatio = EnumTypeHandler.getValueOfEnumByName(AspectRatio.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), aspectRatio.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.ASPECT_RATIO, value);
-						break;
-					case BRIGHTNESS_CONTROL:
-						String brightnessSize = EnumTypeHandler.getValueOfEnumByName(BrightnessSize.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), brightnessSize.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BRIGHTNESS_CONTROL, value);
-						break;
-					case LANGUAGE:
-						String language = EnumTypeHandler.getValueOfEnumByName(Language.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), language.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.LANGUAGE, value);
-						break;
-					case SOUND_MODE:
-						String soundMode = EnumTypeHandler.getValueOfEnumByName(SoundMode.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), soundMode.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SOUND_MODE, value);
-						break;
-					case PICTURE_MODE:
-						String pictureMode = EnumTypeHandler.getValueOfEnumByName(PictureMode.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), pictureMode.getBytes(StandardCharsets.UTF_8), true, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.PICTURE_MODE, pictureMode);
-						break;
-					case POWER_ON_STATUS:
-						String powerStatus = EnumTypeHandler.getValueOfEnumByName(PowerStatus.class, value);
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerStatus.getBytes(StandardCharsets.UTF_8), false, value);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.POWER_ON_STATUS, value);
-						break;
-					case NO_IR_POWER_OFF:
-					case NO_SIGNAL_POWER_OFF:
-						String powerValue = String.valueOf(LgLCDConstants.ZERO) + LgLCDConstants.ZERO;
-						if (String.valueOf(LgLCDConstants.NUMBER_ONE).equals(value)) {
-							powerValue = String.valueOf(LgLCDConstants.ZERO) + LgLCDConstants.NUMBER_ONE;
+						readAfterControl(LgControllingCommand.TILE_ID, commandNames.GET, lgControllingCommand);
+						String tileModeID = getValueByName(LgLCDConstants.TILE_MODE_ID);
+						if (!LgLCDConstants.NA.equals(tileModeID)) {
+							tileModeID = String.valueOf(Integer.parseInt(tileModeID));
 						}
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerValue.getBytes(StandardCharsets.UTF_8), false, value);
-						powerValue = Integer.parseInt(powerValue) == LgLCDConstants.ZERO ? LgLCDConstants.OFF : LgLCDConstants.ON;
-						if (lgControllingCommand.getName().equals(LgControllingCommand.NO_IR_POWER_OFF.getName())) {
-							updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NO_IR_POWER_OFF, powerValue);
-						} else {
-							updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NO_SIGNAL_POWER_OFF, powerValue);
-						}
-						break;
-					case REBOOT:
-						String rebootValue = LgLCDConstants.REBOOT_VALUE;
-						sendRequestToControlValue(lgControllingCommand.getCommandNames(), rebootValue.getBytes(StandardCharsets.UTF_8), false, rebootValue);
-						break;
-					default:
-						logger.debug(String.format("Property name %s doesn't support", propertyKey));
-				}
+						stats.put(group + LgLCDConstants.TILE_MODE_ID, tileModeID);
+					}
+					stats.put(LgLCDConstants.TILE_MODE, tileModeValue);
+					updateCachedDeviceData(LgLCDConstants.TILE_MODE, tileModeValue);
+					break;
+				case NATURAL_MODE:
+					naturalSize = group + LgLCDConstants.NATURAL_SIZE;
+					String paramNatural = String.valueOf(LgLCDConstants.ZERO);
+					if (String.valueOf(LgLCDConstants.ZERO).equals(value)) {
+						stats.remove(naturalSize);
+						paramNatural = paramNatural + LgLCDConstants.ZERO;
+						sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
+					} else {
+						paramNatural = paramNatural + LgLCDConstants.NUMBER_ONE;
+						sendRequestToControlValue(commandNames.NATURAL_MODE, paramNatural.getBytes(StandardCharsets.UTF_8), false, value);
+						readAfterControl(LgControllingCommand.NATURAL_SIZE, commandNames.NATURAL_SIZE_PARAM, lgControllingCommand);
+						stats.put(group + LgLCDConstants.NATURAL_SIZE, getValueByName(LgLCDConstants.NATURAL_SIZE));
+					}
+					localPropertyStore.putNumber(LgLCDConstants.NATURAL_MODE, Integer.parseInt(paramNatural));
+					break;
+				case BALANCE:
+					String balance = EnumTypeHandler.getValueOfEnumByName(Balance.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), balance.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.BALANCE, balance);
+					break;
+				case BRIGHTNESS:
+					int brightness = (int) Float.parseFloat(value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(brightness).getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgLCDConstants.BRIGHTNESS_VALUE, String.valueOf(brightness));
+					localPropertyStore.putNumber(LgLCDConstants.BRIGHTNESS_VALUE, brightness);
+					break;
+				case COLOR_TEMPERATURE:
+					int colorTemperature = (int) convertFromUIValueToApiValue(String.valueOf((int) Float.parseFloat(value)), LgLCDConstants.COLOR_TEMPERATURE_UI_MAX_VALUE,
+							LgLCDConstants.COLOR_TEMPERATURE_UI_MIN_VALUE);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(colorTemperature).getBytes(StandardCharsets.UTF_8), false, value);
+					int newValue = (int) convertFromApiValueToUIValue(String.valueOf(colorTemperature), LgLCDConstants.COLOR_TEMPERATURE_MAX_VALUE, LgLCDConstants.COLOR_TEMPERATURE_MIN_VALUE);
+					stats.put(group + LgLCDConstants.COLOR_TEMPERATURE_VALUE, String.valueOf(newValue));
+					localPropertyStore.putNumber(LgLCDConstants.COLOR_TEMPERATURE, colorTemperature);
+					break;
+				case CONTRAST:
+					int contrast = (int) Float.parseFloat(value);
+					dataConvert = Integer.toHexString(contrast);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgLCDConstants.CONTRAST_VALUE, String.valueOf(contrast));
+					localPropertyStore.putNumber(LgLCDConstants.CONTRAST, contrast);
+					break;
+				case SCREEN_COLOR:
+					int screenColor = (int) Float.parseFloat(value);
+					dataConvert = Integer.toHexString(screenColor);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), dataConvert.getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgLCDConstants.SCREEN_COLOR_VALUE, String.valueOf(screenColor));
+					localPropertyStore.putNumber(LgLCDConstants.SCREEN_COLOR, screenColor);
+					break;
+				case SHARPNESS:
+					int sharpness = (int) Float.parseFloat(value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), Integer.toHexString(sharpness).getBytes(StandardCharsets.UTF_8), false, value);
+					stats.put(group + LgLCDConstants.SHARPNESS_VALUE, String.valueOf(sharpness));
+					localPropertyStore.putNumber(LgLCDConstants.SHARPNESS, sharpness);
+					break;
+				case TINT:
+					String tint = EnumTypeHandler.getValueOfEnumByName(Tint.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), tint.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.TINT, tint);
+					break;
+				case ASPECT_RATIO:
+					String aspectRatio = EnumTypeHandler.getValueOfEnumByName(AspectRatio.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), aspectRatio.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.ASPECT_RATIO, value);
+					break;
+				case BRIGHTNESS_CONTROL:
+					String brightnessSize = EnumTypeHandler.getValueOfEnumByName(BrightnessSize.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), brightnessSize.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.BRIGHTNESS_CONTROL, value);
+					break;
+				case LANGUAGE:
+					String language = EnumTypeHandler.getValueOfEnumByName(Language.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), language.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.LANGUAGE, value);
+					break;
+				case SOUND_MODE:
+					String soundMode = EnumTypeHandler.getValueOfEnumByName(SoundMode.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), soundMode.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.SOUND_MODE, value);
+					break;
+				case PICTURE_MODE:
+					String pictureMode = EnumTypeHandler.getValueOfEnumByName(PictureMode.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), pictureMode.getBytes(StandardCharsets.UTF_8), true, value);
+					updateCachedDeviceData(LgLCDConstants.PICTURE_MODE, pictureMode);
+					break;
+				case POWER_ON_STATUS:
+					String powerStatus = EnumTypeHandler.getValueOfEnumByName(PowerStatus.class, value);
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerStatus.getBytes(StandardCharsets.UTF_8), false, value);
+					updateCachedDeviceData(LgLCDConstants.POWER_ON_STATUS, value);
+					break;
+				case NO_IR_POWER_OFF:
+				case NO_SIGNAL_POWER_OFF:
+					String powerValue = String.valueOf(LgLCDConstants.ZERO) + LgLCDConstants.ZERO;
+					if (String.valueOf(LgLCDConstants.NUMBER_ONE).equals(value)) {
+						powerValue = String.valueOf(LgLCDConstants.ZERO) + LgLCDConstants.NUMBER_ONE;
+					}
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), powerValue.getBytes(StandardCharsets.UTF_8), false, value);
+					powerValue = Integer.parseInt(powerValue) == LgLCDConstants.ZERO ? LgLCDConstants.OFF : LgLCDConstants.ON;
+					if (lgControllingCommand.getName().equals(LgControllingCommand.NO_IR_POWER_OFF.getName())) {
+						updateCachedDeviceData(LgLCDConstants.NO_IR_POWER_OFF, powerValue);
+					} else {
+						updateCachedDeviceData(LgLCDConstants.NO_SIGNAL_POWER_OFF, powerValue);
+					}
+					break;
+				case REBOOT:
+					String rebootValue = LgLCDConstants.REBOOT_VALUE;
+					sendRequestToControlValue(lgControllingCommand.getCommandNames(), rebootValue.getBytes(StandardCharsets.UTF_8), false, rebootValue);
+					break;
+				default:
+					logger.debug(String.format("Property name %s doesn't support", propertyKey));
 			}
-			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
-		} finally {
-			reentrantLock.unlock();
 		}
+		updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+		publishControlledStatistics(publishedStatistics, stats, advancedControllableProperties);
+	}
+
+	/**
+	 * Publish the statistics derived by a control from the published ones
+	 *
+	 * @param publishedStatistics the publishedStatistics are statistics the control started from
+	 * @param stats the stats are statistics with the changes of the control
+	 * @param advancedControllableProperties the advancedControllableProperties are controls with the changes of the control
+	 */
+	private void publishControlledStatistics(ExtendedStatistics publishedStatistics, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(stats);
+		if (publishedStatistics.getDynamicStatistics() != null) {
+			extendedStatistics.setDynamicStatistics(new HashMap<>(publishedStatistics.getDynamicStatistics()));
+		}
+		extendedStatistics.setControllableProperties(advancedControllableProperties);
+		publishStatistics(extendedStatistics);
+	}
+
+	/**
+	 * Publish statistics, they are read only from now on
+	 *
+	 * @param extendedStatistics the extendedStatistics are statistics to publish
+	 */
+	private void publishStatistics(ExtendedStatistics extendedStatistics) {
+		if (extendedStatistics.getStatistics() != null) {
+			extendedStatistics.setStatistics(Collections.unmodifiableMap(extendedStatistics.getStatistics()));
+		}
+		if (extendedStatistics.getDynamicStatistics() != null) {
+			extendedStatistics.setDynamicStatistics(Collections.unmodifiableMap(extendedStatistics.getDynamicStatistics()));
+		}
+		if (extendedStatistics.getControllableProperties() != null) {
+			extendedStatistics.setControllableProperties(Collections.unmodifiableList(extendedStatistics.getControllableProperties()));
+		}
+		localExtendedStatistics.set(extendedStatistics);
+	}
+
+	/**
+	 * Get the slider command of a control whose requests are coalesced, the controls of the video wall are sent as requested
+	 *
+	 * @param property the property is name of the controlled property
+	 * @return LgControllingCommand of the slider, null if the requests of the control are not coalesced
+	 */
+	private LgControllingCommand getCoalescedCommand(String property) {
+		if (controlCoalescingWindowInMs <= 0) {
+			return null;
+		}
+		LgControllingCommand command = LgLCDControlBatch.getCommand(property);
+		return COALESCED_CONTROLS.contains(command) ? command : null;
 	}
 
 	/**
@@ -894,63 +1769,516 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
 		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
 		Map<String, String> statistics = new HashMap<>();
-		Map<String, String> controlStatistics = new HashMap<>();
 		Map<String, String> dynamicStatistics = new HashMap<>();
-		reentrantLock.lock();
+		if (!reentrantLock.tryLock()) {
+			ExtendedStatistics publishedStatistics = localExtendedStatistics.get();
+			if (publishedStatistics != null) {
+				//A control holds the device, return the statistics published without waiting for it, the polling resumes on the next call
+				return Collections.singletonList(publishedStatistics);
+			}
+			reentrantLock.lock();
+		}
 		try {
-			if (localExtendedStatistics == null) {
-				localExtendedStatistics = new ExtendedStatistics();
+			if (localExtendedStatistics.get() == null) {
+				localExtendedStatistics.set(new ExtendedStatistics());
 			}
 			if (!isEmergencyDelivery) {
 				convertCacheLifetime();
 				convertDelayTime();
+				convertAdaptiveCoolDown();
+				convertAdapterMetrics();
 				convertConfigTimeout();
 				convertPollingInterval();
 				failedMonitor.clear();
 				convertConfigManagement();
+				convertPersistentConnection();
+				convertPipelineWindow();
+				convertControlCoalescingWindow();
+				convertOptimisticControl();
+				convertPeriodicRefreshInterval();
+				convertWallSetIDs();
+				convertPollingPriority();
 				//Use thread to fetching the monitoring and controlling data if connected with the device successfully
 				populateMonitoringAndControllingData();
-				//destroy channel after collecting all device's information
-				destroyChannel();
+				//destroy channel after collecting all device's information, the persistent connection is kept until it is idle
+				if (!isPersistentConnection) {
+					destroyChannel();
+				}
 				if (!isFirstInit && currentGetMultipleInPollingInterval < pollingIntervalInIntValue) {
-					return Collections.singletonList(localExtendedStatistics);
+					if (snapshotTimestamp > 0) {
+						publishSnapshotStatistics();
+					} else if (isFirstPassAfterInit) {
+						publishFirstPassStatistics();
+					}
+					return Collections.singletonList(localExtendedStatistics.get());
 				}
+				//The values of the snapshot and of the first paint are replaced by the statistics of a whole polling cycle from here
+				isFirstPassAfterInit = false;
+				snapshotTimestamp = 0;
 				//We will check if the value of localCachedFailedMonitor is greater than or equal to the value of currentCommandIndex,
 				// as we have 36 properties by default and if all options are enabled, then we have a total of 37 properties.
 				if (localCachedFailedMonitor >= currentCommandIndex && currentGetMultipleInPollingInterval == pollingIntervalInIntValue) {
 					//Handle the case where all properties receive an error response and the case where 2 connections run in parallel to the device
 					ping();
 					isFirstInit = false;
+					//The device may come back with a new firmware or network settings
+					lastRefreshTimestamps.clear();
 					statistics.put(LgLCDConstants.CONTROL_PROTOCOL_STATUS, LgLCDConstants.UNAVAILABLE);
-					countControlUnavailable++;
-					if (countControlUnavailable > currentCachingLifetime) {
-						localCacheMapOfPropertyNameAndValue.clear();
-						localCachingLifeTimeOfMap.clear();
+					isStatisticsPublished = false;
+					localPropertyStore.clearChanges();
+					long now = System.currentTimeMillis();
+					if (controlUnavailableTimestamp == 0) {
+						controlUnavailableTimestamp = now;
+					} else if (now - controlUnavailableTimestamp > TimeUnit.MINUTES.toMillis(currentCachingLifetime)) {
+						localPropertyStore.clear();
+						propertyCache.clear();
 					}
+				} else if (isPublishedStatisticsCurrent()) {
+					//Nothing read from the device changed since the last published cycle, keep publishing the same statistics and controls
+					isFirstInit = true;
+					controlUnavailableTimestamp = 0;
+					changedProperties = Collections.emptySet();
+					return Collections.singletonList(localExtendedStatistics.get());
 				} else {
 					isFirstInit = true;
-					populateMonitoringData(statistics, dynamicStatistics);
-					if (isConfigManagement) {
-						populateControllingData(controlStatistics, advancedControllableProperties);
-						extendedStatistics.setControllableProperties(advancedControllableProperties);
-						statistics.putAll(controlStatistics);
+					isStatisticsPublished = true;
+					//A value stored by a command completing while the statistics are built is published on the next polling cycle
+					List<String> changedValues = localPropertyStore.getChangedProperties();
+					localPropertyStore.clearChanges();
+					if (isSectionedStatisticsCurrent()) {
+						patchCachedStatistics(changedValues, statistics, dynamicStatistics, advancedControllableProperties);
 					} else {
-						statistics.remove(LgLCDConstants.INPUT + LgLCDConstants.HASH + LgLCDConstants.SIGNAL);
+						populateCachedStatistics(statistics, dynamicStatistics, advancedControllableProperties);
+						//If failed for all monitoring data
+						checkFailedCommand(statistics, advancedControllableProperties);
 					}
-					//If failed for all monitoring data
-					checkFailedCommand(statistics, advancedControllableProperties);
 					extendedStatistics.setDynamicStatistics(dynamicStatistics);
-					countControlUnavailable = 0;
+					controlUnavailableTimestamp = 0;
 				}
+				populateControlLatency(statistics);
+				populateAdapterMetrics(statistics);
+				trackChangedProperties(statistics, dynamicStatistics, advancedControllableProperties);
 				extendedStatistics.setStatistics(statistics);
 				extendedStatistics.setControllableProperties(advancedControllableProperties);
-				localExtendedStatistics = extendedStatistics;
+				publishStatistics(extendedStatistics);
+				//The statistics altered by a failed command are built again from every section once the command succeeds
+				sectionedStatistics = isStatisticsPublished && failedMonitor.isEmpty() ? extendedStatistics : null;
+				if (isStatisticsPublished) {
+					saveSnapshot(false);
+				}
+			}
+			isEmergencyDelivery = false;
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Collections.singletonList(localExtendedStatistics.get());
+	}
+
+	/**
+	 * Populate the statistics and controls from the values of {@link #localPropertyStore}, every section is built again
+	 *
+	 * @param statistics the statistics are list of statistics
+	 * @param dynamicStatistics the dynamicStatistics are list of dynamicStatistics
+	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
+	 */
+	private void populateCachedStatistics(Map<String, String> statistics, Map<String, String> dynamicStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+		Map<String, AdvancedControllableProperty> publishedControls = getPublishedControls();
+		int sectionCount = getStatisticsSectionCount();
+		for (int i = 0; i < sectionCount; i++) {
+			populateStatisticsSection(i, publishedControls);
+			LgLCDStatisticsSection section = statisticsSections[i];
+			statistics.putAll(section.getStatistics());
+			dynamicStatistics.putAll(section.getDynamicStatistics());
+			advancedControllableProperties.addAll(section.getControls());
+		}
+		if (!isConfigManagement) {
+			statistics.remove(LgLCDPropertyKeys.INPUT_SIGNAL);
+		}
+	}
+
+	/**
+	 * Populate the statistics and controls from a copy of the published ones, only the sections reading a changed property are built again
+	 * and only their statistics are updated, the controls of the other sections are the instances already published
+	 *
+	 * @param changedValues the changedValues are names of the properties of {@link #localPropertyStore} which changed value
+	 * @param statistics the statistics are list of statistics
+	 * @param dynamicStatistics the dynamicStatistics are list of dynamicStatistics
+	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
+	 */
+	private void patchCachedStatistics(List<String> changedValues, Map<String, String> statistics, Map<String, String> dynamicStatistics,
+			List<AdvancedControllableProperty> advancedControllableProperties) {
+		statistics.putAll(sectionedStatistics.getStatistics());
+		if (sectionedStatistics.getDynamicStatistics() != null) {
+			dynamicStatistics.putAll(sectionedStatistics.getDynamicStatistics());
+		}
+		Map<String, AdvancedControllableProperty> publishedControls = null;
+		Set<String> patchedKeys = new HashSet<>();
+		int sectionCount = getStatisticsSectionCount();
+		for (int i = 0; i < sectionCount; i++) {
+			LgLCDStatisticsSection section = statisticsSections[i];
+			if (section.isReading(changedValues)) {
+				if (publishedControls == null) {
+					publishedControls = getPublishedControls();
+				}
+				patchedKeys.addAll(section.getStatistics().keySet());
+				patchedKeys.addAll(section.getDynamicStatistics().keySet());
+				populateStatisticsSection(i, publishedControls);
+				patchedKeys.addAll(section.getStatistics().keySet());
+				patchedKeys.addAll(section.getDynamicStatistics().keySet());
+			}
+		}
+		for (String key : patchedKeys) {
+			patchEntry(statistics, key, false, sectionCount);
+			patchEntry(dynamicStatistics, key, true, sectionCount);
+		}
+		if (!isConfigManagement) {
+			statistics.remove(LgLCDPropertyKeys.INPUT_SIGNAL);
+		}
+		for (int i = 0; i < sectionCount; i++) {
+			advancedControllableProperties.addAll(statisticsSections[i].getControls());
+		}
+	}
+
+	/**
+	 * Update an entry with the value of the last section holding it, the order the sections are merged in, or drop it if no section holds it anymore
+	 *
+	 * @param statistics the statistics are list of statistics to update
+	 * @param key the key is name of the entry
+	 * @param isDynamic the isDynamic is true to read the dynamic statistics of the sections
+	 * @param sectionCount the sectionCount is number of sections in use
+	 */
+	private void patchEntry(Map<String, String> statistics, String key, boolean isDynamic, int sectionCount) {
+		for (int i = sectionCount - 1; i >= 0; i--) {
+			Map<String, String> sectionStatistics = isDynamic ? statisticsSections[i].getDynamicStatistics() : statisticsSections[i].getStatistics();
+			if (sectionStatistics.containsKey(key)) {
+				statistics.put(key, sectionStatistics.get(key));
+				return;
+			}
+		}
+		statistics.remove(key);
+	}
+
+	/**
+	 * Build one section of the statistics again, recording the properties it reads.
+	 * A control whose value and options are the same as the published one keeps the published instance, so it is not serialized as a new one.
+	 *
+	 * @param index the index is index of the section
+	 * @param publishedControls the publishedControls are published controls by name
+	 */
+	private void populateStatisticsSection(int index, Map<String, AdvancedControllableProperty> publishedControls) {
+		if (statisticsSections[index] == null) {
+			statisticsSections[index] = new LgLCDStatisticsSection();
+		}
+		LgLCDStatisticsSection section = statisticsSections[index];
+		section.reset();
+		readingSection = section;
+		try {
+			Map<String, String> statistics = section.getStatistics();
+			List<AdvancedControllableProperty> controls = section.getControls();
+			if (index == MONITORING_SECTION) {
+				populateMonitoringData(statistics, section.getDynamicStatistics());
+			} else if (index == FAIL_OVER_SECTION) {
+				//The failover group and the input dropdowns are built from the priority list
+				section.addReadProperty(LgLCDConstants.FAILOVER_INPUT_LIST);
+				retrieveFailOverGroupValue(statistics, controls);
+			} else if (index == DISPLAY_AND_SOUND_SECTION) {
+				section.addReadProperty(LgLCDConstants.FAILOVER_INPUT_LIST);
+				retrieveDisplayAndSoundGroupValue(statistics, controls);
+			} else if (index == TILE_MODE_SECTION) {
+				retrieveTileModeGroupValue(statistics, controls);
+			} else if (index == WALL_SECTION) {
+				section.addReadProperty(LgLCDConstants.FAILOVER_INPUT_LIST);
+				populateWallControl(statistics, controls);
+			} else {
+				populateDisplayPropertyGroup(SECTION_COMMANDS[index - COMMAND_SECTION], statistics, controls);
+			}
+		} finally {
+			readingSection = null;
+		}
+		List<AdvancedControllableProperty> controls = section.getControls();
+		for (int i = 0; i < controls.size(); i++) {
+			AdvancedControllableProperty control = controls.get(i);
+			AdvancedControllableProperty publishedControl = publishedControls.get(control.getName());
+			if (publishedControl != null && LgLCDUtils.isSameControl(publishedControl, control)) {
+				controls.set(i, publishedControl);
+			}
+		}
+	}
+
+	/**
+	 * Get the number of sections making the statistics, the controls are part of the statistics when {@link #isConfigManagement} is enabled
+	 *
+	 * @return int number of sections
+	 */
+	private int getStatisticsSectionCount() {
+		return isConfigManagement ? STATISTICS_SECTION_COUNT : MONITORING_SECTION + 1;
+	}
+
+	/**
+	 * Get the published controls by name
+	 *
+	 * @return Map of controls by name, empty if no control is published
+	 */
+	private Map<String, AdvancedControllableProperty> getPublishedControls() {
+		List<AdvancedControllableProperty> publishedControls = localExtendedStatistics.get().getControllableProperties();
+		if (CollectionUtils.isEmpty(publishedControls)) {
+			return Collections.emptyMap();
+		}
+		Map<String, AdvancedControllableProperty> publishedControlsByName = new HashMap<>();
+		for (AdvancedControllableProperty publishedControl : publishedControls) {
+			publishedControlsByName.put(publishedControl.getName(), publishedControl);
+		}
+		return publishedControlsByName;
+	}
+
+	/**
+	 * Publish the values loaded from the snapshot while the first polling cycle reads them from the device,
+	 * the age of the snapshot is reported so the values are known to be the last known ones
+	 */
+	private void publishSnapshotStatistics() {
+		Map<String, String> statistics = new HashMap<>();
+		Map<String, String> dynamicStatistics = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		populateCachedStatistics(statistics, dynamicStatistics, advancedControllableProperties);
+		statistics.put(LgLCDConstants.SNAPSHOT_AGE, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(Math.max(0, System.currentTimeMillis() - snapshotTimestamp))));
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(statistics);
+		extendedStatistics.setDynamicStatistics(dynamicStatistics);
+		extendedStatistics.setControllableProperties(advancedControllableProperties);
+		publishStatistics(extendedStatistics);
+	}
+
+	/**
+	 * Publish the monitoring values read so far while the first polling cycle after init is running,
+	 * the values of {@link #pollingPriority} are read first so they are part of the first statistics published
+	 */
+	private void publishFirstPassStatistics() {
+		Map<String, String> statistics = new HashMap<>();
+		Map<String, String> dynamicStatistics = new HashMap<>();
+		populateMonitoringData(statistics, dynamicStatistics);
+		String power = getValueByName(LgLCDConstants.POWER);
+		if (!LgLCDConstants.NA.equals(power)) {
+			statistics.put(LgLCDConstants.POWER, power);
+		}
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(statistics);
+		extendedStatistics.setDynamicStatistics(dynamicStatistics);
+		//The controls are published with the first whole polling cycle, a control received before that updates an empty list
+		extendedStatistics.setControllableProperties(new ArrayList<>());
+		publishStatistics(extendedStatistics);
+	}
+
+	/**
+	 * Get the snapshot file of this display
+	 *
+	 * @return Path of the snapshot file, null if the snapshot is disabled
+	 */
+	private Path getSnapshotFile() {
+		if (StringUtils.isNullOrEmpty(snapshotDirectory)) {
+			return null;
+		}
+		try {
+			return LgLCDSnapshot.getSnapshotFile(Paths.get(snapshotDirectory.trim()), this.host, this.getPort(), monitorID & 0xFF);
+		} catch (InvalidPathException e) {
+			logger.warn(String.format("Invalid snapshotDirectory %s, the snapshot is disabled", snapshotDirectory));
+			return null;
+		}
+	}
+
+	/**
+	 * Load the last known values of the display saved before the adapter was stopped
+	 */
+	private void restoreSnapshot() {
+		snapshotTimestamp = 0;
+		Path snapshotFile = getSnapshotFile();
+		if (snapshotFile == null) {
+			return;
+		}
+		try {
+			snapshotTimestamp = LgLCDSnapshot.load(snapshotFile, localPropertyStore, propertyCache, priorityInputs);
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to load the snapshot %s", snapshotFile), e);
+			localPropertyStore.clear();
+			propertyCache.clear();
+			priorityInputs.clear();
+		}
+	}
+
+	/**
+	 * Save the last known values of the display, at most once per {@link LgLCDConstants#SNAPSHOT_SAVE_INTERVAL} unless forced
+	 *
+	 * @param force the force is true to save even if the snapshot was saved recently
+	 */
+	private void saveSnapshot(boolean force) {
+		long now = System.currentTimeMillis();
+		if (!isSnapshotOutdated || (!force && now - lastSnapshotSaveTimestamp < LgLCDConstants.SNAPSHOT_SAVE_INTERVAL)) {
+			return;
+		}
+		Path snapshotFile = getSnapshotFile();
+		if (snapshotFile == null) {
+			return;
+		}
+		try {
+			LgLCDSnapshot.save(snapshotFile, now, localPropertyStore, propertyCache, priorityInputs);
+			isSnapshotOutdated = false;
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to save the snapshot %s", snapshotFile), e);
+		}
+		lastSnapshotSaveTimestamp = now;
+	}
+
+	/**
+	 * Check whether the published statistics still show the values of {@link #localPropertyStore}: no value changed,
+	 * no command failed, no operator control was sent and the adapter properties shaping the statistics are the same
+	 *
+	 * @return true if the statistics of the last polling cycle can be published again as they are
+	 */
+	private boolean isPublishedStatisticsCurrent() {
+		return isStatisticsPublished && !isAdapterMetrics && !localPropertyStore.hasChanges() && failedMonitor.isEmpty()
+				&& commandQueue.getControlCount() == publishedControlCount && isConfigManagement == publishedConfigManagement
+				&& wallSetIDList.equals(publishedWallSetIDList) && historicalProperties.equals(publishedHistoricalProperties);
+	}
+
+	/**
+	 * Check whether the published statistics are the ones merged from {@link #statisticsSections}, so a polling cycle only builds again the sections
+	 * reading a changed value: no control or snapshot published statistics since, no command failed, and the adapter properties shaping the sections are the same
+	 *
+	 * @return true if the published statistics can be patched with the sections which changed
+	 */
+	private boolean isSectionedStatisticsCurrent() {
+		return sectionedStatistics != null && sectionedStatistics == localExtendedStatistics.get() && failedMonitor.isEmpty()
+				&& commandQueue.getControlCount() == publishedControlCount && isConfigManagement == publishedConfigManagement
+				&& wallSetIDList.equals(publishedWallSetIDList) && historicalProperties.equals(publishedHistoricalProperties);
+	}
+
+	/**
+	 * Record the statistics and controls which differ from the ones published on the previous polling cycle
+	 *
+	 * @param statistics the statistics are list of statistics built on this polling cycle
+	 * @param dynamicStatistics the dynamicStatistics are list of dynamicStatistics built on this polling cycle
+	 * @param advancedControllableProperties the advancedControllableProperties are controls built on this polling cycle
+	 */
+	private void trackChangedProperties(Map<String, String> statistics, Map<String, String> dynamicStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+		Set<String> changed = new TreeSet<>();
+		ExtendedStatistics publishedStatistics = localExtendedStatistics.get();
+		collectChangedEntries(publishedStatistics.getStatistics(), statistics, changed);
+		collectChangedEntries(publishedStatistics.getDynamicStatistics(), dynamicStatistics, changed);
+		//The controls which did not change are the instances published on the previous polling cycle
+		Set<AdvancedControllableProperty> publishedControls = Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<AdvancedControllableProperty> currentControls = Collections.newSetFromMap(new IdentityHashMap<>());
+		if (publishedStatistics.getControllableProperties() != null) {
+			publishedControls.addAll(publishedStatistics.getControllableProperties());
+		}
+		currentControls.addAll(advancedControllableProperties);
+		for (AdvancedControllableProperty publishedControl : publishedControls) {
+			if (!currentControls.contains(publishedControl)) {
+				changed.add(publishedControl.getName());
+			}
+		}
+		for (AdvancedControllableProperty control : currentControls) {
+			if (!publishedControls.contains(control)) {
+				changed.add(control.getName());
+			}
+		}
+		changedProperties = Collections.unmodifiableSet(changed);
+		isSnapshotOutdated |= !changed.isEmpty();
+		if (logger.isDebugEnabled() && !changed.isEmpty()) {
+			logger.debug(String.format("Properties changed on this polling cycle: %s", changed));
+		}
+		publishedControlCount = commandQueue.getControlCount();
+		publishedConfigManagement = isConfigManagement;
+		publishedWallSetIDList = wallSetIDList;
+		publishedHistoricalProperties.clear();
+		publishedHistoricalProperties.addAll(historicalProperties);
+	}
+
+	/**
+	 * Add the names of the entries added, changed or removed between two statistics maps
+	 *
+	 * @param published the published are statistics of the previous polling cycle, may be null
+	 * @param current the current are statistics of this polling cycle
+	 * @param changed the changed is set receiving the names
+	 */
+	private static void collectChangedEntries(Map<String, String> published, Map<String, String> current, Set<String> changed) {
+		if (published == null) {
+			changed.addAll(current.keySet());
+			return;
+		}
+		for (Entry<String, String> entry : current.entrySet()) {
+			if (!Objects.equals(entry.getValue(), published.get(entry.getKey()))) {
+				changed.add(entry.getKey());
 			}
-			isEmergencyDelivery = false;
-		} finally {
-			reentrantLock.unlock();
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		for (String name : published.keySet()) {
+			if (!current.containsKey(name)) {
+				changed.add(name);
+			}
+		}
+	}
+
+	/**
+	 * Populate the latency of the operator controls, from the request to the reply of the device
+	 *
+	 * @param statistics the statistics are list of statistics
+	 */
+	private void populateControlLatency(Map<String, String> statistics) {
+		if (commandQueue.getControlCount() == 0) {
+			return;
+		}
+		statistics.put(LgLCDConstants.LAST_CONTROL_LATENCY, String.valueOf(commandQueue.getLastControlLatency()));
+		statistics.put(LgLCDConstants.MAX_CONTROL_LATENCY, String.valueOf(commandQueue.getMaxControlLatency()));
+		if (isOptimisticControl) {
+			statistics.put(LgLCDConstants.CONTROL_DRIFT_COUNT, String.valueOf(controlDriftCount.get()));
+		}
+	}
+
+	/**
+	 * Populate the {@link #commandMetrics} in the AdapterMetrics group when {@link #adapterMetrics} is enabled:
+	 * the totals of all commands, then the requests, timeouts, NG replies and 95th percentile latency of every command sent
+	 *
+	 * @param statistics the statistics are list of statistics
+	 */
+	private void populateAdapterMetrics(Map<String, String> statistics) {
+		if (!isAdapterMetrics) {
+			return;
+		}
+		String group = LgLCDConstants.ADAPTER_METRICS + LgLCDConstants.HASH;
+		LgLCDCommandMetrics.CommandSummary total = commandMetrics.getTotal();
+		statistics.put(group + LgLCDConstants.METRICS_REQUESTS, String.valueOf(total.getRequests()));
+		statistics.put(group + LgLCDConstants.METRICS_TIMEOUTS, String.valueOf(total.getTimeouts()));
+		statistics.put(group + LgLCDConstants.METRICS_NG_REPLIES, String.valueOf(total.getNGReplies()));
+		statistics.put(group + LgLCDConstants.METRICS_ERRORS, String.valueOf(total.getErrors()));
+		statistics.put(group + LgLCDConstants.METRICS_LATENCY_P50, String.valueOf(total.getLatencyPercentile(50)));
+		statistics.put(group + LgLCDConstants.METRICS_LATENCY_P95, String.valueOf(total.getLatencyPercentile(95)));
+		statistics.put(group + LgLCDConstants.METRICS_LATENCY_MAX, String.valueOf(total.getMaxLatency()));
+		statistics.put(group + LgLCDConstants.METRICS_BYTES_SENT, String.valueOf(total.getBytesSent()));
+		statistics.put(group + LgLCDConstants.METRICS_BYTES_RECEIVED, String.valueOf(total.getBytesReceived()));
+		if (isPersistentConnection) {
+			statistics.put(group + LgLCDConstants.METRICS_RECONNECTS, String.valueOf(getReconnectCount()));
+		}
+		for (Map.Entry<String, LgLCDCommandMetrics.CommandSummary> command : commandMetrics.getSummaries().entrySet()) {
+			//Drop the unit of the property name, the metric name carries its own
+			String prefix = group + command.getKey().replaceAll("\\(.*\\)", LgLCDConstants.EMPTY_STRING);
+			LgLCDCommandMetrics.CommandSummary summary = command.getValue();
+			statistics.put(prefix + LgLCDConstants.METRICS_REQUESTS, String.valueOf(summary.getRequests()));
+			statistics.put(prefix + LgLCDConstants.METRICS_TIMEOUTS, String.valueOf(summary.getTimeouts()));
+			statistics.put(prefix + LgLCDConstants.METRICS_NG_REPLIES, String.valueOf(summary.getNGReplies()));
+			statistics.put(prefix + LgLCDConstants.METRICS_LATENCY_P95, String.valueOf(summary.getLatencyPercentile(95)));
+		}
+	}
+
+	/**
+	 * Populate the inputs of the priority list in the FailOver group
+	 *
+	 * @param stats the stats are list of statistics
+	 * @return String array of the inputs in priority order
+	 */
+	private String[] populatePriorityList(Map<String, String> stats) {
+		String[] priorityList = priorityInputs.getPriorityOptions();
+		for (int i = 0; i < priorityList.length; i++) {
+			stats.put(LgLCDPropertyKeys.getFailOverPriority(i), priorityList[i]);
+		}
+		return priorityList;
 	}
 
 	/**
@@ -958,56 +2286,59 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 *
 	 * @param stats the stats are list of statistics
 	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
-	 * @param groupName the groupName instance in GroupName#Key
 	 * @param currentPriority the currentPriority is current value of priority property
 	 */
-	private void populatePriorityInput(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String groupName, String currentPriority) {
-		String priorityInputUp = groupName + LgLCDConstants.PRIORITY_UP;
-		String priorityInputDown = groupName + LgLCDConstants.PRIORITY_DOWN;
-		stats.remove(priorityInputDown);
-		advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputDown));
+	private void populatePriorityInput(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String currentPriority) {
+		stats.remove(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN);
+		advancedControllableProperties.removeIf(item -> item.getName().equals(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN));
 
-		stats.remove(priorityInputUp);
-		advancedControllableProperties.removeIf(item -> item.getName().equals(priorityInputUp));
+		stats.remove(LgLCDPropertyKeys.FAILOVER_PRIORITY_UP);
+		advancedControllableProperties.removeIf(item -> item.getName().equals(LgLCDPropertyKeys.FAILOVER_PRIORITY_UP));
 
-		String priorityInputStart = cacheMapOfPriorityInputAndValue.get(LgLCDConstants.PRIORITY + LgLCDConstants.NUMBER_ONE);
-		String priorityInputEnd = cacheMapOfPriorityInputAndValue.get(LgLCDConstants.PRIORITY + cacheMapOfPriorityInputAndValue.size());
-		if (StringUtils.isNullOrEmpty(priorityInputEnd)) {
-			if (cacheMapOfPriorityInputAndValue.entrySet().stream().map(item -> item.getValue().equalsIgnoreCase(LgLCDConstants.PLAY_VIA_URL)).findFirst().isPresent()) {
-				priorityInputEnd = cacheMapOfPriorityInputAndValue.get(LgLCDConstants.PRIORITY + (cacheMapOfPriorityInputAndValue.size() - 1));
-			}
-		}
-		if (LgLCDConstants.NA.equals(currentPriority) || cacheMapOfPriorityInputAndValue.isEmpty()) {
-			stats.put(groupName + LgLCDConstants.PRIORITY_UP, LgLCDConstants.NA);
-			stats.put(groupName + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.NA);
+		String[] priorityList = priorityInputs.getPriorityOptions();
+		if (LgLCDConstants.NA.equals(currentPriority) || priorityList.length == 0) {
+			stats.put(LgLCDPropertyKeys.FAILOVER_PRIORITY_UP, LgLCDConstants.NA);
+			stats.put(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN, LgLCDConstants.NA);
 			return;
 		}
+		String priorityInputStart = priorityList[0];
+		String priorityInputEnd = priorityList[priorityList.length - 1];
 		if (!currentPriority.equals(priorityInputStart) && !currentPriority.equals(priorityInputEnd)) {
-			stats.put(groupName + LgLCDConstants.PRIORITY_UP, LgLCDConstants.EMPTY_STRING);
-			advancedControllableProperties.add(createButton(groupName + LgLCDConstants.PRIORITY_UP, LgLCDConstants.UP, LgLCDConstants.PROCESSING, 0));
-
-			stats.put(groupName + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.EMPTY_STRING);
-			advancedControllableProperties.add(createButton(groupName + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.DOWN, LgLCDConstants.PROCESSING, 0));
-		} else if (!StringUtils.isNullOrEmpty(priorityInputEnd) && !currentPriority.equals(priorityInputEnd)) {
-			stats.put(groupName + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.EMPTY_STRING);
-			advancedControllableProperties.add(createButton(groupName + LgLCDConstants.PRIORITY_DOWN, LgLCDConstants.DOWN, LgLCDConstants.PROCESSING, 0));
+			stats.put(LgLCDPropertyKeys.FAILOVER_PRIORITY_UP, LgLCDConstants.EMPTY_STRING);
+			advancedControllableProperties.add(createButton(LgLCDPropertyKeys.FAILOVER_PRIORITY_UP, LgLCDConstants.UP, LgLCDConstants.PROCESSING, 0));
+
+			stats.put(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN, LgLCDConstants.EMPTY_STRING);
+			advancedControllableProperties.add(createButton(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN, LgLCDConstants.DOWN, LgLCDConstants.PROCESSING, 0));
+		} else if (!currentPriority.equals(priorityInputEnd)) {
+			stats.put(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN, LgLCDConstants.EMPTY_STRING);
+			advancedControllableProperties.add(createButton(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN, LgLCDConstants.DOWN, LgLCDConstants.PROCESSING, 0));
 		} else {
-			stats.put(groupName + LgLCDConstants.PRIORITY_UP, LgLCDConstants.EMPTY_STRING);
-			advancedControllableProperties.add(createButton(groupName + LgLCDConstants.PRIORITY_UP, LgLCDConstants.UP, LgLCDConstants.PROCESSING, 0));
+			stats.put(LgLCDPropertyKeys.FAILOVER_PRIORITY_UP, LgLCDConstants.EMPTY_STRING);
+			advancedControllableProperties.add(createButton(LgLCDPropertyKeys.FAILOVER_PRIORITY_UP, LgLCDConstants.UP, LgLCDConstants.PROCESSING, 0));
 		}
 	}
 
 	/**
 	 * populate monitoring and controlling data
-	 * using 2 thread to get monitoring and controlling data
-	 * Thread 1 fetches device monitoring and controlling data of each property's
-	 * Thread 2 manages the timeout for each command sent by Thread 1
+	 * Each command is fetched on {@link #commandQueue} and the caller waits on the Future with the command deadline,
+	 * so it resumes as soon as the reply arrives. Pending operator controls are sent in between two commands.
 	 *
 	 * if the response time is greater than the default timeout => Close connection and update failedMonitor
 	 */
 	private void populateMonitoringAndControllingData() throws InterruptedException {
-		List<LgControllingCommand> commands = Arrays.stream(LgControllingCommand.values()).filter(item -> item.isMonitorType() || item.isControlType()).collect(Collectors.toList());
-		Future manageTimeOutWorkerThread;
+		if (isFirstPaintPending) {
+			//Read the priority commands alone on the first call after init, so their values are published without waiting for the rest
+			isFirstPaintPending = false;
+			pollCommands(firstPaintCommands, 0, firstPaintCommands.size());
+			for (LgControllingCommand firstPaintCommand : firstPaintCommands) {
+				if (!failedMonitor.contains(firstPaintCommand)) {
+					firstPaintPolledCommands.add(firstPaintCommand);
+				}
+			}
+			localCachedFailedMonitor = localCachedFailedMonitor + failedMonitor.size();
+			return;
+		}
+		List<LgControllingCommand> commands = pollingOrder;
 		int range = 0;
 		if (currentGetMultipleInPollingInterval == pollingIntervalInIntValue - 1) {
 			range = commands.size();
@@ -1023,60 +2354,261 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 		if (range == 0) {
 			range = (currentGetMultipleInPollingInterval + LgLCDConstants.NUMBER_ONE) * commands.size() / pollingIntervalInIntValue;
 		}
+		pollCommands(commands, intervalIndex, range);
+		logger.debug("Get data success with getMultipleTime: " + currentGetMultipleInPollingInterval);
+		currentGetMultipleInPollingInterval++;
+		localCachedFailedMonitor = localCachedFailedMonitor + failedMonitor.size();
+	}
+
+	/**
+	 * Read the values of a range of commands from the device
+	 *
+	 * @param commands the commands are commands in polling order
+	 * @param intervalIndex the intervalIndex is index of the first command to read (inclusive)
+	 * @param range the range is index after the last command to read (exclusive)
+	 */
+	private void pollCommands(List<LgControllingCommand> commands, int intervalIndex, int range) throws InterruptedException {
+		boolean isPipelineActive = isPipelineActive();
+		List<LgControllingCommand> pipelinedCommands = new ArrayList<>();
+		List<commandNames> pipelinedParams = new ArrayList<>();
+		List<LgControllingCommand> refreshedCommands = new ArrayList<>();
+		validateRefreshTimestamps();
+		long now = System.currentTimeMillis();
+		long controlCount = commandQueue.getControlCount();
+		List<LgControllingCommand> polledCommands = new ArrayList<>();
 		for (int i = intervalIndex; i < range; i++) {
 			LgControllingCommand controllingCommand = commands.get(i);
 			if (!isConfigManagement && controllingCommand.isControlType()) {
 				continue;
 			}
 			if ((controllingCommand.isControlType() || controllingCommand.isMonitorType())) {
+				//Already read by the first paint, right before the first polling cycle
+				if (!isRefreshDue(controllingCommand, now) || firstPaintPolledCommands.remove(controllingCommand)) {
+					continue;
+				}
+				if (controllingCommand.getRefreshClass() != RefreshClass.EVERY_CYCLE) {
+					refreshedCommands.add(controllingCommand);
+				}
+				polledCommands.add(controllingCommand);
 				commandNames param = getParamByCommandName(controllingCommand);
 				//Count the number of requests in one polling cycle.
 				currentCommandIndex++;
 				if (param == null) {
 					continue;
 				}
-				//Submit thread to fetch data
-				devicesExecutionPool.add(fetchingDataExSer.submit(() -> {
-					retrieveDataByCommandName(controllingCommand.getCommandNames(), param, controllingCommand);
-				}));
-				// The thread responsible for checking the ExecutorService waits until the defaultConfigTimeout period has elapsed.
-				// If the Future is not completed at that point, the thread will cancel it
-				manageTimeOutWorkerThread = timeoutManagementExSer.submit(() -> {
-					int timeoutCount = 1;
-					while (!devicesExecutionPool.get(devicesExecutionPool.size() - LgLCDConstants.ORDINAL_TO_INDEX_CONVERT_FACTOR).isDone() && timeoutCount <= defaultConfigTimeout) {
-						try {
-							Thread.sleep(100);
-
-							// The thread waits until the controlProperty() method successfully controls.
-							if (isEmergencyDelivery) {
-								condition.wait();
-							}
-						} catch (InterruptedException e) {
-							e.printStackTrace();
-						}
-						timeoutCount++;
-					}
-					//If the Future is not completed after the defaultConfigTimeout =>  update the failedMonitor and destroy the connection.
-					int lastIndex = devicesExecutionPool.size() - 1;
-					if (!devicesExecutionPool.get(lastIndex).isDone()) {
-						failedMonitor.add(controllingCommand.getName());
-						destroyChannel();
-						devicesExecutionPool.get(lastIndex).cancel(true);
+				if (isPipelineActive) {
+					pipelinedCommands.add(controllingCommand);
+					pipelinedParams.add(param);
+				} else {
+					yieldToControls();
+					fetchDataWithDeadline(controllingCommand, param);
+				}
+			}
+		}
+		if (!pipelinedCommands.isEmpty()) {
+			retrieveDataByPipeline(pipelinedCommands, pipelinedParams);
+		}
+		for (LgControllingCommand polledCommand : polledCommands) {
+			if (!failedMonitor.contains(polledCommand)) {
+				propertyCache.put(polledCommand, now, getTimeToLive(polledCommand));
+			}
+		}
+		//A control sent in between may have changed a value read before it, read the settings again on the next polling cycle
+		if (commandQueue.getControlCount() == controlCount) {
+			for (LgControllingCommand refreshedCommand : refreshedCommands) {
+				if (!failedMonitor.contains(refreshedCommand)) {
+					lastRefreshTimestamps.put(refreshedCommand, now);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the time a value may be reported after its last successful read.
+	 * The commands not read on every polling cycle keep their value for their refresh interval on top of {@link #cachingLifetime},
+	 * the ones read on connection until they fail after a reconnection.
+	 *
+	 * @param controllingCommand the controllingCommand is LgControllingCommand enum instance
+	 * @return time to live in ms
+	 */
+	private long getTimeToLive(LgControllingCommand controllingCommand) {
+		long timeToLive = TimeUnit.MINUTES.toMillis(currentCachingLifetime);
+		if (periodicRefreshIntervalInMs == 0 || controllingCommand.getRefreshClass() == RefreshClass.EVERY_CYCLE) {
+			return timeToLive;
+		}
+		return controllingCommand.getRefreshClass() == RefreshClass.PERIODIC ? periodicRefreshIntervalInMs + timeToLive : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Check whether the value of the command has to be read from the device on this polling cycle
+	 *
+	 * @param controllingCommand the controllingCommand is LgControllingCommand enum instance
+	 * @param now the now is timestamp of the polling cycle
+	 * @return true if the command has to be sent
+	 */
+	private boolean isRefreshDue(LgControllingCommand controllingCommand, long now) {
+		if (periodicRefreshIntervalInMs == 0 || controllingCommand.getRefreshClass() == RefreshClass.EVERY_CYCLE) {
+			return true;
+		}
+		Long lastRefreshTimestamp = lastRefreshTimestamps.get(controllingCommand);
+		if (lastRefreshTimestamp == null) {
+			return true;
+		}
+		return controllingCommand.getRefreshClass() == RefreshClass.PERIODIC && now - lastRefreshTimestamp >= periodicRefreshIntervalInMs;
+	}
+
+	/**
+	 * Forget the refresh timestamps when the persistent connection has been re-established since the last polling cycle
+	 */
+	private void validateRefreshTimestamps() {
+		if (!isPersistentConnection) {
+			return;
+		}
+		int reconnectCount = getLgLCDConnection().getReconnectCount();
+		if (reconnectCount != lastRefreshReconnectCount) {
+			lastRefreshReconnectCount = reconnectCount;
+			lastRefreshTimestamps.clear();
+		}
+	}
+
+	/**
+	 * Let the pending operator controls run before the next polling command.
+	 * The polling cycle releases {@link #reentrantLock} until no control is in progress, then takes it back.
+	 */
+	private void yieldToControls() throws InterruptedException {
+		if (!commandQueue.hasPendingControls() || reentrantLock.getHoldCount() != LgLCDConstants.NUMBER_ONE) {
+			return;
+		}
+		reentrantLock.unlock();
+		try {
+			commandQueue.awaitControls();
+		} finally {
+			reentrantLock.lock();
+		}
+	}
+
+	/**
+	 * Fetch one command on {@link #commandQueue} and wait for it until the configTimeout deadline
+	 *
+	 * @param controllingCommand the controllingCommand is LgControllingCommand enum instance
+	 * @param param the param is param to send the request get the data
+	 */
+	private void fetchDataWithDeadline(LgControllingCommand controllingCommand, commandNames param) throws InterruptedException {
+		//Submit thread to fetch data
+		Future<String> fetchingDataWorkerThread = commandQueue.submit(() -> retrieveDataByCommandName(controllingCommand.getCommandNames(), param, controllingCommand),
+				CommandPriority.POLL);
+		devicesExecutionPool.add(fetchingDataWorkerThread);
+		try {
+			fetchingDataWorkerThread.get(defaultConfigTimeout, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			//If the Future is not completed after the defaultConfigTimeout => update the failedMonitor
+			failedMonitor.add(controllingCommand);
+			abandonCommand(fetchingDataWorkerThread);
+		} catch (ExecutionException e) {
+			logger.error(String.format("Error when retrieving %s", controllingCommand.getName()), e.getCause());
+		}
+	}
+
+	/**
+	 * Retrieve data of several commands with pipelined requests, queued in chunks of pipelineWindow frames
+	 * so a control only waits for the chunk in progress.
+	 * Commands without a reply are retried one at a time, and polling falls back to strict mode
+	 * if the device mis-orders or drops replies.
+	 *
+	 * @param controllingCommands the controllingCommands are commands to fetch
+	 * @param params the params are params of the commands, in the same order
+	 */
+	private void retrieveDataByPipeline(List<LgControllingCommand> controllingCommands, List<commandNames> params) throws InterruptedException {
+		LgLCDFrameEncoder encoder = getFrameEncoder();
+		int chunkSize = pipelineWindowInIntValue;
+		List<Future<LgLCDConnection.PipelineResult>> chunks = new ArrayList<>();
+		for (int from = 0; from < controllingCommands.size(); from += chunkSize) {
+			List<byte[]> frames = new ArrayList<>(chunkSize);
+			for (int i = from; i < Math.min(controllingCommands.size(), from + chunkSize); i++) {
+				frames.add(encoder.getRequestFrame(controllingCommands.get(i).getCommandNames(), params.get(i)));
+			}
+			Future<LgLCDConnection.PipelineResult> fetchingDataWorkerThread = commandQueue.submit(() -> sendPipelined(frames), CommandPriority.POLL);
+			devicesExecutionPool.add(fetchingDataWorkerThread);
+			chunks.add(fetchingDataWorkerThread);
+		}
+		for (int chunk = 0; chunk < chunks.size(); chunk++) {
+			int from = chunk * chunkSize;
+			int to = Math.min(controllingCommands.size(), from + chunkSize);
+			yieldToControls();
+			LgLCDConnection.PipelineResult result = null;
+			if (isPipelineFallback) {
+				chunks.get(chunk).cancel(false);
+			} else {
+				result = waitForPipelinedChunk(chunks.get(chunk), to - from);
+				if (result == null || result.isOutOfOrder() || result.isReplyDropped()) {
+					isPipelineFallback = true;
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Device %s mis-ordered or dropped pipelined replies, falling back to one command at a time", this.host));
 					}
-				});
+				}
+			}
+			for (int i = from; i < to; i++) {
+				LgControllingCommand controllingCommand = controllingCommands.get(i);
+				byte[] reply = result == null ? null : result.getReply(i - from);
+				if (reply == null) {
+					fetchDataWithDeadline(controllingCommand, params.get(i));
+					continue;
+				}
 				try {
-					while (!manageTimeOutWorkerThread.isDone()) {
-						Thread.sleep(100);
-					}
-					manageTimeOutWorkerThread.get();
-				} catch (ExecutionException e) {
-					e.printStackTrace();
+					digestResponse(reply, controllingCommand.getCommandNames());
+				} catch (Exception e) {
+					failedMonitor.add(controllingCommand);
 				}
 			}
 		}
-		logger.debug("Get data success with getMultipleTime: " + currentGetMultipleInPollingInterval);
-		currentGetMultipleInPollingInterval++;
-		localCachedFailedMonitor = localCachedFailedMonitor + failedMonitor.size();
+	}
+
+	/**
+	 * Wait for a chunk of pipelined commands until the configTimeout deadline of each of its frames
+	 *
+	 * @param fetchingDataWorkerThread the fetchingDataWorkerThread is the queued chunk
+	 * @param frameCount the frameCount is number of frames in the chunk
+	 * @return PipelineResult of the chunk, null if it failed or timed out
+	 */
+	private LgLCDConnection.PipelineResult waitForPipelinedChunk(Future<LgLCDConnection.PipelineResult> fetchingDataWorkerThread, int frameCount) throws InterruptedException {
+		try {
+			return fetchingDataWorkerThread.get((long) defaultConfigTimeout * frameCount, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			abandonCommand(fetchingDataWorkerThread);
+		} catch (ExecutionException e) {
+			logger.error("Error when retrieving pipelined commands", e.getCause());
+		}
+		return null;
+	}
+
+	/**
+	 * Give up a command which did not complete before its deadline.
+	 * The persistent connection is shared by the set IDs of the daisy chain and is kept: a command in progress ends with its own read timeout
+	 * and its late reply is discarded by the connection. The connection of this adapter is closed otherwise to abort the blocked read.
+	 * A command cancelled while it waited for its turn was never sent and leaves the connection alone.
+	 *
+	 * @param future the future is the queued command
+	 */
+	private void abandonCommand(Future<?> future) {
+		if (future.isCancelled()) {
+			return;
+		}
+		if (isPersistentConnection) {
+			//Interrupting the worker would close the channel of the whole daisy chain
+			future.cancel(false);
+			return;
+		}
+		destroyChannel();
+		future.cancel(true);
+	}
+
+	/**
+	 * Check whether the polling commands are sent pipelined
+	 *
+	 * @return true if pipelining is configured on a persistent connection and the device has not failed it
+	 */
+	private boolean isPipelineActive() {
+		return isPersistentConnection && pipelineWindowInIntValue > LgLCDConstants.NUMBER_ONE && !isPipelineFallback;
 	}
 
 	/**
@@ -1116,85 +2648,75 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 */
 	private void checkFailedCommand(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) {
 		if (!failedMonitor.isEmpty()) {
-			for (String value : failedMonitor) {
-				Optional<Entry<String, Integer>> cachingCurrentValue = localCachingLifeTimeOfMap.entrySet().stream().filter(item -> item.getKey().equalsIgnoreCase(value)).findFirst();
-				if (cachingCurrentValue.isPresent()) {
-					int currentCachingLifetime = cachingCurrentValue.get().getValue();
-					LgControllingCommand controllingCommand = LgControllingCommand.getCommandByName(value);
-					if (currentCachingLifetime >= this.currentCachingLifetime) {
-						localCachingLifeTimeOfMap.put(value.toLowerCase(Locale.ROOT), 0);
-						switch (controllingCommand) {
-							case NETWORK_SETTING:
-								localCacheMapOfPropertyNameAndValue.remove(LgLCDConstants.IP_ADDRESS);
-								localCacheMapOfPropertyNameAndValue.remove(LgLCDConstants.GATEWAY);
-								localCacheMapOfPropertyNameAndValue.remove(LgLCDConstants.SUBNET_MASK);
-								localCacheMapOfPropertyNameAndValue.remove(LgLCDConstants.DNS_SERVER);
-								statistics.put(LgLCDConstants.GATEWAY, LgLCDConstants.NA);
-								statistics.put(LgLCDConstants.SUBNET_MASK, LgLCDConstants.NA);
-								statistics.put(LgLCDConstants.DNS_SERVER, LgLCDConstants.NA);
-								statistics.put(LgLCDConstants.IP_ADDRESS, LgLCDConstants.NA);
-								break;
-							case TILE_MODE_SETTINGS:
-								String groupName = LgLCDConstants.TILE_MODE_SETTINGS + LgLCDConstants.HASH;
-								if (String.valueOf(LgLCDConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgLCDConstants.TILE_MODE))) {
-									if (String.valueOf(LgLCDConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgLCDConstants.NATURAL_MODE))) {
-										statistics.put(groupName + LgLCDConstants.NATURAL_SIZE, LgLCDConstants.NA);
-										updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NATURAL_SIZE, LgLCDConstants.NA);
-									}
-									statistics.put(groupName + LgLCDConstants.NATURAL_MODE, LgLCDConstants.NA);
-									updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NATURAL_MODE, LgLCDConstants.NA);
-									advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgLCDConstants.NATURAL_MODE));
-									statistics.put(groupName + LgLCDConstants.TILE_MODE_ID, LgLCDConstants.NA);
-								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE_COLUMN, LgLCDConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE_ROW, LgLCDConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE, LgLCDConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE_ID, LgLCDConstants.NA);
-								statistics.put(groupName + LgLCDConstants.TILE_MODE_COLUMN, LgLCDConstants.NA);
-								statistics.put(groupName + LgLCDConstants.TILE_MODE_ROW, LgLCDConstants.NA);
-								statistics.put(groupName + LgLCDConstants.TILE_MODE, LgLCDConstants.NA);
-								advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgLCDConstants.TILE_MODE));
-								break;
-							case NATURAL_MODE:
-								groupName = LgLCDConstants.TILE_MODE_SETTINGS + LgLCDConstants.HASH;
-								if (String.valueOf(LgLCDConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(groupName + LgLCDConstants.NATURAL_MODE))) {
-									statistics.put(groupName + LgLCDConstants.NATURAL_SIZE, LgLCDConstants.NA);
-									updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NATURAL_SIZE, LgLCDConstants.NA);
+			long now = System.currentTimeMillis();
+			for (LgControllingCommand controllingCommand : failedMonitor) {
+				String value = controllingCommand.getName();
+				//The cached value is reported until its entry expires, then the property shows None
+				if (!propertyCache.isFresh(controllingCommand, now)) {
+					switch (controllingCommand) {
+						case NETWORK_SETTING:
+							localPropertyStore.remove(LgLCDConstants.IP_ADDRESS);
+							localPropertyStore.remove(LgLCDConstants.GATEWAY);
+							localPropertyStore.remove(LgLCDConstants.SUBNET_MASK);
+							localPropertyStore.remove(LgLCDConstants.DNS_SERVER);
+							statistics.put(LgLCDConstants.GATEWAY, LgLCDConstants.NA);
+							statistics.put(LgLCDConstants.SUBNET_MASK, LgLCDConstants.NA);
+							statistics.put(LgLCDConstants.DNS_SERVER, LgLCDConstants.NA);
+							statistics.put(LgLCDConstants.IP_ADDRESS, LgLCDConstants.NA);
+							break;
+						case TILE_MODE_SETTINGS:
+							if (String.valueOf(LgLCDConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(LgLCDPropertyKeys.TILE_MODE))) {
+								if (String.valueOf(LgLCDConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(LgLCDPropertyKeys.TILE_MODE_NATURAL_MODE))) {
+									statistics.put(LgLCDPropertyKeys.TILE_MODE_NATURAL_SIZE, LgLCDConstants.NA);
+									updateCachedDeviceData(LgLCDConstants.NATURAL_SIZE, LgLCDConstants.NA);
 								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NATURAL_MODE, LgLCDConstants.NA);
-								statistics.put(groupName + LgLCDConstants.NATURAL_MODE, LgLCDConstants.NA);
-								advancedControllableProperties.removeIf(item -> item.getName().equals(groupName + LgLCDConstants.NATURAL_MODE));
-								break;
-							case DATE:
-							case TIME:
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.DATE, LgLCDConstants.NA);
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TIME, LgLCDConstants.NA);
-								statistics.put(LgLCDConstants.DATE_TIME, LgLCDConstants.NA);
-								localCacheMapOfPropertyNameAndValue.remove(value);
-								break;
-							default:
-								Entry<String, String> property = statistics.entrySet().stream().filter((item) -> {
-									String key = item.getKey();
-									String[] group = key.split(LgLCDConstants.HASH);
-									String propertyName = group[0];
-									if (key.contains(LgLCDConstants.HASH)) {
-										propertyName = group[1];
-									}
-									return propertyName.equals(value);
-								}).findFirst().orElse(null);
-								if (property != null) {
-									statistics.put(property.getKey(), LgLCDConstants.NA);
-									advancedControllableProperties.removeIf(item -> item.getName().equals(property.getKey()));
-									localCacheMapOfPropertyNameAndValue.remove(value);
+								statistics.put(LgLCDPropertyKeys.TILE_MODE_NATURAL_MODE, LgLCDConstants.NA);
+								updateCachedDeviceData(LgLCDConstants.NATURAL_MODE, LgLCDConstants.NA);
+								advancedControllableProperties.removeIf(item -> item.getName().equals(LgLCDPropertyKeys.TILE_MODE_NATURAL_MODE));
+								statistics.put(LgLCDPropertyKeys.TILE_MODE_ID, LgLCDConstants.NA);
+							}
+							updateCachedDeviceData(LgLCDConstants.TILE_MODE_COLUMN, LgLCDConstants.NA);
+							updateCachedDeviceData(LgLCDConstants.TILE_MODE_ROW, LgLCDConstants.NA);
+							updateCachedDeviceData(LgLCDConstants.TILE_MODE, LgLCDConstants.NA);
+							updateCachedDeviceData(LgLCDConstants.TILE_MODE_ID, LgLCDConstants.NA);
+							statistics.put(LgLCDPropertyKeys.TILE_MODE_COLUMN, LgLCDConstants.NA);
+							statistics.put(LgLCDPropertyKeys.TILE_MODE_ROW, LgLCDConstants.NA);
+							statistics.put(LgLCDPropertyKeys.TILE_MODE, LgLCDConstants.NA);
+							advancedControllableProperties.removeIf(item -> item.getName().equals(LgLCDPropertyKeys.TILE_MODE));
+							break;
+						case NATURAL_MODE:
+							if (String.valueOf(LgLCDConstants.NUMBER_ONE).equalsIgnoreCase(statistics.get(LgLCDPropertyKeys.TILE_MODE_NATURAL_MODE))) {
+								statistics.put(LgLCDPropertyKeys.TILE_MODE_NATURAL_SIZE, LgLCDConstants.NA);
+								updateCachedDeviceData(LgLCDConstants.NATURAL_SIZE, LgLCDConstants.NA);
+							}
+							updateCachedDeviceData(LgLCDConstants.NATURAL_MODE, LgLCDConstants.NA);
+							statistics.put(LgLCDPropertyKeys.TILE_MODE_NATURAL_MODE, LgLCDConstants.NA);
+							advancedControllableProperties.removeIf(item -> item.getName().equals(LgLCDPropertyKeys.TILE_MODE_NATURAL_MODE));
+							break;
+						case DATE:
+						case TIME:
+							updateCachedDeviceData(LgLCDConstants.DATE, LgLCDConstants.NA);
+							updateCachedDeviceData(LgLCDConstants.TIME, LgLCDConstants.NA);
+							statistics.put(LgLCDConstants.DATE_TIME, LgLCDConstants.NA);
+							localPropertyStore.remove(controllingCommand);
+							break;
+						default:
+							Entry<String, String> property = statistics.entrySet().stream().filter((item) -> {
+								String key = item.getKey();
+								String[] group = key.split(LgLCDConstants.HASH);
+								String propertyName = group[0];
+								if (key.contains(LgLCDConstants.HASH)) {
+									propertyName = group[1];
 								}
-								break;
-						}
-					} else {
-						currentCachingLifetime = currentCachingLifetime + 1;
-						localCachingLifeTimeOfMap.replace(cachingCurrentValue.get().getKey(), currentCachingLifetime);
+								return propertyName.equals(value);
+							}).findFirst().orElse(null);
+							if (property != null) {
+								statistics.put(property.getKey(), LgLCDConstants.NA);
+								advancedControllableProperties.removeIf(item -> item.getName().equals(property.getKey()));
+								localPropertyStore.remove(controllingCommand);
+							}
+							break;
 					}
-				} else {
-					localCachingLifeTimeOfMap.put(value.toLowerCase(Locale.ROOT), 1);
 				}
 			}
 		}
@@ -1214,84 +2736,344 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 			int b = apiMaxValue - apiMinValue;
 			return a * (LgLCDConstants.COLOR_TEMPERATURE_UI_MAX_VALUE - LgLCDConstants.COLOR_TEMPERATURE_UI_MIN_VALUE) / b + LgLCDConstants.COLOR_TEMPERATURE_UI_MIN_VALUE;
 		}
-		return 0f;
+		return 0f;
+	}
+
+	/**
+	 * This method is used to convert from ui value in integer to api hex string
+	 *
+	 * @param currentValue current ui value of property
+	 * @param maxValue max api value of property
+	 * @param minValue min api value of property
+	 * @return Float api current value
+	 */
+	private float convertFromUIValueToApiValue(String currentValue, int maxValue, int minValue) {
+		if (StringUtils.isNotNullOrEmpty(currentValue) && !LgLCDConstants.NA.equals(currentValue)) {
+			int a = Integer.parseInt(currentValue) - minValue;
+			int b = maxValue - minValue;
+			return a * (LgLCDConstants.COLOR_TEMPERATURE_MAX_VALUE - LgLCDConstants.COLOR_TEMPERATURE_MIN_VALUE) / b + LgLCDConstants.COLOR_TEMPERATURE_MIN_VALUE;
+		}
+		return 0f;
+	}
+
+	/**
+	 * Update the value for the control metric
+	 *
+	 * @param property is name of the metric
+	 * @param value the value is value of properties
+	 * @param extendedStatistics list statistics property
+	 * @param advancedControllableProperties the advancedControllableProperties is list AdvancedControllableProperties
+	 */
+	private void updateValueForTheControllableProperty(String property, String value, Map<String, String> extendedStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+		for (int i = 0; i < advancedControllableProperties.size(); i++) {
+			AdvancedControllableProperty advancedControllableProperty = advancedControllableProperties.get(i);
+			if (advancedControllableProperty.getName().equals(property)) {
+				extendedStatistics.put(property, value);
+				//The published control is left untouched, the control is replaced by a copy with the new value
+				advancedControllableProperties.set(i, new AdvancedControllableProperty(property, new Date(), advancedControllableProperty.getType(), value));
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Control property name by value
+	 *
+	 * @param command the command is command to send the request
+	 * @param param the param is parameter of the request
+	 * @param isDropdownControl whether a particular control is a dropdown control or not
+	 * @param value the value is value of property
+	 */
+	private void sendRequestToControlValue(commandNames command, byte[] param, boolean isDropdownControl, String value) {
+		try {
+			byte[] response = send(LgLCDUtils.buildSendString((byte) monitorID, LgLCDConstants.commands.get(command), param));
+			String result = digestResponse(response, command).toString();
+			if (LgLCDConstants.NA.equals(result)) {
+				throw new IllegalArgumentException("The response NG reply ");
+			}
+			if (isOptimisticControl) {
+				queueReadBack(getReadBackCommand(command), getReplyData(response));
+			}
+		} catch (Exception e) {
+			if (isDropdownControl) {
+				throw new IllegalArgumentException(
+						String.format("The property name %s is not supported. The current model does not support control with the value %s, and the device has responded with an error.", command.name(), value),
+						e);
+			}
+			throw new IllegalArgumentException(String.format("Can't control property %s. The device has responded with an error.", command.name()), e);
+		}
+	}
+
+	/**
+	 * Read a property changed as a side effect of a control, right away or queued as a verification command when {@link #isOptimisticControl} is enabled.
+	 * In optimistic mode the statistics of the control are built from the last known value and the read value is published by the next polling cycle.
+	 *
+	 * @param command the command is the command to read
+	 * @param param the param is param of the request
+	 * @param controllingCommand the controllingCommand is the controlled command
+	 */
+	private void readAfterControl(LgControllingCommand command, commandNames param, LgControllingCommand controllingCommand) {
+		if (isOptimisticControl) {
+			queueReadBack(command, param, null);
+			return;
+		}
+		retrieveDataByCommandName(command.getCommandNames(), param, controllingCommand);
+	}
+
+	/**
+	 * Queue the read back of the value of a controlled command behind the controls and the polling commands already queued
+	 *
+	 * @param command the command is the command to read, nothing is queued if it is null
+	 * @param expectedData the expectedData is data of the reply acknowledging the control
+	 */
+	private void queueReadBack(LgControllingCommand command, byte[] expectedData) {
+		if (command != null) {
+			queueReadBack(command, getParamByCommandName(command), expectedData);
+		}
+	}
+
+	/**
+	 * Queue the read back of a command as a low priority verification command.
+	 * The value read replaces the cached value, and a control drift is counted when it is not the value the device acknowledged.
+	 *
+	 * @param command the command is the command to read
+	 * @param param the param is param of the request, nothing is queued if it is null
+	 * @param expectedData the expectedData is data of the reply acknowledging the control, null to only refresh the cached value
+	 */
+	private void queueReadBack(LgControllingCommand command, commandNames param, byte[] expectedData) {
+		LgLCDCommandQueue queue = commandQueue;
+		if (queue == null || param == null) {
+			return;
+		}
+		queue.submit(() -> {
+			try {
+				byte[] response = send(getFrameEncoder().getRequestFrame(command.getCommandNames(), param));
+				digestResponse(response, command.getCommandNames());
+				if (expectedData != null && !Arrays.equals(expectedData, getReplyData(response))) {
+					controlDriftCount.incrementAndGet();
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Device %s reports %s for %s after acknowledging %s", this.host, new String(getReplyData(response), StandardCharsets.US_ASCII),
+								command.getName(), new String(expectedData, StandardCharsets.US_ASCII)));
+					}
+				}
+			} catch (Exception e) {
+				//The next polling cycle reads the value again
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Error when reading %s back", command.getName()), e);
+				}
+			}
+			return null;
+		}, CommandPriority.POLL);
+	}
+
+	/**
+	 * Get the command reading back the value of a controlled command
+	 *
+	 * @param command the command is the controlled command
+	 * @return LgControllingCommand read by the polling cycle for this command, null if the command is not read back
+	 */
+	private LgControllingCommand getReadBackCommand(commandNames command) {
+		for (LgControllingCommand controllingCommand : LgControllingCommand.values()) {
+			if (controllingCommand.getCommandNames() == command && (controllingCommand.isMonitorType() || controllingCommand.isControlType())) {
+				return controllingCommand;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the data of a reply "[Command2][ ][Set ID][ ][OK][Data][x]"
+	 *
+	 * @param response the response is the reply of the device
+	 * @return byte[] data of the reply, empty if the reply has no data
+	 */
+	private static byte[] getReplyData(byte[] response) {
+		//Data starts at index 7, after the status, and ends before the last reply terminator
+		int end = response.length - 1;
+		while (end > 7 && response[end] != LgLCDConstants.REPLY_TERMINATOR) {
+			end--;
+		}
+		return end > 7 ? Arrays.copyOfRange(response, 7, end) : new byte[0];
+	}
+
+	/**
+	 * Populate the controls of the video wall and the outcome of the latest wall control on each tile
+	 *
+	 * @param controlStatistics the controlStatistics are list of statistics
+	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
+	 */
+	private void populateWallControl(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+		if (wallSetIDList.isEmpty()) {
+			return;
+		}
+		String power = getValueByName(LgLCDConstants.POWER);
+		controlStatistics.put(LgLCDPropertyKeys.WALL_POWER, LgLCDConstants.ON.equalsIgnoreCase(power) ? String.valueOf(LgLCDConstants.NUMBER_ONE) : String.valueOf(LgLCDConstants.ZERO));
+		advancedControllableProperties.add(createSwitch(LgLCDPropertyKeys.WALL_POWER, LgLCDConstants.ON.equalsIgnoreCase(power) ? 1 : 0, LgLCDConstants.OFF, LgLCDConstants.ON));
+
+		String backlight = getValueByName(LgLCDConstants.BACKLIGHT);
+		if (LgLCDConstants.NA.equals(backlight)) {
+			backlight = String.valueOf(LgLCDConstants.ZERO);
+		}
+		advancedControllableProperties.add(createControlSlider(LgLCDPropertyKeys.WALL_BACKLIGHT, backlight, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
+				String.valueOf(LgLCDConstants.MAX_RANGE_BACKLIGHT)));
+
+		if (!priorityInputs.isEmpty()) {
+			String[] inputDropdown = priorityInputs.getInputOptions();
+			String inputSelect = getValueByName(LgLCDConstants.INPUT_SELECT);
+			if (LgLCDConstants.NA.equals(inputSelect)) {
+				inputSelect = inputDropdown[0];
+			}
+			controlStatistics.put(LgLCDPropertyKeys.WALL_INPUT_SELECT, inputSelect);
+			advancedControllableProperties.add(createDropdown(LgLCDPropertyKeys.WALL_INPUT_SELECT, inputDropdown, inputSelect));
+		}
+		populateWallStatus(controlStatistics);
 	}
 
 	/**
-	 * This method is used to convert from ui value in integer to api hex string
+	 * Populate the outcome of the latest wall control on each tile
 	 *
-	 * @param currentValue current ui value of property
-	 * @param maxValue max api value of property
-	 * @param minValue min api value of property
-	 * @return Float api current value
+	 * @param stats the stats are list of statistics
 	 */
-	private float convertFromUIValueToApiValue(String currentValue, int maxValue, int minValue) {
-		if (StringUtils.isNotNullOrEmpty(currentValue) && !LgLCDConstants.NA.equals(currentValue)) {
-			int a = Integer.parseInt(currentValue) - minValue;
-			int b = maxValue - minValue;
-			return a * (LgLCDConstants.COLOR_TEMPERATURE_MAX_VALUE - LgLCDConstants.COLOR_TEMPERATURE_MIN_VALUE) / b + LgLCDConstants.COLOR_TEMPERATURE_MIN_VALUE;
+	private void populateWallStatus(Map<String, String> stats) {
+		for (Integer setID : wallSetIDList) {
+			stats.put(LgLCDPropertyKeys.getWallTile(setID), wallTileStatus.getOrDefault(setID, LgLCDConstants.NA));
 		}
-		return 0f;
+		stats.put(LgLCDPropertyKeys.WALL_LAST_CONTROL_DURATION, wallLastControlDuration < 0 ? LgLCDConstants.NA : String.valueOf(wallLastControlDuration));
 	}
 
 	/**
-	 * Update the value for the control metric
+	 * Control every tile of the wall with one frame sent to the broadcast set ID, then read the value back from each tile
+	 * in one batch of requests to report which tiles applied it
 	 *
-	 * @param property is name of the metric
-	 * @param value the value is value of properties
-	 * @param extendedStatistics list statistics property
-	 * @param advancedControllableProperties the advancedControllableProperties is list AdvancedControllableProperties
+	 * @param propertyKey the propertyKey is name of the wall control
+	 * @param value the value is value of the control
+	 * @param stats the stats are list of statistics
 	 */
-	private void updateValueForTheControllableProperty(String property, String value, Map<String, String> extendedStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		if (!advancedControllableProperties.isEmpty()) {
-			for (AdvancedControllableProperty advancedControllableProperty : advancedControllableProperties) {
-				if (advancedControllableProperty.getName().equals(property)) {
-					extendedStatistics.put(property, value);
-					advancedControllableProperty.setValue(value);
-					break;
-				}
+	private void controlWall(String propertyKey, String value, Map<String, String> stats) throws Exception {
+		commandNames command;
+		String data;
+		Set<Integer> expectedValues = new HashSet<>();
+		if (LgLCDConstants.POWER.equals(propertyKey)) {
+			command = commandNames.POWER;
+			powerStatusNames powerStatus = String.valueOf(LgLCDConstants.NUMBER_ONE).equals(value) ? powerStatusNames.ON : powerStatusNames.OFF;
+			data = new String(LgLCDConstants.powerStatus.get(powerStatus), StandardCharsets.US_ASCII);
+		} else if (LgLCDConstants.BACKLIGHT.equals(propertyKey)) {
+			command = commandNames.BACKLIGHT;
+			data = Integer.toHexString((int) Float.parseFloat(value));
+		} else if (LgLCDConstants.INPUT_SELECT.equals(propertyKey)) {
+			command = commandNames.INPUT_SELECT;
+			data = InputSourceDropdown.getValueOfEnumByNameAndType(value, true);
+			//Either type of the input is a success
+			expectedValues.add(Integer.parseInt(InputSourceDropdown.getValueOfEnumByNameAndType(value, false), 16));
+		} else {
+			throw new IllegalArgumentException(String.format("Property name %s doesn't support", propertyKey));
+		}
+		try {
+			expectedValues.add(Integer.parseInt(data, 16));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(String.format("The property name %s is not supported with the value %s", propertyKey, value), e);
+		}
+		long startTime = System.currentTimeMillis();
+		byte[] frame = LgLCDUtils.buildSendString((byte) LgLCDConstants.BROADCAST_SET_ID, LgLCDConstants.commands.get(command), data.getBytes(StandardCharsets.UTF_8));
+		try {
+			LgLCDCommandQueue queue = commandQueue;
+			int replyCount = queue != null && !queue.isWorkerThread() ? sendByCommandQueue(queue, () -> sendBroadcast(frame)) : sendBroadcast(frame);
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Broadcast %s control acknowledged by %s tiles, reading the tiles back", command.name(), replyCount));
 			}
+		} catch (Exception e) {
+			//The read back tells whether each tile applied the value
+			logger.error(String.format("Error when sending the broadcast %s control", command.name()), e);
+		}
+		byte[][] replies = readBackWall(command);
+		wallTileStatus.clear();
+		for (int i = 0; i < wallSetIDList.size(); i++) {
+			wallTileStatus.put(wallSetIDList.get(i), getWallTileStatus(replies[i], expectedValues));
 		}
+		wallLastControlDuration = System.currentTimeMillis() - startTime;
+		populateWallStatus(stats);
 	}
 
 	/**
-	 * Control property name by value
+	 * Send a frame to the broadcast set ID without waiting for a reply, not every wall acknowledges a broadcast frame.
+	 * The acknowledgements of the tiles are discarded before the read back, they carry the same bytes as its replies.
+	 * The frame is spaced from the other commands by the cool down delay, but it does not feed the adaptive cool down delay
+	 * nor the command metrics as its outcome is only known from the read back.
+	 * Without the persistent connection the connection of this adapter is closed first, a display may accept a single session.
 	 *
-	 * @param command the command is command to send the request
-	 * @param param the param is parameter of the request
-	 * @param isDropdownControl whether a particular control is a dropdown control or not
-	 * @param value the value is value of property
+	 * @param frame the frame is the full command frame
+	 * @return int number of acknowledgements discarded
 	 */
-	private void sendRequestToControlValue(commandNames command, byte[] param, boolean isDropdownControl, String value) {
+	private int sendBroadcast(byte[] frame) throws Exception {
+		waitCoolDownDelay();
+		if (!isPersistentConnection) {
+			super.destroyChannel();
+		}
 		try {
-			byte[] response = send(LgLCDUtils.buildSendString((byte) monitorID, LgLCDConstants.commands.get(command), param));
-			String result = digestResponse(response, command).toString();
-			if (LgLCDConstants.NA.equals(result)) {
-				throw new IllegalArgumentException("The response NG reply ");
+			return getLgLCDConnection().sendWithoutReply(frame, wallSetIDList.size(), LgLCDConstants.BROADCAST_REPLY_WINDOW, defaultConfigTimeout);
+		} finally {
+			getEndpoint().setLastCommandTimestamp(System.currentTimeMillis());
+			if (!isPersistentConnection) {
+				getEndpoint().closeConnection();
 			}
-		} catch (Exception e) {
-			if (isDropdownControl) {
-				throw new IllegalArgumentException(
-						String.format("The property name %s is not supported. The current model does not support control with the value %s, and the device has responded with an error.", command.name(), value),
-						e);
+		}
+	}
+
+	/**
+	 * Read the value of a command back from every tile of the wall, pipelined on the persistent connection
+	 * or one tile at a time otherwise
+	 *
+	 * @param command the command is command to read
+	 * @return replies of the tiles in the order of {@link #wallSetIDList}, null for a tile that did not reply
+	 */
+	private byte[][] readBackWall(commandNames command) throws InterruptedException {
+		byte[][] replies = new byte[wallSetIDList.size()][];
+		List<byte[]> frames = new ArrayList<>(wallSetIDList.size());
+		for (Integer setID : wallSetIDList) {
+			frames.add(LgLCDFrameEncoder.encode(setID, LgLCDConstants.commands.get(command), LgLCDConstants.commands.get(commandNames.GET)));
+		}
+		if (isPersistentConnection) {
+			Future<LgLCDConnection.PipelineResult> readBack = commandQueue.submit(() -> sendPipelined(frames), CommandPriority.CONTROL);
+			try {
+				LgLCDConnection.PipelineResult result = readBack.get((long) defaultConfigTimeout * frames.size(), TimeUnit.MILLISECONDS);
+				for (int i = 0; i < replies.length; i++) {
+					replies[i] = result.getReply(i);
+				}
+			} catch (TimeoutException e) {
+				abandonCommand(readBack);
+			} catch (ExecutionException e) {
+				logger.error("Error when reading the wall back", e.getCause());
+			}
+			return replies;
+		}
+		for (int i = 0; i < replies.length; i++) {
+			try {
+				replies[i] = send(frames.get(i));
+			} catch (Exception e) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("No reply from tile %s", wallSetIDList.get(i)), e);
+				}
 			}
-			throw new IllegalArgumentException(String.format("Can't control property %s. The device has responded with an error.", command.name()), e);
 		}
+		return replies;
 	}
 
 	/**
-	 * Populate controlling data
+	 * Get the outcome of a wall control on a tile from its read back reply
 	 *
-	 * @param controlStatistics the controlStatistics are list of statistics
-	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
+	 * @param reply the reply is the read back reply of the tile, null if it did not reply
+	 * @param expectedValues the expectedValues are values the tile reports once the control is applied
+	 * @return String OK, Mismatch, NG or NoReply
 	 */
-	private void populateControllingData(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		retrieveFailOverGroupValue(controlStatistics, advancedControllableProperties);
-		retrieveDisplayAndSoundGroupValue(controlStatistics, advancedControllableProperties);
-		retrieveTileModeGroupValue(controlStatistics, advancedControllableProperties);
-		for (LgControllingCommand lgControllingCommand : LgControllingCommand.values()) {
-			populateDisplayPropertyGroup(lgControllingCommand, controlStatistics, advancedControllableProperties);
+	private static String getWallTileStatus(byte[] reply, Set<Integer> expectedValues) {
+		if (reply == null) {
+			return LgLCDConstants.WALL_TILE_NO_REPLY;
 		}
+		if (!hasReplyStatus(reply, replyStatusNames.OK)) {
+			return LgLCDConstants.WALL_TILE_NG;
+		}
+		int value = LgLCDUtils.parseHexValue(reply, 7, reply.length - 1);
+		return expectedValues.contains(value) ? LgLCDConstants.WALL_TILE_OK : LgLCDConstants.WALL_TILE_MISMATCH;
 	}
 
 	/**
@@ -1315,9 +3097,6 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 */
 	private void populateDisplayPropertyGroup(LgControllingCommand lgControllingCommand, Map<String, String> controlStatistics,
 			List<AdvancedControllableProperty> advancedControllableProperties) {
-		String displayGroupName = LgLCDConstants.DISPLAY + LgLCDConstants.HASH;
-		String soundGroupName = LgLCDConstants.SOUND + LgLCDConstants.HASH;
-		String powerManagementGroupName = LgLCDConstants.POWER_MANAGEMENT + LgLCDConstants.HASH;
 		String value;
 		switch (lgControllingCommand) {
 			case POWER:
@@ -1334,47 +3113,47 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 			case ASPECT_RATIO:
 				value = getValueByName(LgLCDConstants.ASPECT_RATIO);
 				String[] aspectRatioDropdown = EnumTypeHandler.getEnumNames(AspectRatio.class);
-				AdvancedControllableProperty aspectRatioControl = controlDropdown(controlStatistics, aspectRatioDropdown, displayGroupName + LgLCDConstants.ASPECT_RATIO, value);
+				AdvancedControllableProperty aspectRatioControl = controlDropdown(controlStatistics, aspectRatioDropdown, LgLCDPropertyKeys.DISPLAY_ASPECT_RATIO, value);
 				checkControlPropertyBeforeAddNewProperty(aspectRatioControl, advancedControllableProperties);
 				break;
 			case BRIGHTNESS_CONTROL:
 				value = getValueByName(LgLCDConstants.BRIGHTNESS_CONTROL);
 				String[] brightnessSizeDropdown = EnumTypeHandler.getEnumNames(BrightnessSize.class);
-				AdvancedControllableProperty brightnessSizeControl = controlDropdown(controlStatistics, brightnessSizeDropdown, displayGroupName + LgLCDConstants.BRIGHTNESS_CONTROL,
+				AdvancedControllableProperty brightnessSizeControl = controlDropdown(controlStatistics, brightnessSizeDropdown, LgLCDPropertyKeys.DISPLAY_BRIGHTNESS_CONTROL,
 						value);
 				checkControlPropertyBeforeAddNewProperty(brightnessSizeControl, advancedControllableProperties);
 				break;
 			case CONTRAST:
 				value = getValueByName(LgLCDConstants.CONTRAST);
-				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgLCDConstants.CONTRAST_VALUE);
-				AdvancedControllableProperty controlContrast = createControlSlider(displayGroupName + LgLCDConstants.CONTRAST, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
+				getDefaultValueForNullValue(value, controlStatistics, LgLCDPropertyKeys.DISPLAY_CONTRAST_VALUE);
+				AdvancedControllableProperty controlContrast = createControlSlider(LgLCDPropertyKeys.DISPLAY_CONTRAST, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
 						String.valueOf(LgLCDConstants.MAX_RANGE_CONTRAST));
 				checkControlPropertyBeforeAddNewProperty(controlContrast, advancedControllableProperties);
 				break;
 			case PICTURE_MODE:
 				value = getValueByName(LgLCDConstants.PICTURE_MODE);
 				String[] pictureModeDropdown = EnumTypeHandler.getEnumNames(PictureMode.class);
-				AdvancedControllableProperty pictureModeControl = controlDropdown(controlStatistics, pictureModeDropdown, displayGroupName + LgLCDConstants.PICTURE_MODE, value);
+				AdvancedControllableProperty pictureModeControl = controlDropdown(controlStatistics, pictureModeDropdown, LgLCDPropertyKeys.DISPLAY_PICTURE_MODE, value);
 				checkControlPropertyBeforeAddNewProperty(pictureModeControl, advancedControllableProperties);
 				break;
 			case BRIGHTNESS:
 				value = getValueByName(LgLCDConstants.BRIGHTNESS);
-				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgLCDConstants.BRIGHTNESS_VALUE);
-				AdvancedControllableProperty controlBrightness = createControlSlider(displayGroupName + LgLCDConstants.BRIGHTNESS, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
+				getDefaultValueForNullValue(value, controlStatistics, LgLCDPropertyKeys.DISPLAY_BRIGHTNESS_VALUE);
+				AdvancedControllableProperty controlBrightness = createControlSlider(LgLCDPropertyKeys.DISPLAY_BRIGHTNESS, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
 						String.valueOf(LgLCDConstants.MAX_RANGE_BRIGHTNESS));
 				checkControlPropertyBeforeAddNewProperty(controlBrightness, advancedControllableProperties);
 				break;
 			case SHARPNESS:
 				value = getValueByName(LgLCDConstants.SHARPNESS);
-				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgLCDConstants.SHARPNESS_VALUE);
-				AdvancedControllableProperty controlSharpness = createControlSlider(displayGroupName + LgLCDConstants.SHARPNESS, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
+				getDefaultValueForNullValue(value, controlStatistics, LgLCDPropertyKeys.DISPLAY_SHARPNESS_VALUE);
+				AdvancedControllableProperty controlSharpness = createControlSlider(LgLCDPropertyKeys.DISPLAY_SHARPNESS, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
 						String.valueOf(LgLCDConstants.MAX_RANGE_SHARPNESS));
 				checkControlPropertyBeforeAddNewProperty(controlSharpness, advancedControllableProperties);
 				break;
 			case SCREEN_COLOR:
 				value = getValueByName(LgLCDConstants.SCREEN_COLOR);
-				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgLCDConstants.SCREEN_COLOR_VALUE);
-				AdvancedControllableProperty controlScreenColor = createControlSlider(displayGroupName + LgLCDConstants.SCREEN_COLOR, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
+				getDefaultValueForNullValue(value, controlStatistics, LgLCDPropertyKeys.DISPLAY_SCREEN_COLOR_VALUE);
+				AdvancedControllableProperty controlScreenColor = createControlSlider(LgLCDPropertyKeys.DISPLAY_SCREEN_COLOR, value, controlStatistics, String.valueOf(LgLCDConstants.ZERO),
 						String.valueOf(LgLCDConstants.MAX_RANGE_SCREEN_COLOR));
 				checkControlPropertyBeforeAddNewProperty(controlScreenColor, advancedControllableProperties);
 				break;
@@ -1382,7 +3161,7 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 				value = getValueByName(LgLCDConstants.TINT);
 				String[] tintDropdown = EnumTypeHandler.getEnumNames(Tint.class);
 				String tintValue = EnumTypeHandler.getNameEnumByValue(Tint.class, value);
-				AdvancedControllableProperty controlTint = controlDropdown(controlStatistics, tintDropdown, displayGroupName + LgLCDConstants.TINT, tintValue);
+				AdvancedControllableProperty controlTint = controlDropdown(controlStatistics, tintDropdown, LgLCDPropertyKeys.DISPLAY_TINT, tintValue);
 				checkControlPropertyBeforeAddNewProperty(controlTint, advancedControllableProperties);
 				break;
 			case COLOR_TEMPERATURE:
@@ -1391,8 +3170,8 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 				if (colorTemperatureValue != 0f) {
 					value = String.valueOf((int) Float.parseFloat(String.valueOf(colorTemperatureValue)));
 				}
-				getDefaultValueForNullValue(value, controlStatistics, displayGroupName + LgLCDConstants.COLOR_TEMPERATURE_VALUE);
-				AdvancedControllableProperty controlColorTemperature = createControlSlider(displayGroupName + LgLCDConstants.COLOR_TEMPERATURE, value, controlStatistics,
+				getDefaultValueForNullValue(value, controlStatistics, LgLCDPropertyKeys.DISPLAY_COLOR_TEMPERATURE_VALUE);
+				AdvancedControllableProperty controlColorTemperature = createControlSlider(LgLCDPropertyKeys.DISPLAY_COLOR_TEMPERATURE, value, controlStatistics,
 						String.valueOf(LgLCDConstants.MIN_RANGE_COLOR_TEMPERATURE),
 						String.valueOf(LgLCDConstants.MAX_RANGE_COLOR_TEMPERATURE));
 				checkControlPropertyBeforeAddNewProperty(controlColorTemperature, advancedControllableProperties);
@@ -1401,13 +3180,13 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 				value = getValueByName(LgLCDConstants.BALANCE);
 				String[] balanceDropdown = EnumTypeHandler.getEnumNames(Balance.class);
 				String balanceValue = EnumTypeHandler.getNameEnumByValue(Balance.class, value);
-				AdvancedControllableProperty controlBalance = controlDropdown(controlStatistics, balanceDropdown, soundGroupName + LgLCDConstants.BALANCE, balanceValue);
+				AdvancedControllableProperty controlBalance = controlDropdown(controlStatistics, balanceDropdown, LgLCDPropertyKeys.SOUND_BALANCE, balanceValue);
 				checkControlPropertyBeforeAddNewProperty(controlBalance, advancedControllableProperties);
 				break;
 			case SOUND_MODE:
 				value = getValueByName(LgLCDConstants.SOUND_MODE);
 				String[] soundModeDropdown = EnumTypeHandler.getEnumNames(SoundMode.class);
-				AdvancedControllableProperty soundModeControl = controlDropdown(controlStatistics, soundModeDropdown, soundGroupName + LgLCDConstants.SOUND_MODE, value);
+				AdvancedControllableProperty soundModeControl = controlDropdown(controlStatistics, soundModeDropdown, LgLCDPropertyKeys.SOUND_MODE, value);
 				checkControlPropertyBeforeAddNewProperty(soundModeControl, advancedControllableProperties);
 				break;
 			case LANGUAGE:
@@ -1419,7 +3198,7 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 			case POWER_ON_STATUS:
 				value = getValueByName(LgLCDConstants.POWER_ON_STATUS);
 				String[] powerDropdown = EnumTypeHandler.getEnumNames(PowerStatus.class);
-				AdvancedControllableProperty powerControl = controlDropdown(controlStatistics, powerDropdown, powerManagementGroupName + LgLCDConstants.POWER_ON_STATUS, value);
+				AdvancedControllableProperty powerControl = controlDropdown(controlStatistics, powerDropdown, LgLCDPropertyKeys.POWER_MANAGEMENT_POWER_ON_STATUS, value);
 				checkControlPropertyBeforeAddNewProperty(powerControl, advancedControllableProperties);
 				break;
 			case NO_SIGNAL_POWER_OFF:
@@ -1427,7 +3206,7 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 				if (!LgLCDConstants.NA.equals(value)) {
 					value = String.valueOf(LgLCDConstants.ON.equalsIgnoreCase(value) ? LgLCDConstants.NUMBER_ONE : LgLCDConstants.ZERO);
 				}
-				AdvancedControllableProperty controlNoSignalPower = controlSwitch(controlStatistics, powerManagementGroupName + LgLCDConstants.NO_SIGNAL_POWER_OFF, value,
+				AdvancedControllableProperty controlNoSignalPower = controlSwitch(controlStatistics, LgLCDPropertyKeys.POWER_MANAGEMENT_NO_SIGNAL_POWER_OFF, value,
 						LgLCDConstants.OFF,
 						LgLCDConstants.ON);
 				checkControlPropertyBeforeAddNewProperty(controlNoSignalPower, advancedControllableProperties);
@@ -1437,7 +3216,7 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 				if (!LgLCDConstants.NA.equalsIgnoreCase(value)) {
 					value = String.valueOf(LgLCDConstants.ON.equalsIgnoreCase(value) ? LgLCDConstants.NUMBER_ONE : LgLCDConstants.ZERO);
 				}
-				AdvancedControllableProperty controlNoIRPower = controlSwitch(controlStatistics, powerManagementGroupName + LgLCDConstants.NO_IR_POWER_OFF, value, LgLCDConstants.OFF,
+				AdvancedControllableProperty controlNoIRPower = controlSwitch(controlStatistics, LgLCDPropertyKeys.POWER_MANAGEMENT_NO_IR_POWER_OFF, value, LgLCDConstants.OFF,
 						LgLCDConstants.ON);
 				checkControlPropertyBeforeAddNewProperty(controlNoIRPower, advancedControllableProperties);
 				break;
@@ -1468,13 +3247,12 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 */
 	private void populateMonitoringData(Map<String, String> statistics, Map<String, String> dynamicStatistics) {
 		//The flow code is handled in the previous version
-		String inputGroupName = LgLCDConstants.INPUT + LgLCDConstants.HASH;
 		String signal = getValueByName(LgLCDConstants.SIGNAL);
 		if (LgLCDConstants.NA.equals(signal)) {
 			signal = syncStatusNames.NO_SYNC.name();
 		}
 		statistics.put(LgLCDConstants.SIGNAL, signal);
-		statistics.put(inputGroupName + LgLCDConstants.SIGNAL, signal);
+		statistics.put(LgLCDPropertyKeys.INPUT_SIGNAL, signal);
 		String inputSignal = getValueByName(LgLCDConstants.INPUT_SELECT);
 		statistics.put(LgLCDConstants.INPUT_SELECT, inputSignal);
 
@@ -1531,18 +3309,17 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
 	 */
 	private void retrieveTileModeGroupValue(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		String groupName = LgLCDConstants.TILE_MODE_SETTINGS + LgLCDConstants.HASH;
 		//populate tile settings
 		String tileMode = getValueByName(LgLCDConstants.TILE_MODE);
 		String tileModeValue = LgLCDConstants.NA;
 		if (!LgLCDConstants.NA.equals(tileMode)) {
 			tileModeValue = String.valueOf(LgLCDConstants.ON.equalsIgnoreCase(tileMode) ? 1 : 0);
 		}
-		AdvancedControllableProperty controlTileMode = controlSwitch(controlStatistics, groupName + LgLCDConstants.TILE_MODE, tileModeValue, LgLCDConstants.OFF, LgLCDConstants.ON);
+		AdvancedControllableProperty controlTileMode = controlSwitch(controlStatistics, LgLCDPropertyKeys.TILE_MODE, tileModeValue, LgLCDConstants.OFF, LgLCDConstants.ON);
 		checkControlPropertyBeforeAddNewProperty(controlTileMode, advancedControllableProperties);
 
-		controlStatistics.put(groupName + LgLCDConstants.TILE_MODE_COLUMN, getValueByName(LgLCDConstants.TILE_MODE_COLUMN));
-		controlStatistics.put(groupName + LgLCDConstants.TILE_MODE_ROW, getValueByName(LgLCDConstants.TILE_MODE_ROW));
+		controlStatistics.put(LgLCDPropertyKeys.TILE_MODE_COLUMN, getValueByName(LgLCDConstants.TILE_MODE_COLUMN));
+		controlStatistics.put(LgLCDPropertyKeys.TILE_MODE_ROW, getValueByName(LgLCDConstants.TILE_MODE_ROW));
 
 		//NaturalMode
 		if (LgLCDConstants.ON.equals(tileMode)) {
@@ -1552,15 +3329,15 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 			if (!LgLCDConstants.NA.equals(tileModeID)) {
 				tileModeID = String.valueOf(Integer.parseInt(tileModeID));
 			}
-			controlStatistics.put(groupName + LgLCDConstants.TILE_MODE_ID, tileModeID);
+			controlStatistics.put(LgLCDPropertyKeys.TILE_MODE_ID, tileModeID);
 			String naturalMode = getValueByName(LgLCDConstants.NATURAL_MODE);
 			if (!LgLCDConstants.NA.equals(naturalMode)) {
 				naturalMode = String.valueOf(LgLCDConstants.ZERO == Integer.parseInt(naturalMode) ? 0 : 1);
 			}
-			AdvancedControllableProperty controlNaturalMode = controlSwitch(controlStatistics, groupName + LgLCDConstants.NATURAL_MODE, naturalMode, LgLCDConstants.OFF, LgLCDConstants.ON);
+			AdvancedControllableProperty controlNaturalMode = controlSwitch(controlStatistics, LgLCDPropertyKeys.TILE_MODE_NATURAL_MODE, naturalMode, LgLCDConstants.OFF, LgLCDConstants.ON);
 			checkControlPropertyBeforeAddNewProperty(controlNaturalMode, advancedControllableProperties);
 			if (String.valueOf(LgLCDConstants.NUMBER_ONE).equals(naturalMode)) {
-				controlStatistics.put(groupName + LgLCDConstants.NATURAL_SIZE, getValueByName(LgLCDConstants.NATURAL_SIZE));
+				controlStatistics.put(LgLCDPropertyKeys.TILE_MODE_NATURAL_SIZE, getValueByName(LgLCDConstants.NATURAL_SIZE));
 			}
 		}
 	}
@@ -1572,46 +3349,36 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
 	 */
 	private void retrieveFailOverGroupValue(Map<String, String> controlStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		String groupName = LgLCDConstants.FAILOVER + LgLCDConstants.HASH;
 		String failOver = getValueByName(LgLCDConstants.FAILOVER_MODE);
 		int failOverValue = LgLCDConstants.NUMBER_ONE;
 		if (LgLCDConstants.NA.equals(failOver)) {
-			controlStatistics.put(groupName + LgLCDConstants.INPUT_PRIORITY, failOver);
+			controlStatistics.put(LgLCDPropertyKeys.FAILOVER_INPUT_PRIORITY, failOver);
 			return;
 		}
 		if (LgLCDConstants.OFF.equalsIgnoreCase(failOver)) {
 			failOverValue = LgLCDConstants.ZERO;
 		} else if (LgLCDConstants.AUTO.equalsIgnoreCase(failOver)) {
-			AdvancedControllableProperty controlInputPriority = controlSwitch(controlStatistics, groupName + LgLCDConstants.INPUT_PRIORITY, String.valueOf(LgLCDConstants.ZERO), LgLCDConstants.AUTO,
+			AdvancedControllableProperty controlInputPriority = controlSwitch(controlStatistics, LgLCDPropertyKeys.FAILOVER_INPUT_PRIORITY, String.valueOf(LgLCDConstants.ZERO), LgLCDConstants.AUTO,
 					LgLCDConstants.MANUAL);
 			checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
 		} else {
 			// failover is Manual
-			AdvancedControllableProperty controlInputPriority = controlSwitch(controlStatistics, groupName + LgLCDConstants.INPUT_PRIORITY, String.valueOf(LgLCDConstants.NUMBER_ONE), LgLCDConstants.AUTO,
+			AdvancedControllableProperty controlInputPriority = controlSwitch(controlStatistics, LgLCDPropertyKeys.FAILOVER_INPUT_PRIORITY, String.valueOf(LgLCDConstants.NUMBER_ONE), LgLCDConstants.AUTO,
 					LgLCDConstants.MANUAL);
 			checkControlPropertyBeforeAddNewProperty(controlInputPriority, advancedControllableProperties);
-			for (Entry<String, String> entry : cacheMapOfPriorityInputAndValue.entrySet()) {
-				if (LgLCDConstants.PLAY_VIA_URL.equalsIgnoreCase(entry.getValue())) {
-					continue;
-				}
-				controlStatistics.put(groupName + entry.getKey(), entry.getValue());
-			}
-			String[] inputSelected = cacheMapOfPriorityInputAndValue.values().stream().filter(item -> !item.equalsIgnoreCase(LgLCDConstants.PLAY_VIA_URL)).collect(Collectors.toList())
-					.toArray(new String[0]);
+			String[] inputSelected = populatePriorityList(controlStatistics);
 			String priorityInput = getValueByName(LgLCDConstants.PRIORITY_INPUT);
 			if (LgLCDConstants.NA.equals(priorityInput)) {
-				Optional<Entry<String, String>> priorityInputOption = cacheMapOfPriorityInputAndValue.entrySet().stream().filter(item -> !item.getValue().equalsIgnoreCase(LgLCDConstants.PLAY_VIA_URL))
-						.findFirst();
-				if (priorityInputOption.isPresent()) {
-					priorityInput = priorityInputOption.get().getValue();
+				if (inputSelected.length > 0) {
+					priorityInput = inputSelected[0];
 				}
-				localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.PRIORITY_INPUT, priorityInput);
+				localPropertyStore.put(LgLCDConstants.PRIORITY_INPUT, priorityInput);
 			}
-			populatePriorityInput(controlStatistics, advancedControllableProperties, groupName, priorityInput);
-			AdvancedControllableProperty controlInputSource = controlDropdown(controlStatistics, inputSelected, groupName + LgLCDConstants.PRIORITY_INPUT, priorityInput);
+			populatePriorityInput(controlStatistics, advancedControllableProperties, priorityInput);
+			AdvancedControllableProperty controlInputSource = controlDropdown(controlStatistics, inputSelected, LgLCDPropertyKeys.FAILOVER_PRIORITY_INPUT, priorityInput);
 			checkControlPropertyBeforeAddNewProperty(controlInputSource, advancedControllableProperties);
 		}
-		AdvancedControllableProperty controlFailover = controlSwitch(controlStatistics, groupName + LgLCDConstants.FAILOVER_MODE, String.valueOf(failOverValue), LgLCDConstants.OFF, LgLCDConstants.ON);
+		AdvancedControllableProperty controlFailover = controlSwitch(controlStatistics, LgLCDPropertyKeys.FAILOVER_MODE, String.valueOf(failOverValue), LgLCDConstants.OFF, LgLCDConstants.ON);
 		checkControlPropertyBeforeAddNewProperty(controlFailover, advancedControllableProperties);
 	}
 
@@ -1622,50 +3389,45 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 * @param advancedControllableProperties the advancedControllableProperties is advancedControllableProperties instance
 	 */
 	private void retrieveDisplayAndSoundGroupValue(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		String displayGroupName = LgLCDConstants.DISPLAY + LgLCDConstants.HASH;
-		String soundGroupName = LgLCDConstants.SOUND + LgLCDConstants.HASH;
-		String inputGroupName = LgLCDConstants.INPUT + LgLCDConstants.HASH;
-		String powerManagementGroupName = LgLCDConstants.POWER_MANAGEMENT + LgLCDConstants.HASH;
 		String backlight = getValueByName(LgLCDConstants.BACKLIGHT);
 		String mute = getValueByName(LgLCDConstants.MUTE);
 		String volume = getValueByName(LgLCDConstants.VOLUME);
 
-		getDefaultValueForNullValue(backlight, statistics, displayGroupName + LgLCDConstants.BACKLIGHT_VALUE);
-		AdvancedControllableProperty controlBacklight = createControlSlider(displayGroupName + LgLCDConstants.BACKLIGHT, backlight, statistics, String.valueOf(LgLCDConstants.ZERO),
+		getDefaultValueForNullValue(backlight, statistics, LgLCDPropertyKeys.DISPLAY_BACKLIGHT_VALUE);
+		AdvancedControllableProperty controlBacklight = createControlSlider(LgLCDPropertyKeys.DISPLAY_BACKLIGHT, backlight, statistics, String.valueOf(LgLCDConstants.ZERO),
 				String.valueOf(LgLCDConstants.MAX_RANGE_BACKLIGHT));
 		checkControlPropertyBeforeAddNewProperty(controlBacklight, advancedControllableProperties);
 
 		if (!LgLCDConstants.NA.equals(mute)) {
 			mute = String.valueOf(Integer.parseInt(mute) == 0 ? LgLCDConstants.NUMBER_ONE : LgLCDConstants.ZERO);
 		}
-		AdvancedControllableProperty controlMute = controlSwitch(statistics, soundGroupName + LgLCDConstants.MUTE, mute, LgLCDConstants.OFF, LgLCDConstants.ON);
+		AdvancedControllableProperty controlMute = controlSwitch(statistics, LgLCDPropertyKeys.SOUND_MUTE, mute, LgLCDConstants.OFF, LgLCDConstants.ON);
 		checkControlPropertyBeforeAddNewProperty(controlMute, advancedControllableProperties);
 
-		getDefaultValueForNullValue(volume, statistics, soundGroupName + LgLCDConstants.VOLUME_VALUE);
-		AdvancedControllableProperty controlVolume = createControlSlider(soundGroupName + LgLCDConstants.VOLUME, volume, statistics, String.valueOf(LgLCDConstants.ZERO),
+		getDefaultValueForNullValue(volume, statistics, LgLCDPropertyKeys.SOUND_VOLUME_VALUE);
+		AdvancedControllableProperty controlVolume = createControlSlider(LgLCDPropertyKeys.SOUND_VOLUME, volume, statistics, String.valueOf(LgLCDConstants.ZERO),
 				String.valueOf(LgLCDConstants.MAX_RANGE_VOLUME));
 		checkControlPropertyBeforeAddNewProperty(controlVolume, advancedControllableProperties);
 
 		String inputSourceValue = getValueByName(LgLCDConstants.INPUT_SELECT);
 		if (!LgLCDConstants.NA.equals(inputSourceValue)) {
-			cacheMapOfPriorityInputAndValue.put(LgLCDConstants.PLAY_VIA_URL, LgLCDConstants.PLAY_VIA_URL);
-			String[] inputDropdown = cacheMapOfPriorityInputAndValue.values().stream().sorted().collect(Collectors.toList()).toArray(new String[0]);
-			AdvancedControllableProperty controlInputSource = controlDropdown(statistics, inputDropdown, inputGroupName + LgLCDConstants.INPUT_SELECT, inputSourceValue);
+			String[] inputDropdown = priorityInputs.getInputOptions();
+			AdvancedControllableProperty controlInputSource = controlDropdown(statistics, inputDropdown, LgLCDPropertyKeys.INPUT_SELECT, inputSourceValue);
 			checkControlPropertyBeforeAddNewProperty(controlInputSource, advancedControllableProperties);
 			statistics.put(LgLCDConstants.INPUT_SELECT, inputSourceValue);
 		} else {
-			statistics.put(inputGroupName + LgLCDConstants.INPUT_SELECT, LgLCDConstants.NA);
+			statistics.put(LgLCDPropertyKeys.INPUT_SELECT, LgLCDConstants.NA);
 			statistics.put(LgLCDConstants.INPUT_SELECT, LgLCDConstants.NA);
 		}
 		String[] pmdDropdown = EnumTypeHandler.getEnumNames(PowerManagement.class);
-		AdvancedControllableProperty controlPMD = controlDropdown(statistics, pmdDropdown, powerManagementGroupName + LgLCDConstants.DISPLAY_STAND_BY_MODE,
+		AdvancedControllableProperty controlPMD = controlDropdown(statistics, pmdDropdown, LgLCDPropertyKeys.POWER_MANAGEMENT_DISPLAY_STAND_BY_MODE,
 				getValueByName(LgLCDConstants.DISPLAY_STAND_BY_MODE));
 		checkControlPropertyBeforeAddNewProperty(controlPMD, advancedControllableProperties);
 
 		String pmdModeValue = getValueByName(LgLCDConstants.POWER_MANAGEMENT_MODE);
 
 		String[] pmdModeDropdown = EnumTypeHandler.getEnumNames(PowerManagementModeEnum.class);
-		AdvancedControllableProperty controlPMDMode = controlDropdown(statistics, pmdModeDropdown, powerManagementGroupName + LgLCDConstants.POWER_MANAGEMENT_MODE, pmdModeValue);
+		AdvancedControllableProperty controlPMDMode = controlDropdown(statistics, pmdModeDropdown, LgLCDPropertyKeys.POWER_MANAGEMENT_MODE, pmdModeValue);
 		checkControlPropertyBeforeAddNewProperty(controlPMDMode, advancedControllableProperties);
 	}
 
@@ -1676,7 +3438,10 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 * @return String is value of property or NA if the value is null or N/A
 	 */
 	private String getValueByName(String name) {
-		String value = localCacheMapOfPropertyNameAndValue.get(name);
+		if (readingSection != null) {
+			readingSection.addReadProperty(name);
+		}
+		String value = localPropertyStore.get(name);
 		if (StringUtils.isNullOrEmpty(value) || LgLCDConstants.NA.equals(value)) {
 			return LgLCDConstants.NA;
 		}
@@ -1692,10 +3457,10 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 */
 	private String retrieveDataByCommandName(commandNames command, commandNames param, LgControllingCommand lgControllingCommand) {
 		try {
-			byte[] response = send(LgLCDUtils.buildSendString((byte) monitorID, LgLCDConstants.commands.get(command), LgLCDConstants.commands.get(param)));
+			byte[] response = send(getFrameEncoder().getRequestFrame(command, param));
 			return digestResponse(response, command).toString();
 		} catch (Exception ce) {
-			failedMonitor.add(lgControllingCommand.getName());
+			failedMonitor.add(lgControllingCommand);
 			return LgLCDConstants.NA;
 		}
 	}
@@ -1709,7 +3474,6 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 					LgLCDUtils.buildSendString((byte) monitorID, LgLCDConstants.commands.get(LgLCDConstants.commandNames.POWER), LgLCDConstants.powerStatus.get(LgLCDConstants.powerStatusNames.ON)));
 
 			digestResponse(response, LgLCDConstants.commandNames.POWER);
-			updateCachedDeviceData(cacheMapOfPriorityInputAndValue, LgLCDConstants.POWER, LgLCDConstants.ON);
 		} catch (Exception e) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("error during power OFF send", e);
@@ -1726,7 +3490,6 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 					LgLCDUtils.buildSendString((byte) monitorID, LgLCDConstants.commands.get(LgLCDConstants.commandNames.POWER), LgLCDConstants.powerStatus.get(LgLCDConstants.powerStatusNames.OFF)));
 
 			digestResponse(response, LgLCDConstants.commandNames.POWER);
-			updateCachedDeviceData(cacheMapOfPriorityInputAndValue, LgLCDConstants.POWER, LgLCDConstants.OFF);
 		} catch (Exception e) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("error during power ON send", e);
@@ -1737,15 +3500,11 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	/**
 	 * Update cache device data
 	 *
-	 * @param cacheMapOfPropertyNameAndValue the cacheMapOfPropertyNameAndValue are map key and value of it
 	 * @param property the key is property name
 	 * @param value the value is String value
 	 */
-	private void updateCachedDeviceData(Map<String, String> cacheMapOfPropertyNameAndValue, String property, String value) {
-		cacheMapOfPropertyNameAndValue.remove(property);
-		cacheMapOfPropertyNameAndValue.put(property, value);
-		//Remove the caching lifetime after receiving new data
-		localCachingLifeTimeOfMap.remove(property);
+	private void updateCachedDeviceData(String property, String value) {
+		localPropertyStore.put(property, value);
 	}
 
 	/**
@@ -1757,252 +3516,15 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	 */
 	protected Object digestResponse(byte[] response, commandNames expectedResponse) {
 		if (response[0] == LgLCDConstants.commands.get(expectedResponse)[1]) {
-
-			byte[] responseStatus = Arrays.copyOfRange(response, 5, 7);
-
-			if (Arrays.equals(responseStatus, LgLCDConstants.replyStatusCodes.get(replyStatusNames.OK))) {
-
-				byte[] reply = Arrays.copyOfRange(response, 7, 9);
-
-				switch (expectedResponse) {
-					case NATURAL_MODE:
-						String natural = convertByteToValue(reply);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NATURAL_MODE, natural);
-						return natural;
-					case TILE_ID:
-						String tileID = convertByteToValue(reply);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE_ID, tileID);
-						return tileID;
-					case TILE_MODE_CONTROL:
-						String tileModeControl = convertByteToValue(reply);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE_SETTINGS, tileModeControl);
-						return tileModeControl;
-					case NATURAL_SIZE:
-						int naturalSize = Integer.parseInt(convertByteToValue(Arrays.copyOfRange(response, 9, 11)), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NATURAL_SIZE, String.valueOf(naturalSize));
-						return naturalSize;
-					case BACKLIGHT:
-						int backlight = Integer.parseInt(convertByteToValue(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BACKLIGHT, String.valueOf(backlight));
-						return backlight;
-					case MUTE:
-						int mute = Integer.parseInt(convertByteToValue(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.MUTE, String.valueOf(mute));
-						return mute;
-					case VOLUME:
-						int volume = Integer.parseInt(convertByteToValue(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.VOLUME, String.valueOf(volume));
-						return volume;
-					case FAILOVER_INPUT_LIST:
-						int len = response.length;
-						reply = Arrays.copyOfRange(response, 7, len - 1);
-						convertInputPriorityByValue(convertByteToValue(reply));
-						return reply;
-					case POWER_MANAGEMENT_MODE:
-						reply = Arrays.copyOfRange(response, 9, 11);
-						String powerManagement = convertByteToValue(reply);
-						powerManagement = EnumTypeHandler.getNameEnumByValue(PowerManagementModeEnum.class, powerManagement);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.POWER_MANAGEMENT_MODE, powerManagement);
-						return powerManagement;
-					case POWER:
-						for (Map.Entry<LgLCDConstants.powerStatusNames, byte[]> entry : LgLCDConstants.powerStatus.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.POWER, entry.getKey().toString());
-								return entry.getKey();
-							}
-						}
-						break;
-					case NETWORK_SETTING:
-						reply = Arrays.copyOfRange(response, 10, response.length - 1);
-						convertNetworkSettingByValue(convertByteToValue(reply));
-						return reply;
-					case INPUT_SELECT:
-					case INPUT:
-						for (Map.Entry<LgLCDConstants.inputNames, byte[]> entry : LgLCDConstants.inputs.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								String input = convertByteToValue(entry.getValue());
-								String inputValue = EnumTypeHandler.getNameEnumByValue(FailOverInputSourceEnum.class, input);
-								if (LgLCDConstants.NA.equalsIgnoreCase(inputValue)) {
-									inputValue = EnumTypeHandler.getNameEnumByValue(InputSourceDropdown.class, input);
-								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.INPUT_SELECT, inputValue);
-								return entry.getKey();
-							}
-						}
-						break;
-					case TEMPERATURE:
-						int temperature = Integer.parseInt(new String(reply), 16);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TEMPERATURE, String.valueOf(temperature));
-						return temperature;
-					case FAN_STATUS:
-						for (Map.Entry<LgLCDConstants.fanStatusNames, byte[]> entry : LgLCDConstants.fanStatusCodes.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.FAN, entry.getKey().name());
-								return entry.getKey();
-							}
-						}
-						break;
-					case SYNC_STATUS:
-						reply = Arrays.copyOfRange(response, 7, 11);
-						for (Map.Entry<LgLCDConstants.syncStatusNames, byte[]> entry : LgLCDConstants.syncStatusCodes.entrySet()) {
-							if (Arrays.equals(reply, entry.getValue())) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SIGNAL, entry.getKey().toString());
-								return entry.getKey();
-							}
-						}
-						break;
-					case SERIAL_NUMBER:
-						byte[] data = Arrays.copyOfRange(response, 7, 19);
-						String serialNumber = convertByteToValue(data);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SERIAL_NUMBER, serialNumber);
-						return serialNumber;
-					case FAILOVER:
-						String failOver = convertByteToValue(reply);
-						for (FailOverEnum name : FailOverEnum.values()) {
-							if (name.getValue().equals(failOver)) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.FAILOVER_MODE, name.getName());
-								return name.getName();
-							}
-						}
-						break;
-					case SOFTWARE_VERSION:
-						data = Arrays.copyOfRange(response, 7, 13);
-						String softwareVersion = convertByteToValue(data);
-						//Custom software with format xx.xx.xx
-						StringBuilder stringBuilder = new StringBuilder();
-						for (int i = 0; i < softwareVersion.length(); i = i + 2) {
-							stringBuilder.append(softwareVersion, i, i + 2);
-							if (i != softwareVersion.length() - 2) {
-								stringBuilder.append(LgLCDConstants.DOT);
-							}
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SOFTWARE_VERSION, stringBuilder.toString());
-						return stringBuilder.toString();
-					case DISPLAY_STAND_BY_MODE:
-						String pdm = convertByteToValue(reply);
-						for (PowerManagement name : PowerManagement.values()) {
-							if (name.getValue().equals(pdm)) {
-								if (!localCacheMapOfPropertyNameAndValue.isEmpty()) {
-									localCacheMapOfPropertyNameAndValue.remove(LgLCDConstants.DISPLAY_STAND_BY_MODE);
-								}
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.DISPLAY_STAND_BY_MODE, name.getName());
-								if (PowerManagement.OFF.getName().equals(name.getName())) {
-									return name.getName();
-								}
-								return LgLCDConstants.ON;
-							}
-						}
-						break;
-					case DATE:
-						data = Arrays.copyOfRange(response, 7, 13);
-						String date = convertDateFormatByValue(data, false);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.DATE, date);
-						return date;
-					case TIME:
-						data = Arrays.copyOfRange(response, 7, 13);
-						String time = convertDateFormatByValue(data, true);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TIME, time);
-						return time;
-					case TILE_MODE_SETTINGS:
-						byte[] typeModeStatus = Arrays.copyOfRange(response, 7, 9);
-						byte[] typeModeColumn = Arrays.copyOfRange(response, 9, 11);
-						byte[] typeModeRow = Arrays.copyOfRange(response, 11, 13);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE_COLUMN, String.valueOf(Integer.parseInt(convertByteToValue(typeModeColumn), 16)));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE_ROW, String.valueOf(Integer.parseInt(convertByteToValue(typeModeRow), 16)));
-						String tileMode = convertByteToValue(typeModeStatus);
-						for (TileMode name : TileMode.values()) {
-							if (name.isStatus() && name.getValue().equals(tileMode)) {
-								updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TILE_MODE, name.getName());
-								return name.getName();
-							}
-						}
-						break;
-					case ASPECT_RATIO:
-						String aspectRatio = EnumTypeHandler.getNameEnumByValue(AspectRatio.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.ASPECT_RATIO, aspectRatio);
-						return aspectRatio;
-					case BRIGHTNESS_CONTROL:
-						String brightness = EnumTypeHandler.getNameEnumByValue(BrightnessSize.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BRIGHTNESS_CONTROL, brightness);
-						return brightness;
-					case PICTURE_MODE:
-						String pictureMode = EnumTypeHandler.getNameEnumByValue(PictureMode.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.PICTURE_MODE, pictureMode);
-						return pictureMode;
-					case BRIGHTNESS:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String brightnessMode = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BRIGHTNESS, brightnessMode);
-						return brightnessMode;
-					case CONTRAST:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String sharpness = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.CONTRAST, sharpness);
-						return sharpness;
-					case SHARPNESS:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String sharpnessValue = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SHARPNESS, sharpnessValue);
-						return sharpnessValue;
-					case SCREEN_COLOR:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String tint = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SCREEN_COLOR, tint);
-						return tint;
-					case TINT:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.TINT, convertByteToValue(reply));
-						return reply;
-					case COLOR_TEMPERATURE:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String colorTemperature = String.valueOf(Integer.parseInt(convertByteToValue(reply), 16));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.COLOR_TEMPERATURE, colorTemperature);
-						return colorTemperature;
-					case BALANCE:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.BALANCE, convertByteToValue(reply));
-						return reply;
-					case SOUND_MODE:
-						String soundModeValue = EnumTypeHandler.getNameEnumByValue(SoundMode.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.SOUND_MODE, soundModeValue);
-						return soundModeValue;
-					case NO_SIGNAL_POWER_OFF:
-						String noSignal = String.valueOf(Integer.parseInt(convertByteToValue(reply)));
-						String noSignalValue = LgLCDConstants.ON;
-						if (String.valueOf(LgLCDConstants.ZERO).equals(noSignal)) {
-							noSignalValue = LgLCDConstants.OFF;
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NO_SIGNAL_POWER_OFF, noSignalValue);
-						return noSignalValue;
-					case NO_IR_POWER_OFF:
-						String noIRPower = String.valueOf(Integer.parseInt(convertByteToValue(reply)));
-						String noIRPowerValue = LgLCDConstants.ON;
-						if (String.valueOf(LgLCDConstants.ZERO).equals(noIRPower)) {
-							noIRPowerValue = LgLCDConstants.OFF;
-						}
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.NO_IR_POWER_OFF, noIRPowerValue);
-						return noIRPowerValue;
-					case LANGUAGE:
-						String languageValue = EnumTypeHandler.getNameEnumByValue(Language.class, convertByteToValue(reply));
-						if (!LgLCDConstants.NA.equals(languageValue)) {
-							updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.LANGUAGE, languageValue);
-						}
-						return languageValue;
-					case POWER_ON_STATUS:
-						String powerOnStatus = EnumTypeHandler.getNameEnumByValue(PowerStatus.class, convertByteToValue(reply));
-						updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, LgLCDConstants.POWER_ON_STATUS, powerOnStatus);
-						return powerOnStatus;
-					case REBOOT:
-						reply = Arrays.copyOfRange(response, 7, 9);
-						String rebootValue = convertByteToValue(reply);
-						if (!LgLCDConstants.REBOOT_VALUE.equals(rebootValue)) {
-							throw new ResourceNotReachableException("NG reply");
-						}
-						return rebootValue;
-					default:
-						logger.debug("this command name is not supported" + expectedResponse);
+			if (hasReplyStatus(response, replyStatusNames.OK)) {
+				LgLCDResponseDecoder responseDecoder = responseDecoders.get(expectedResponse);
+				if (responseDecoder == null) {
+					logger.debug("this command name is not supported" + expectedResponse);
+					return LgLCDConstants.NA;
 				}
-			} else if (Arrays.equals(responseStatus, LgLCDConstants.replyStatusCodes.get(replyStatusNames.NG))) {
+				Object value = responseDecoder.decode(response);
+				return value == null ? LgLCDConstants.NA : value;
+			} else if (hasReplyStatus(response, replyStatusNames.NG)) {
 				switch (expectedResponse) {
 					case FAN_STATUS: {
 						return LgLCDConstants.fanStatusNames.NOT_SUPPORTED;
@@ -2026,18 +3548,299 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 	}
 
 	/**
-	 * Convert input priority by value
+	 * Register the decoder of every command into {@link #responseDecoders}.
+	 * Data is read in place from the reply "[Command2][ ][Set ID][ ][OK][Data][x]", starting at index 7.
+	 */
+	private void registerResponseDecoders() {
+		responseDecoders.put(commandNames.NATURAL_MODE, response -> {
+			String natural = asciiData(response, 7, 9);
+			updateCachedDeviceData(LgLCDConstants.NATURAL_MODE, natural);
+			return natural;
+		});
+		responseDecoders.put(commandNames.TILE_ID, response -> {
+			String tileID = asciiData(response, 7, 9);
+			updateCachedDeviceData(LgLCDConstants.TILE_MODE_ID, tileID);
+			return tileID;
+		});
+		responseDecoders.put(commandNames.TILE_MODE_CONTROL, response -> {
+			String tileModeControl = asciiData(response, 7, 9);
+			updateCachedDeviceData(LgLCDConstants.TILE_MODE_SETTINGS, tileModeControl);
+			return tileModeControl;
+		});
+		responseDecoders.put(commandNames.NATURAL_SIZE, response -> {
+			int naturalSize = hexData(response, 9, 11);
+			updateCachedDeviceData(LgLCDConstants.NATURAL_SIZE, String.valueOf(naturalSize));
+			return naturalSize;
+		});
+		responseDecoders.put(commandNames.BACKLIGHT, response -> decodeHexNumber(response, LgLCDConstants.BACKLIGHT));
+		responseDecoders.put(commandNames.MUTE, response -> decodeHexNumber(response, LgLCDConstants.MUTE));
+		responseDecoders.put(commandNames.VOLUME, response -> decodeHexNumber(response, LgLCDConstants.VOLUME));
+		responseDecoders.put(commandNames.TEMPERATURE, response -> decodeHexNumber(response, LgLCDConstants.TEMPERATURE));
+		responseDecoders.put(commandNames.FAILOVER_INPUT_LIST, response -> {
+			priorityInputs.setInputs(response, 7, response.length - 1);
+			String inputList = priorityInputs.getCodes();
+			updateCachedDeviceData(LgLCDConstants.FAILOVER_INPUT_LIST, inputList);
+			return inputList;
+		});
+		responseDecoders.put(commandNames.POWER_MANAGEMENT_MODE, response -> {
+			String powerManagement = EnumTypeHandler.getNameEnumByValue(PowerManagementModeEnum.class, asciiData(response, 9, 11));
+			updateCachedDeviceData(LgLCDConstants.POWER_MANAGEMENT_MODE, powerManagement);
+			return powerManagement;
+		});
+		responseDecoders.put(commandNames.POWER, response -> {
+			LgLCDConstants.powerStatusNames power = lookupCode(LgLCDConstants.powerStatusByCode, response, 7);
+			if (power != null) {
+				updateCachedDeviceData(LgLCDConstants.POWER, power.toString());
+			}
+			return power;
+		});
+		responseDecoders.put(commandNames.NETWORK_SETTING, response -> {
+			String networkSetting = asciiData(response, 10, response.length - 1);
+			convertNetworkSettingByValue(networkSetting);
+			return networkSetting;
+		});
+		LgLCDResponseDecoder inputDecoder = response -> {
+			LgLCDConstants.inputNames input = lookupCode(LgLCDConstants.inputsByCode, response, 7);
+			if (input != null) {
+				String inputCode = new String(LgLCDConstants.inputs.get(input), StandardCharsets.US_ASCII);
+				String inputValue = EnumTypeHandler.getNameEnumByValue(FailOverInputSourceEnum.class, inputCode);
+				if (LgLCDConstants.NA.equalsIgnoreCase(inputValue)) {
+					inputValue = EnumTypeHandler.getNameEnumByValue(InputSourceDropdown.class, inputCode);
+				}
+				updateCachedDeviceData(LgLCDConstants.INPUT_SELECT, inputValue);
+			}
+			return input;
+		};
+		responseDecoders.put(commandNames.INPUT_SELECT, inputDecoder);
+		responseDecoders.put(commandNames.INPUT, inputDecoder);
+		responseDecoders.put(commandNames.FAN_STATUS, response -> {
+			LgLCDConstants.fanStatusNames fanStatus = lookupCode(LgLCDConstants.fanStatusByCode, response, 7);
+			if (fanStatus != null) {
+				updateCachedDeviceData(LgLCDConstants.FAN, fanStatus.name());
+			}
+			return fanStatus;
+		});
+		responseDecoders.put(commandNames.SYNC_STATUS, response -> {
+			//The sync status reply is "02" followed by the status code
+			LgLCDConstants.syncStatusNames syncStatus = lookupCode(LgLCDConstants.syncStatusByCode, response, 9);
+			if (syncStatus == null) {
+				return null;
+			}
+			byte[] syncStatusCode = LgLCDConstants.syncStatusCodes.get(syncStatus);
+			if (response[7] != syncStatusCode[0] || response[8] != syncStatusCode[1]) {
+				return null;
+			}
+			updateCachedDeviceData(LgLCDConstants.SIGNAL, syncStatus.toString());
+			return syncStatus;
+		});
+		responseDecoders.put(commandNames.SERIAL_NUMBER, response -> {
+			String serialNumber = asciiData(response, 7, 19);
+			updateCachedDeviceData(LgLCDConstants.SERIAL_NUMBER, serialNumber);
+			return serialNumber;
+		});
+		responseDecoders.put(commandNames.FAILOVER, response -> {
+			FailOverEnum failOver = EnumTypeHandler.getEnumByValue(FailOverEnum.class, asciiData(response, 7, 9));
+			if (failOver == null) {
+				return null;
+			}
+			updateCachedDeviceData(LgLCDConstants.FAILOVER_MODE, failOver.getName());
+			return failOver.getName();
+		});
+		responseDecoders.put(commandNames.SOFTWARE_VERSION, response -> {
+			//Custom software with format xx.xx.xx
+			StringBuilder stringBuilder = new StringBuilder(8);
+			for (int i = 7; i < 13; i = i + 2) {
+				stringBuilder.append((char) response[i]).append((char) response[i + 1]);
+				if (i != 11) {
+					stringBuilder.append(LgLCDConstants.DOT);
+				}
+			}
+			String softwareVersion = stringBuilder.toString();
+			updateCachedDeviceData(LgLCDConstants.SOFTWARE_VERSION, softwareVersion);
+			return softwareVersion;
+		});
+		responseDecoders.put(commandNames.DISPLAY_STAND_BY_MODE, response -> {
+			PowerManagement pdm = EnumTypeHandler.getEnumByValue(PowerManagement.class, asciiData(response, 7, 9));
+			if (pdm == null) {
+				return null;
+			}
+			if (!localPropertyStore.isEmpty()) {
+				localPropertyStore.remove(LgLCDConstants.DISPLAY_STAND_BY_MODE);
+			}
+			updateCachedDeviceData(LgLCDConstants.DISPLAY_STAND_BY_MODE, pdm.getName());
+			if (PowerManagement.OFF.getName().equals(pdm.getName())) {
+				return pdm.getName();
+			}
+			return LgLCDConstants.ON;
+		});
+		responseDecoders.put(commandNames.DATE, response -> {
+			String date = convertDateFormatByValue(response, 7, false);
+			updateCachedDeviceData(LgLCDConstants.DATE, date);
+			return date;
+		});
+		responseDecoders.put(commandNames.TIME, response -> {
+			String time = convertDateFormatByValue(response, 7, true);
+			updateCachedDeviceData(LgLCDConstants.TIME, time);
+			return time;
+		});
+		responseDecoders.put(commandNames.TILE_MODE_SETTINGS, response -> {
+			localPropertyStore.putNumber(LgLCDConstants.TILE_MODE_COLUMN, hexData(response, 9, 11));
+			localPropertyStore.putNumber(LgLCDConstants.TILE_MODE_ROW, hexData(response, 11, 13));
+			String tileMode = asciiData(response, 7, 9);
+			for (TileMode name : TileMode.values()) {
+				if (name.isStatus() && name.getValue().equals(tileMode)) {
+					updateCachedDeviceData(LgLCDConstants.TILE_MODE, name.getName());
+					return name.getName();
+				}
+			}
+			return null;
+		});
+		responseDecoders.put(commandNames.ASPECT_RATIO, response -> decodeEnumName(response, AspectRatio.class, LgLCDConstants.ASPECT_RATIO));
+		responseDecoders.put(commandNames.BRIGHTNESS_CONTROL, response -> decodeEnumName(response, BrightnessSize.class, LgLCDConstants.BRIGHTNESS_CONTROL));
+		responseDecoders.put(commandNames.PICTURE_MODE, response -> decodeEnumName(response, PictureMode.class, LgLCDConstants.PICTURE_MODE));
+		responseDecoders.put(commandNames.SOUND_MODE, response -> decodeEnumName(response, SoundMode.class, LgLCDConstants.SOUND_MODE));
+		responseDecoders.put(commandNames.POWER_ON_STATUS, response -> decodeEnumName(response, PowerStatus.class, LgLCDConstants.POWER_ON_STATUS));
+		responseDecoders.put(commandNames.BRIGHTNESS, response -> decodeHexText(response, LgLCDConstants.BRIGHTNESS));
+		responseDecoders.put(commandNames.CONTRAST, response -> decodeHexText(response, LgLCDConstants.CONTRAST));
+		responseDecoders.put(commandNames.SHARPNESS, response -> decodeHexText(response, LgLCDConstants.SHARPNESS));
+		responseDecoders.put(commandNames.SCREEN_COLOR, response -> decodeHexText(response, LgLCDConstants.SCREEN_COLOR));
+		responseDecoders.put(commandNames.COLOR_TEMPERATURE, response -> decodeHexText(response, LgLCDConstants.COLOR_TEMPERATURE));
+		responseDecoders.put(commandNames.TINT, response -> {
+			String tint = asciiData(response, 7, 9);
+			updateCachedDeviceData(LgLCDConstants.TINT, tint);
+			return tint;
+		});
+		responseDecoders.put(commandNames.BALANCE, response -> {
+			String balance = asciiData(response, 7, 9);
+			updateCachedDeviceData(LgLCDConstants.BALANCE, balance);
+			return balance;
+		});
+		responseDecoders.put(commandNames.NO_SIGNAL_POWER_OFF, response -> decodeOnOff(response, LgLCDConstants.NO_SIGNAL_POWER_OFF));
+		responseDecoders.put(commandNames.NO_IR_POWER_OFF, response -> decodeOnOff(response, LgLCDConstants.NO_IR_POWER_OFF));
+		responseDecoders.put(commandNames.LANGUAGE, response -> {
+			String languageValue = EnumTypeHandler.getNameEnumByValue(Language.class, asciiData(response, 7, 9));
+			if (!LgLCDConstants.NA.equals(languageValue)) {
+				updateCachedDeviceData(LgLCDConstants.LANGUAGE, languageValue);
+			}
+			return languageValue;
+		});
+		responseDecoders.put(commandNames.REBOOT, response -> {
+			String rebootValue = asciiData(response, 7, 9);
+			if (!LgLCDConstants.REBOOT_VALUE.equals(rebootValue)) {
+				throw new ResourceNotReachableException("NG reply");
+			}
+			return rebootValue;
+		});
+	}
+
+	/**
+	 * Decode a two hex digits number and cache it as decimal text
+	 *
+	 * @param response the response is the whole reply of the device
+	 * @param property the property is name of the cached property
+	 * @return Integer decoded number
+	 */
+	private Integer decodeHexNumber(byte[] response, String property) {
+		int value = hexData(response, 7, 9);
+		localPropertyStore.putNumber(property, value);
+		return value;
+	}
+
+	/**
+	 * Decode a two hex digits number into decimal text and cache it
 	 *
-	 * @param inputPriority the inputPriority is String value
+	 * @param response the response is the whole reply of the device
+	 * @param property the property is name of the cached property
+	 * @return String decimal text of the number
 	 */
-	private void convertInputPriorityByValue(String inputPriority) {
-		int index = 1;
-		cacheMapOfPriorityInputAndValue = new HashMap<>();
-		for (int i = 0; i < inputPriority.length(); i = i + 2) {
-			String value = inputPriority.substring(i, i + 2);
-			cacheMapOfPriorityInputAndValue.put(LgLCDConstants.PRIORITY + index, EnumTypeHandler.getNameEnumByValue(FailOverInputSourceEnum.class, value));
-			index++;
+	private String decodeHexText(byte[] response, String property) {
+		localPropertyStore.putNumber(property, hexData(response, 7, 9));
+		return localPropertyStore.get(property);
+	}
+
+	/**
+	 * Decode a two digits enum value into the enum name and cache it
+	 *
+	 * @param response the response is the whole reply of the device
+	 * @param enumType the enumType is enum class holding the values
+	 * @param property the property is name of the cached property
+	 * @return String name of the enum or None if the value is unknown
+	 */
+	private <T extends Enum<T> & NameValueEnum> String decodeEnumName(byte[] response, Class<T> enumType, String property) {
+		String value = EnumTypeHandler.getNameEnumByValue(enumType, asciiData(response, 7, 9));
+		updateCachedDeviceData(property, value);
+		return value;
+	}
+
+	/**
+	 * Decode a two decimal digits switch, 0 is Off and everything else is On, and cache it
+	 *
+	 * @param response the response is the whole reply of the device
+	 * @param property the property is name of the cached property
+	 * @return String On or Off
+	 */
+	private String decodeOnOff(byte[] response, String property) {
+		int value = LgLCDUtils.parseValue(response, 7, 9, 10);
+		if (value < 0) {
+			throw new NumberFormatException("Invalid decimal data in the reply");
+		}
+		String onOffValue = value == LgLCDConstants.ZERO ? LgLCDConstants.OFF : LgLCDConstants.ON;
+		updateCachedDeviceData(property, onOffValue);
+		return onOffValue;
+	}
+
+	/**
+	 * Check the reply status "[Command2][ ][Set ID][ ][OK/NG][Data][x]"
+	 *
+	 * @param response the response is the reply of the device
+	 * @param status the status is expected status of the reply
+	 * @return true if the reply carries the status
+	 */
+	private static boolean hasReplyStatus(byte[] response, replyStatusNames status) {
+		byte[] statusCode = LgLCDConstants.replyStatusCodes.get(status);
+		return response.length > 6 && response[5] == statusCode[0] && response[6] == statusCode[1];
+	}
+
+	/**
+	 * Read data of the reply as text
+	 *
+	 * @param response the response is the whole reply of the device
+	 * @param from the from is index of the first byte (inclusive)
+	 * @param to the to is index after the last byte (exclusive)
+	 * @return String data as text
+	 */
+	private static String asciiData(byte[] response, int from, int to) {
+		return new String(response, from, to - from, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Read hex digits of the reply as number
+	 *
+	 * @param response the response is the whole reply of the device
+	 * @param from the from is index of the first digit (inclusive)
+	 * @param to the to is index after the last digit (exclusive)
+	 * @return int value of the digits
+	 * @throws NumberFormatException if a byte is not a hex digit
+	 */
+	private static int hexData(byte[] response, int from, int to) {
+		int value = LgLCDUtils.parseHexValue(response, from, to);
+		if (value < 0) {
+			throw new NumberFormatException("Invalid hex data in the reply");
 		}
+		return value;
+	}
+
+	/**
+	 * Look up the enum of a two hex digits code of the reply
+	 *
+	 * @param codeLookup the codeLookup is enum indexed by code value
+	 * @param response the response is the whole reply of the device
+	 * @param from the from is index of the first digit
+	 * @return enum of the code or null if the code is unknown
+	 */
+	private static <T> T lookupCode(T[] codeLookup, byte[] response, int from) {
+		int code = LgLCDUtils.parseHexValue(response, from, from + 2);
+		return code < 0 ? null : codeLookup[code];
 	}
 
 	/**
@@ -2051,24 +3854,24 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 		// value of network settings will be 172000001001 255255255000 172000001001 172000000003
 		try {
 			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 4]);
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.IP_ADDRESS, stringBuilder.toString());
+			localPropertyStore.put(LgLCDConstants.IP_ADDRESS, stringBuilder.toString());
 
 			stringBuilder = new StringBuilder();
 			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 3]);
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.SUBNET_MASK, stringBuilder.toString());
+			localPropertyStore.put(LgLCDConstants.SUBNET_MASK, stringBuilder.toString());
 
 			stringBuilder = new StringBuilder();
 			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 2]);
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.GATEWAY, stringBuilder.toString());
+			localPropertyStore.put(LgLCDConstants.GATEWAY, stringBuilder.toString());
 
 			stringBuilder = new StringBuilder();
 			convertNetworkSettingToValue(stringBuilder, networkArray[networkArray.length - 1]);
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.DNS_SERVER, stringBuilder.toString());
+			localPropertyStore.put(LgLCDConstants.DNS_SERVER, stringBuilder.toString());
 		} catch (Exception e) {
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.IP_ADDRESS, LgLCDConstants.NA);
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.SUBNET_MASK, LgLCDConstants.NA);
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.GATEWAY, LgLCDConstants.NA);
-			localCacheMapOfPropertyNameAndValue.put(LgLCDConstants.DNS_SERVER, LgLCDConstants.NA);
+			localPropertyStore.put(LgLCDConstants.IP_ADDRESS, LgLCDConstants.NA);
+			localPropertyStore.put(LgLCDConstants.SUBNET_MASK, LgLCDConstants.NA);
+			localPropertyStore.put(LgLCDConstants.GATEWAY, LgLCDConstants.NA);
+			localPropertyStore.put(LgLCDConstants.DNS_SERVER, LgLCDConstants.NA);
 		}
 	}
 
@@ -2089,72 +3892,42 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 		}
 	}
 
-	/**
-	 * Convert byte to value
-	 *
-	 * @param bytes is data represented as bytes
-	 * @return String is data after converting byte to String
-	 */
-	private String convertByteToValue(byte[] bytes) {
-		StringBuilder stringBuilder = new StringBuilder();
-		for (byte byteValue : bytes) {
-			stringBuilder.append((char) (byteValue));
-		}
-		return stringBuilder.toString();
-	}
-
 	/**
 	 * Convert value to format month/day/year
 	 *
-	 * @param data the data is data of the response
+	 * @param response the response is the whole reply of the device
+	 * @param from the from is index of the first digit of the date or time
 	 * @param isTimeFormat the isTimeFormat is boolean value
 	 * @return String is format of date
 	 */
-	private String convertDateFormatByValue(byte[] data, boolean isTimeFormat) {
-		StringBuilder stringBuilder = new StringBuilder();
+	private String convertDateFormatByValue(byte[] response, int from, boolean isTimeFormat) {
 		StringBuilder dateValue = new StringBuilder();
-		String year = LgLCDConstants.EMPTY_STRING;
-		for (byte byteValue : data) {
-			stringBuilder.append((char) (byteValue));
-		}
 
 		//The value example 173B00 with 17 is hours, 3B is minutes, and 00 is seconds
-		//convert Hex to decimal data to 173B00 to 23:59:00
-		String defaultTime = LgLCDConstants.AM;
+		//convert Hex to decimal data to 173B00 to 11:59 PM
 		if (isTimeFormat) {
-			for (int i = 0; i < stringBuilder.length() - 3; i = i + 2) {
-				int hexValue = Integer.parseInt(stringBuilder.substring(i, i + 2), 16);
-				if (i == 0) {
-					if (hexValue == 0) {
-						defaultTime = LgLCDConstants.PM;
-						hexValue = 12;
-					} else if (hexValue > 12) {
-						defaultTime = LgLCDConstants.PM;
-						hexValue = hexValue - 12;
-					}
-					dateValue.append(hexValue);
-				} else {
-					if (hexValue < 10) {
-						dateValue.append(LgLCDConstants.COLON + LgLCDConstants.ZERO + hexValue);
-					} else {
-						dateValue.append(LgLCDConstants.COLON + hexValue);
-					}
-					dateValue.append(LgLCDConstants.SPACE + defaultTime);
-				}
+			String defaultTime = LgLCDConstants.AM;
+			int hours = hexData(response, from, from + 2);
+			int minutes = hexData(response, from + 2, from + 4);
+			if (hours == 0) {
+				defaultTime = LgLCDConstants.PM;
+				hours = 12;
+			} else if (hours > 12) {
+				defaultTime = LgLCDConstants.PM;
+				hours = hours - 12;
+			}
+			dateValue.append(hours).append(LgLCDConstants.COLON);
+			if (minutes < 10) {
+				dateValue.append(LgLCDConstants.ZERO);
 			}
-			return dateValue.toString();
+			return dateValue.append(minutes).append(LgLCDConstants.SPACE).append(defaultTime).toString();
 		}
 		//The value example 0c011F with 0c is year, 01 is month, and 1F is day
 		//convert Hex to decimal data to 0c011f to 1/31/2022
 		//the year format = 2010 + 0c in(0c111F)
-		for (int i = 0; i < stringBuilder.length() - 1; i = i + 2) {
-			int hexValue = Integer.parseInt(stringBuilder.substring(i, i + 2), 16);
-			if (i == 0) {
-				year = String.valueOf(2010 + hexValue);
-			} else {
-				dateValue.append(hexValue + "/");
-			}
-		}
+		int year = 2010 + hexData(response, from, from + 2);
+		dateValue.append(hexData(response, from + 2, from + 4)).append("/");
+		dateValue.append(hexData(response, from + 4, from + 6)).append("/");
 		return dateValue.append(year).toString();
 	}
 
@@ -2289,6 +4062,157 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 		isConfigManagement = StringUtils.isNotNullOrEmpty(this.configManagement) && this.configManagement.equalsIgnoreCase(LgLCDConstants.IS_VALID_CONFIG_MANAGEMENT);
 	}
 
+	/**
+	 * This method is used to validate input persistent connection and connection idle timeout from user
+	 */
+	private void convertPersistentConnection() {
+		boolean wasPersistentConnection = isPersistentConnection;
+		isPersistentConnection = StringUtils.isNotNullOrEmpty(this.persistentConnection) && this.persistentConnection.equalsIgnoreCase(LgLCDConstants.IS_VALID_PERSISTENT_CONNECTION);
+		try {
+			connectionIdleTimeoutInMs = Integer.parseInt(this.connectionIdleTimeout);
+			if (connectionIdleTimeoutInMs < LgLCDConstants.MIN_CONNECTION_IDLE_TIMEOUT) {
+				connectionIdleTimeoutInMs = LgLCDConstants.MIN_CONNECTION_IDLE_TIMEOUT;
+			}
+		} catch (Exception e) {
+			connectionIdleTimeoutInMs = LgLCDConstants.DEFAULT_CONNECTION_IDLE_TIMEOUT;
+		}
+		LgLCDEndpoint currentEndpoint = endpoint;
+		if (wasPersistentConnection && !isPersistentConnection && currentEndpoint != null && !currentEndpoint.isShared()) {
+			currentEndpoint.closeConnection();
+		}
+	}
+
+	/**
+	 * This method is used to validate input wall set IDs from user, a list of set IDs and ranges such as "1-4,6"
+	 */
+	private void convertWallSetIDs() {
+		Set<Integer> setIDs = new TreeSet<>();
+		if (StringUtils.isNotNullOrEmpty(this.wallSetIDs)) {
+			try {
+				for (String item : this.wallSetIDs.split(LgLCDConstants.COMMA)) {
+					String[] range = item.trim().split(LgLCDConstants.DASH);
+					int first = Integer.parseInt(range[0].trim());
+					int last = range.length > 1 ? Integer.parseInt(range[1].trim()) : first;
+					for (int setID = Math.max(first, LgLCDConstants.NUMBER_ONE); setID <= Math.min(last, LgLCDConstants.MAX_SET_ID); setID++) {
+						setIDs.add(setID);
+					}
+				}
+			} catch (Exception e) {
+				logger.warn(String.format("Invalid wallSetIDs %s, the wall controls are disabled", this.wallSetIDs));
+				setIDs.clear();
+			}
+		}
+		wallSetIDList = new ArrayList<>(setIDs);
+	}
+
+	/**
+	 * This method is used to validate input polling priority from user, a list of property names such as "Power,InputSelect"
+	 */
+	private void convertPollingPriority() {
+		String pollingPriorityValue = StringUtils.isNullOrEmpty(this.pollingPriority) ? LgLCDConstants.DEFAULT_POLLING_PRIORITY : this.pollingPriority;
+		if (pollingPriorityValue.equals(currentPollingPriority)) {
+			return;
+		}
+		List<LgControllingCommand> priorityCommands = new ArrayList<>();
+		for (String item : pollingPriorityValue.split(LgLCDConstants.COMMA)) {
+			try {
+				LgControllingCommand command = LgControllingCommand.getCommandByName(item.trim());
+				if ((command.isMonitorType() || command.isControlType()) && !priorityCommands.contains(command)) {
+					priorityCommands.add(command);
+				}
+			} catch (IllegalArgumentException e) {
+				logger.warn(String.format("Invalid property %s in pollingPriority", item));
+			}
+		}
+		currentPollingPriority = pollingPriorityValue;
+		firstPaintCommands = Collections.unmodifiableList(priorityCommands);
+		pollingOrder = buildPollingOrder(priorityCommands);
+	}
+
+	/**
+	 * Build the order the commands are read in
+	 *
+	 * @param priorityCommands the priorityCommands are commands read first
+	 * @return List of the commands, the priority commands first then the others in declaration order
+	 */
+	private static List<LgControllingCommand> buildPollingOrder(List<LgControllingCommand> priorityCommands) {
+		List<LgControllingCommand> commands = new ArrayList<>(priorityCommands);
+		for (LgControllingCommand command : LgControllingCommand.values()) {
+			if ((command.isMonitorType() || command.isControlType()) && !commands.contains(command)) {
+				commands.add(command);
+			}
+		}
+		return Collections.unmodifiableList(commands);
+	}
+
+	/**
+	 * This method is used to validate input periodic refresh interval in minutes from user
+	 */
+	private void convertPeriodicRefreshInterval() {
+		int periodicRefreshIntervalValue;
+		try {
+			periodicRefreshIntervalValue = Integer.parseInt(this.periodicRefreshInterval);
+			if (periodicRefreshIntervalValue < LgLCDConstants.ZERO) {
+				periodicRefreshIntervalValue = LgLCDConstants.DEFAULT_PERIODIC_REFRESH_INTERVAL;
+			}
+			if (periodicRefreshIntervalValue > LgLCDConstants.MAX_PERIODIC_REFRESH_INTERVAL) {
+				periodicRefreshIntervalValue = LgLCDConstants.MAX_PERIODIC_REFRESH_INTERVAL;
+			}
+		} catch (Exception e) {
+			periodicRefreshIntervalValue = LgLCDConstants.DEFAULT_PERIODIC_REFRESH_INTERVAL;
+		}
+		periodicRefreshIntervalInMs = TimeUnit.MINUTES.toMillis(periodicRefreshIntervalValue);
+	}
+
+	/**
+	 * This method is used to validate input pipeline window from user
+	 */
+	private void convertPipelineWindow() {
+		int pipelineWindowValue;
+		try {
+			pipelineWindowValue = Integer.parseInt(this.pipelineWindow);
+			if (pipelineWindowValue < LgLCDConstants.DEFAULT_PIPELINE_WINDOW) {
+				pipelineWindowValue = LgLCDConstants.DEFAULT_PIPELINE_WINDOW;
+			}
+			if (pipelineWindowValue > LgLCDConstants.MAX_PIPELINE_WINDOW) {
+				pipelineWindowValue = LgLCDConstants.MAX_PIPELINE_WINDOW;
+			}
+		} catch (Exception e) {
+			pipelineWindowValue = LgLCDConstants.DEFAULT_PIPELINE_WINDOW;
+		}
+		if (pipelineWindowValue != pipelineWindowInIntValue) {
+			// Give a newly configured window another chance on this device
+			isPipelineFallback = false;
+		}
+		pipelineWindowInIntValue = pipelineWindowValue;
+	}
+
+	/**
+	 * This method is used to validate input optimistic control from user
+	 */
+	private void convertOptimisticControl() {
+		isOptimisticControl = StringUtils.isNotNullOrEmpty(this.optimisticControl) && this.optimisticControl.equalsIgnoreCase(LgLCDConstants.IS_VALID_OPTIMISTIC_CONTROL);
+	}
+
+	/**
+	 * This method is used to validate input control coalescing window from user
+	 */
+	private void convertControlCoalescingWindow() {
+		long controlCoalescingWindowValue;
+		try {
+			controlCoalescingWindowValue = Long.parseLong(this.controlCoalescingWindow);
+			if (controlCoalescingWindowValue < 0) {
+				controlCoalescingWindowValue = 0;
+			}
+			if (controlCoalescingWindowValue > LgLCDConstants.MAX_CONTROL_COALESCING_WINDOW) {
+				controlCoalescingWindowValue = LgLCDConstants.MAX_CONTROL_COALESCING_WINDOW;
+			}
+		} catch (Exception e) {
+			controlCoalescingWindowValue = LgLCDConstants.DEFAULT_CONTROL_COALESCING_WINDOW;
+		}
+		controlCoalescingWindowInMs = controlCoalescingWindowValue;
+	}
+
 	/**
 	 * This method is used to convert or validate the user input
 	 */
@@ -2320,6 +4244,24 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 		}
 	}
 
+	/**
+	 * This method is used to validate input adaptive cool down from user, the adaptive delay starts from the configured delay
+	 */
+	private void convertAdaptiveCoolDown() {
+		boolean wasAdaptiveCoolDown = isAdaptiveCoolDown;
+		isAdaptiveCoolDown = StringUtils.isNotNullOrEmpty(this.adaptiveCoolDown) && this.adaptiveCoolDown.equalsIgnoreCase(LgLCDConstants.IS_VALID_ADAPTIVE_COOL_DOWN);
+		if (isAdaptiveCoolDown && !wasAdaptiveCoolDown) {
+			adaptiveCoolDownDelay.reset(commandsCoolDownDelay);
+		}
+	}
+
+	/**
+	 * This method is used to validate input adapter metrics from user
+	 */
+	private void convertAdapterMetrics() {
+		isAdapterMetrics = StringUtils.isNotNullOrEmpty(this.adapterMetrics) && this.adapterMetrics.equalsIgnoreCase(LgLCDConstants.IS_VALID_ADAPTER_METRICS);
+	}
+
 	/**
 	 * This method is used to validate input config timeout from user
 	 */
@@ -2336,7 +4278,7 @@ public class LgLCDDevice extends SocketCommunicator implements Controller, Monit
 		} catch (Exception e) {
 			configTimeout = LgLCDConstants.DEFAULT_CONFIG_TIMEOUT;
 		}
-		defaultConfigTimeout = configTimeout / 100;
+		defaultConfigTimeout = configTimeout;
 	}
 
 	/**
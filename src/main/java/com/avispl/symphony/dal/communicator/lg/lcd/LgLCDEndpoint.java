@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LgLCDEndpoint is one host and port of the process, shared by the adapters of every set ID behind it.
+ * The panels of a video wall usually hang off a single IP through the RS-232 daisy chain, each monitored by its own adapter:
+ * <ul>
+ * <li>the persistent connection is opened once for all of them, instead of one competing connection per panel</li>
+ * <li>{@link LgLCDFleetScheduler} uses the endpoint as the serial link, so only one set ID has a command in flight at a time
+ * and the set IDs take turns</li>
+ * <li>the cool down delay counts from the latest command of any set ID on the link</li>
+ * </ul>
+ * Replies are routed to the adapter of their set ID by {@link LgLCDConnection#send(byte[], int)}.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDEndpoint {
+
+	private static final Map<String, LgLCDEndpoint> endpoints = new HashMap<>();
+
+	private final String host;
+	private final int port;
+	private int referenceCount;
+	private LgLCDConnection connection;
+	private volatile long lastCommandTimestamp;
+
+	/**
+	 * LgLCDEndpoint instantiation
+	 *
+	 * @param host {@link #host}
+	 * @param port {@link #port}
+	 */
+	private LgLCDEndpoint(String host, int port) {
+		this.host = host;
+		this.port = port;
+	}
+
+	/**
+	 * Get the endpoint of a host and port, creating it for the first adapter. Every call must be paired with {@link #release()}.
+	 *
+	 * @param host the host is the IP address or host name of the device
+	 * @param port the port is the TCP port of the device
+	 * @return LgLCDEndpoint instance
+	 */
+	static LgLCDEndpoint acquire(String host, int port) {
+		synchronized (endpoints) {
+			LgLCDEndpoint endpoint = endpoints.computeIfAbsent(host + LgLCDConstants.COLON + port, key -> new LgLCDEndpoint(host, port));
+			endpoint.referenceCount++;
+			return endpoint;
+		}
+	}
+
+	/**
+	 * Release the endpoint, the connection is closed when the last adapter releases it
+	 */
+	void release() {
+		LgLCDConnection connectionToClose = null;
+		synchronized (endpoints) {
+			referenceCount--;
+			if (referenceCount == 0) {
+				endpoints.remove(host + LgLCDConstants.COLON + port);
+				connectionToClose = connection;
+				connection = null;
+			}
+		}
+		if (connectionToClose != null) {
+			connectionToClose.close();
+		}
+	}
+
+	/**
+	 * Retrieves {@link #host}
+	 *
+	 * @return value of {@link #host}
+	 */
+	String getHost() {
+		return host;
+	}
+
+	/**
+	 * Retrieves {@link #port}
+	 *
+	 * @return value of {@link #port}
+	 */
+	int getPort() {
+		return port;
+	}
+
+	/**
+	 * Check whether several adapters use the endpoint
+	 *
+	 * @return true if other set IDs are monitored through the same host and port
+	 */
+	boolean isShared() {
+		synchronized (endpoints) {
+			return referenceCount > 1;
+		}
+	}
+
+	/**
+	 * Get the persistent connection, creating it for the first command
+	 *
+	 * @param idleTimeout the idleTimeout is the time in ms after which an unused connection is closed
+	 * @return LgLCDConnection instance
+	 * @throws IllegalStateException if every adapter has released the endpoint, its connection would never be closed
+	 */
+	LgLCDConnection getConnection(long idleTimeout) {
+		synchronized (endpoints) {
+			if (referenceCount == 0) {
+				throw new IllegalStateException(String.format("Endpoint %s:%s has been released", host, port));
+			}
+			if (connection == null) {
+				connection = new LgLCDConnection(host, port, idleTimeout, LgLCDConstants.DEFAULT_CONNECT_TIMEOUT);
+			}
+			connection.setIdleTimeout(idleTimeout);
+			return connection;
+		}
+	}
+
+	/**
+	 * Check whether the persistent connection is open, without creating it
+	 *
+	 * @return true if a command can be sent without connecting first
+	 */
+	boolean isConnected() {
+		LgLCDConnection currentConnection;
+		synchronized (endpoints) {
+			currentConnection = connection;
+		}
+		return currentConnection != null && currentConnection.isConnected();
+	}
+
+	/**
+	 * Close the persistent connection if it is open, the next command reconnects
+	 */
+	void closeConnection() {
+		LgLCDConnection currentConnection;
+		synchronized (endpoints) {
+			currentConnection = connection;
+		}
+		if (currentConnection != null) {
+			currentConnection.close();
+		}
+	}
+
+	/**
+	 * Retrieves {@link #lastCommandTimestamp}
+	 *
+	 * @return timestamp of the latest command sent to any set ID of the endpoint
+	 */
+	long getLastCommandTimestamp() {
+		return lastCommandTimestamp;
+	}
+
+	/**
+	 * Sets {@link #lastCommandTimestamp} value
+	 *
+	 * @param lastCommandTimestamp new value of {@link #lastCommandTimestamp}
+	 */
+	void setLastCommandTimestamp(long lastCommandTimestamp) {
+		this.lastCommandTimestamp = lastCommandTimestamp;
+	}
+}
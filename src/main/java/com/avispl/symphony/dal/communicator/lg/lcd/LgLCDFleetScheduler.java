@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LgLCDFleetScheduler is the process-wide engine sending the commands of every {@link LgLCDCommandQueue},
+ * so the number of threads stays flat however many displays the node monitors.
+ * <ul>
+ * <li>At most {@link #maxConcurrency} commands are in flight across all the displays,
+ * one per serial link at a time, the set IDs of a daisy chain share one link.</li>
+ * <li>Displays with queued commands take turns: after each command the display goes back to the end of the line,
+ * or to the front if its next command is an operator control.</li>
+ * <li>A display is not handed to a worker before its cool down delay has elapsed; it waits on a timer instead of holding a worker.</li>
+ * </ul>
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDFleetScheduler {
+
+	private static final LgLCDFleetScheduler INSTANCE = new LgLCDFleetScheduler(LgLCDConstants.FLEET_MAX_CONCURRENCY);
+
+	private final int maxConcurrency;
+	private final ThreadPoolExecutor workers;
+	private final ScheduledThreadPoolExecutor rateLimitTimer;
+	private final Deque<LgLCDCommandQueue> readyQueues = new ArrayDeque<>();
+	private final Set<Object> busyLinks = Collections.newSetFromMap(new IdentityHashMap<>());
+	private int runningCount;
+
+	/**
+	 * LgLCDFleetScheduler instantiation
+	 *
+	 * @param maxConcurrency {@link #maxConcurrency}
+	 */
+	LgLCDFleetScheduler(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+		workers = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, LgLCDConstants.FLEET_WORKER_KEEP_ALIVE, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+				new DaemonThreadFactory("LgLCDFleetWorker-"));
+		workers.allowCoreThreadTimeOut(true);
+		rateLimitTimer = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("LgLCDFleetTimer-"));
+	}
+
+	/**
+	 * Get the engine shared by all the displays of the process
+	 *
+	 * @return LgLCDFleetScheduler instance
+	 */
+	static LgLCDFleetScheduler getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Hand a command queue with pending commands to the engine, it runs as soon as its cool down delay has elapsed and a worker is free
+	 *
+	 * @param commandQueue the commandQueue is the queue of a display, not already handed to the engine
+	 */
+	void schedule(LgLCDCommandQueue commandQueue) {
+		long readyDelay = commandQueue.getReadyDelay();
+		if (readyDelay > 0) {
+			rateLimitTimer.schedule(() -> enqueue(commandQueue), readyDelay, TimeUnit.MILLISECONDS);
+		} else {
+			enqueue(commandQueue);
+		}
+	}
+
+	/**
+	 * Move a command queue waiting for a worker to the front of the line, after an operator control was queued
+	 *
+	 * @param commandQueue the commandQueue is the queue of a display
+	 */
+	synchronized void promote(LgLCDCommandQueue commandQueue) {
+		if (readyQueues.remove(commandQueue)) {
+			readyQueues.addFirst(commandQueue);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrency}
+	 *
+	 * @return maximum number of commands in flight
+	 */
+	int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	/**
+	 * Retrieves {@link #runningCount}
+	 *
+	 * @return number of commands in flight
+	 */
+	synchronized int getRunningCount() {
+		return runningCount;
+	}
+
+	/**
+	 * Get the number of threads started by the engine
+	 *
+	 * @return number of live worker threads
+	 */
+	int getWorkerCount() {
+		return workers.getPoolSize();
+	}
+
+	/**
+	 * Put a command queue in line for a worker
+	 *
+	 * @param commandQueue the commandQueue is the queue of a display
+	 */
+	private synchronized void enqueue(LgLCDCommandQueue commandQueue) {
+		if (commandQueue.isNextCommandControl()) {
+			readyQueues.addFirst(commandQueue);
+		} else {
+			readyQueues.addLast(commandQueue);
+		}
+		dispatch();
+	}
+
+	/**
+	 * Start the queues in line whose serial link is free, while the concurrency cap allows it
+	 */
+	private synchronized void dispatch() {
+		Iterator<LgLCDCommandQueue> iterator = readyQueues.iterator();
+		while (runningCount < maxConcurrency && iterator.hasNext()) {
+			LgLCDCommandQueue commandQueue = iterator.next();
+			if (busyLinks.contains(commandQueue.getLink())) {
+				continue;
+			}
+			iterator.remove();
+			long readyDelay = commandQueue.getReadyDelay();
+			if (readyDelay > 0) {
+				//Another set ID of the link sent a command while this one was in line
+				rateLimitTimer.schedule(() -> enqueue(commandQueue), readyDelay, TimeUnit.MILLISECONDS);
+				continue;
+			}
+			busyLinks.add(commandQueue.getLink());
+			runningCount++;
+			workers.execute(() -> runNextCommand(commandQueue));
+		}
+	}
+
+	/**
+	 * Send the next command of a queue, then hand the queue back if it has more
+	 *
+	 * @param commandQueue the commandQueue is the queue of a display
+	 */
+	private void runNextCommand(LgLCDCommandQueue commandQueue) {
+		boolean hasMoreCommands = false;
+		try {
+			hasMoreCommands = commandQueue.runNextCommand();
+		} finally {
+			synchronized (this) {
+				busyLinks.remove(commandQueue.getLink());
+				runningCount--;
+				dispatch();
+			}
+		}
+		if (hasMoreCommands) {
+			schedule(commandQueue);
+		}
+	}
+
+	/**
+	 * Daemon threads so the engine never keeps the process alive
+	 */
+	private static class DaemonThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadCount = new AtomicInteger();
+		private final String namePrefix;
+
+		/**
+		 * DaemonThreadFactory instantiation
+		 *
+		 * @param namePrefix {@link #namePrefix}
+		 */
+		DaemonThreadFactory(String namePrefix) {
+			this.namePrefix = namePrefix;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
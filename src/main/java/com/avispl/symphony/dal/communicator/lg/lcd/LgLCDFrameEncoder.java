@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
+
+/**
+ * LgLCDFrameEncoder writes command frames "[Command1][Command2][ ][Set ID][ ][Data][Cr]" straight into a byte array.
+ * Frames of the fixed GET requests are built once per monitor ID and shared across polling cycles.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDFrameEncoder {
+
+	private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+
+	/**
+	 * Number of bytes of a frame besides command and data: two spaces, two set ID digits and the carriage return
+	 */
+	private static final int FRAME_OVERHEAD = 5;
+
+	private final int monitorID;
+	private final Map<commandNames, Map<commandNames, byte[]>> requestFrames = new EnumMap<>(commandNames.class);
+
+	/**
+	 * LgLCDFrameEncoder instantiation
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 */
+	LgLCDFrameEncoder(int monitorID) {
+		this.monitorID = monitorID;
+	}
+
+	/**
+	 * Retrieves {@link #monitorID}
+	 *
+	 * @return value of {@link #monitorID}
+	 */
+	int getMonitorID() {
+		return monitorID;
+	}
+
+	/**
+	 * Get the frame of a request whose data is a fixed param, building it on first use.
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @param command the command is command of the request
+	 * @param param the param is fixed data of the request such as {@link commandNames#GET}
+	 * @return byte[] frame of the request
+	 */
+	synchronized byte[] getRequestFrame(commandNames command, commandNames param) {
+		Map<commandNames, byte[]> framesOfCommand = requestFrames.computeIfAbsent(command, key -> new EnumMap<>(commandNames.class));
+		byte[] frame = framesOfCommand.get(param);
+		if (frame == null) {
+			frame = encode(monitorID, LgLCDConstants.commands.get(command), LgLCDConstants.commands.get(param));
+			framesOfCommand.put(param, frame);
+		}
+		return frame;
+	}
+
+	/**
+	 * Build a frame into a new array of the exact frame length
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @param command the command is two bytes command
+	 * @param param the param is data of the command
+	 * @return byte[] frame of the command
+	 */
+	static byte[] encode(int monitorID, byte[] command, byte[] param) {
+		byte[] frame = new byte[frameLength(command, param)];
+		encode(frame, 0, monitorID, command, param);
+		return frame;
+	}
+
+	/**
+	 * Write a frame into the given buffer
+	 *
+	 * @param buffer the buffer is destination of the frame, it must have at least {@link #frameLength(byte[], byte[])} bytes left after offset
+	 * @param offset the offset is index of the first byte to write
+	 * @param monitorID the monitorID is set ID of the display
+	 * @param command the command is two bytes command
+	 * @param param the param is data of the command
+	 * @return int index after the last written byte
+	 */
+	static int encode(byte[] buffer, int offset, int monitorID, byte[] command, byte[] param) {
+		int position = offset;
+		System.arraycopy(command, 0, buffer, position, command.length);
+		position += command.length;
+		buffer[position++] = ' ';
+		buffer[position++] = HEX_DIGITS[(monitorID >> 4) & 0x0F];
+		buffer[position++] = HEX_DIGITS[monitorID & 0x0F];
+		buffer[position++] = ' ';
+		System.arraycopy(param, 0, buffer, position, param.length);
+		position += param.length;
+		buffer[position++] = '\r';
+		return position;
+	}
+
+	/**
+	 * Get the length of a frame
+	 *
+	 * @param command the command is two bytes command
+	 * @param param the param is data of the command
+	 * @return int number of bytes of the frame
+	 */
+	static int frameLength(byte[] command, byte[] param) {
+		return command.length + param.length + FRAME_OVERHEAD;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * LgLCDPriorityInputs keeps the failover input priority list of the display, the input at index 0 has the highest priority.
+ * The inputs are stored in an array indexed by their priority, a reply carrying the same list leaves the array and the dropdown options untouched,
+ * and the revision of the list changes only when the order or the inputs change.
+ * The list is shared by the polling cycle and the commands run by the command queue, every access is synchronized.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDPriorityInputs {
+
+	/**
+	 * Input of every two hex digits code, null where no input has the code
+	 */
+	private static final FailOverInputSourceEnum[] INPUTS_BY_CODE = new FailOverInputSourceEnum[256];
+
+	static {
+		for (FailOverInputSourceEnum input : FailOverInputSourceEnum.values()) {
+			INPUTS_BY_CODE[Integer.parseInt(input.getValue(), 16)] = input;
+		}
+	}
+
+	private FailOverInputSourceEnum[] inputs = new FailOverInputSourceEnum[FailOverInputSourceEnum.values().length];
+	private int size;
+	private int revision;
+	private String[] priorityOptions;
+	private String[] inputOptions;
+
+	/**
+	 * Replace the list with the two hex digits codes of a reply, the codes may be separated by spaces.
+	 * The list is kept if the reply carries the same inputs in the same order.
+	 *
+	 * @param data the data is the buffer holding the codes
+	 * @param from the from is index of the first code (inclusive)
+	 * @param to the to is index after the last code (exclusive)
+	 */
+	synchronized void setInputs(byte[] data, int from, int to) {
+		int length = 0;
+		boolean isChanged = false;
+		int i = from;
+		while (i + 2 <= to) {
+			if (data[i] == ' ') {
+				i++;
+				continue;
+			}
+			int code = LgLCDUtils.parseHexValue(data, i, i + 2);
+			FailOverInputSourceEnum input = code < 0 ? null : INPUTS_BY_CODE[code];
+			if (length == inputs.length) {
+				inputs = Arrays.copyOf(inputs, length * 2);
+			}
+			if (length >= size || inputs[length] != input) {
+				isChanged = true;
+			}
+			inputs[length++] = input;
+			i += 2;
+		}
+		if (isChanged || length != size) {
+			Arrays.fill(inputs, length, inputs.length, null);
+			size = length;
+			changed();
+		}
+	}
+
+	/**
+	 * Get the number of inputs
+	 *
+	 * @return int number of inputs
+	 */
+	synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Check whether the list holds no input
+	 *
+	 * @return true if the list is empty
+	 */
+	synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Get the name of the input at a priority
+	 *
+	 * @param index the index is priority of the input, 0 is the highest priority
+	 * @return String name of the input, None if the code of the input is unknown, null if there is no input at this priority
+	 */
+	synchronized String get(int index) {
+		if (index < 0 || index >= size) {
+			return null;
+		}
+		return inputs[index] == null ? LgLCDConstants.NA : inputs[index].getName();
+	}
+
+	/**
+	 * Get the priority of an input
+	 *
+	 * @param name the name is name of the input
+	 * @return int priority of the input, -1 if the input is not in the list
+	 */
+	synchronized int indexOf(String name) {
+		for (int i = 0; i < size; i++) {
+			if ((inputs[i] == null ? LgLCDConstants.NA : inputs[i].getName()).equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Swap the inputs at two priorities
+	 *
+	 * @param index the index is priority of the first input
+	 * @param other the other is priority of the second input
+	 */
+	synchronized void swap(int index, int other) {
+		if (index == other || index < 0 || other < 0 || index >= size || other >= size) {
+			return;
+		}
+		FailOverInputSourceEnum input = inputs[index];
+		inputs[index] = inputs[other];
+		inputs[other] = input;
+		changed();
+	}
+
+	/**
+	 * Get the parameter of the input list command, the codes of the known inputs separated by a space
+	 *
+	 * @return String codes of the inputs in priority order
+	 */
+	synchronized String getCodes() {
+		StringBuilder codes = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			if (inputs[i] == null) {
+				continue;
+			}
+			if (codes.length() > 0) {
+				codes.append(LgLCDConstants.SPACE);
+			}
+			codes.append(inputs[i].getValue());
+		}
+		return codes.toString();
+	}
+
+	/**
+	 * Get the options of the priority input dropdown, the inputs in priority order.
+	 * The array is shared until the list changes and must not be modified.
+	 *
+	 * @return String array of input names
+	 */
+	synchronized String[] getPriorityOptions() {
+		if (priorityOptions == null) {
+			priorityOptions = new String[size];
+			for (int i = 0; i < size; i++) {
+				priorityOptions[i] = get(i);
+			}
+		}
+		return priorityOptions;
+	}
+
+	/**
+	 * Get the options of the input select dropdown, the inputs and {@link LgLCDConstants#PLAY_VIA_URL} in alphabetical order.
+	 * The array is shared until the list changes and must not be modified.
+	 *
+	 * @return String array of input names
+	 */
+	synchronized String[] getInputOptions() {
+		if (inputOptions == null) {
+			inputOptions = Arrays.copyOf(getPriorityOptions(), size + 1);
+			inputOptions[size] = LgLCDConstants.PLAY_VIA_URL;
+			Arrays.sort(inputOptions);
+		}
+		return inputOptions;
+	}
+
+	/**
+	 * Get the revision of the list, it changes every time the inputs or their order change
+	 *
+	 * @return int revision of the list
+	 */
+	synchronized int getRevision() {
+		return revision;
+	}
+
+	/**
+	 * Drop every input
+	 */
+	synchronized void clear() {
+		if (size > 0) {
+			Arrays.fill(inputs, null);
+			size = 0;
+			changed();
+		}
+	}
+
+	/**
+	 * Write the inputs in priority order, keyed by enum name so a snapshot survives a change of the order of the enums
+	 *
+	 * @param output the output is stream receiving the inputs
+	 * @throws IOException if the inputs can not be written
+	 */
+	synchronized void writeTo(DataOutput output) throws IOException {
+		output.writeInt(size);
+		for (int i = 0; i < size; i++) {
+			output.writeUTF(inputs[i] == null ? LgLCDConstants.EMPTY_STRING : inputs[i].name());
+		}
+	}
+
+	/**
+	 * Replace the inputs with the inputs written by {@link #writeTo(DataOutput)}, an input no longer known is kept as an unknown input
+	 *
+	 * @param input the input is stream holding the inputs
+	 * @throws IOException if the inputs can not be read
+	 */
+	synchronized void readFrom(DataInput input) throws IOException {
+		int length = input.readInt();
+		FailOverInputSourceEnum[] values = new FailOverInputSourceEnum[Math.max(length, FailOverInputSourceEnum.values().length)];
+		for (int i = 0; i < length; i++) {
+			String name = input.readUTF();
+			for (FailOverInputSourceEnum value : FailOverInputSourceEnum.values()) {
+				if (value.name().equals(name)) {
+					values[i] = value;
+					break;
+				}
+			}
+		}
+		inputs = values;
+		size = length;
+		changed();
+	}
+
+	/**
+	 * Drop the dropdown options built from the previous list and move to the next revision
+	 */
+	private void changed() {
+		revision++;
+		priorityOptions = null;
+		inputOptions = null;
+	}
+}
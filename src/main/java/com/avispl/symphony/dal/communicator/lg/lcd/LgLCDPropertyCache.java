@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * LgLCDPropertyCache keeps the time each {@link LgControllingCommand} was last read successfully and how long its value may be reported after that.
+ * The entries are indexed by the ordinal of the command, so a lookup is a single array access whatever the number of properties,
+ * and an entry expires on the first access after its time to live instead of through a scan of the whole cache.
+ * The staleness of a value is therefore bounded in wall-clock time, whatever the polling interval and the length of the polling cycle.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDPropertyCache {
+
+	private static final long ABSENT = -1;
+
+	private final long[] readTimestamps = new long[LgControllingCommand.values().length];
+	private final long[] expiryTimestamps = new long[LgControllingCommand.values().length];
+
+	/**
+	 * LgLCDPropertyCache instantiation
+	 */
+	LgLCDPropertyCache() {
+		clear();
+	}
+
+	/**
+	 * Record a successful read of a command
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @param timestamp the timestamp is time of the read
+	 * @param timeToLive the timeToLive is time in ms the value may be reported without a new successful read, Long.MAX_VALUE for a value that does not expire
+	 */
+	synchronized void put(LgControllingCommand command, long timestamp, long timeToLive) {
+		readTimestamps[command.ordinal()] = timestamp;
+		expiryTimestamps[command.ordinal()] = timeToLive > Long.MAX_VALUE - timestamp ? Long.MAX_VALUE : timestamp + timeToLive;
+	}
+
+	/**
+	 * Check whether the value of a command can still be reported, the entry is dropped if it has expired
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @param now the now is current timestamp
+	 * @return true if the command was read successfully within its time to live
+	 */
+	synchronized boolean isFresh(LgControllingCommand command, long now) {
+		int index = command.ordinal();
+		if (readTimestamps[index] == ABSENT) {
+			return false;
+		}
+		if (now >= expiryTimestamps[index]) {
+			readTimestamps[index] = ABSENT;
+			expiryTimestamps[index] = ABSENT;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether the value of a command is no older than the given age
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @param now the now is current timestamp
+	 * @param maxAge the maxAge is highest accepted age of the value in ms
+	 * @return true if the value is fresh and was read at most maxAge ms ago
+	 */
+	synchronized boolean isFresh(LgControllingCommand command, long now, long maxAge) {
+		return isFresh(command, now) && now - readTimestamps[command.ordinal()] <= maxAge;
+	}
+
+	/**
+	 * Get the age of the value of a command
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @param now the now is current timestamp
+	 * @return age in ms, -1 if the value is absent or has expired
+	 */
+	synchronized long getAge(LgControllingCommand command, long now) {
+		return isFresh(command, now) ? now - readTimestamps[command.ordinal()] : ABSENT;
+	}
+
+	/**
+	 * Drop the entry of a command
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 */
+	synchronized void remove(LgControllingCommand command) {
+		readTimestamps[command.ordinal()] = ABSENT;
+		expiryTimestamps[command.ordinal()] = ABSENT;
+	}
+
+	/**
+	 * Write every entry, keyed by command name so a snapshot survives a change of the order of the commands
+	 *
+	 * @param output the output is stream receiving the entries
+	 * @throws IOException if the entries can not be written
+	 */
+	synchronized void writeTo(DataOutput output) throws IOException {
+		LgControllingCommand[] commands = LgControllingCommand.values();
+		int size = 0;
+		for (LgControllingCommand command : commands) {
+			if (readTimestamps[command.ordinal()] != ABSENT) {
+				size++;
+			}
+		}
+		output.writeInt(size);
+		for (LgControllingCommand command : commands) {
+			int index = command.ordinal();
+			if (readTimestamps[index] != ABSENT) {
+				output.writeUTF(command.name());
+				output.writeLong(readTimestamps[index]);
+				output.writeLong(expiryTimestamps[index]);
+			}
+		}
+	}
+
+	/**
+	 * Replace every entry with the entries written by {@link #writeTo(DataOutput)}, the commands which no longer exist are skipped
+	 *
+	 * @param input the input is stream holding the entries
+	 * @throws IOException if the entries can not be read
+	 */
+	synchronized void readFrom(DataInput input) throws IOException {
+		clear();
+		int size = input.readInt();
+		for (int i = 0; i < size; i++) {
+			String name = input.readUTF();
+			long readTimestamp = input.readLong();
+			long expiryTimestamp = input.readLong();
+			for (LgControllingCommand command : LgControllingCommand.values()) {
+				if (command.name().equals(name)) {
+					readTimestamps[command.ordinal()] = readTimestamp;
+					expiryTimestamps[command.ordinal()] = expiryTimestamp;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drop every entry
+	 */
+	synchronized void clear() {
+		Arrays.fill(readTimestamps, ABSENT);
+		Arrays.fill(expiryTimestamps, ABSENT);
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+/**
+ * LgLCDPropertyKeys holds the statistics keys of the grouped properties, GroupName#PropertyName.
+ * The keys are built once and shared by every instance, so a polling cycle looks the key of a property up instead of concatenating its group and name.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+final class LgLCDPropertyKeys {
+
+	static final String INPUT_GROUP = LgLCDConstants.INPUT + LgLCDConstants.HASH;
+	static final String INPUT_SIGNAL = INPUT_GROUP + LgLCDConstants.SIGNAL;
+	static final String INPUT_SELECT = INPUT_GROUP + LgLCDConstants.INPUT_SELECT;
+
+	static final String DISPLAY_GROUP = LgLCDConstants.DISPLAY + LgLCDConstants.HASH;
+	static final String DISPLAY_ASPECT_RATIO = DISPLAY_GROUP + LgLCDConstants.ASPECT_RATIO;
+	static final String DISPLAY_BRIGHTNESS_CONTROL = DISPLAY_GROUP + LgLCDConstants.BRIGHTNESS_CONTROL;
+	static final String DISPLAY_CONTRAST = DISPLAY_GROUP + LgLCDConstants.CONTRAST;
+	static final String DISPLAY_CONTRAST_VALUE = DISPLAY_GROUP + LgLCDConstants.CONTRAST_VALUE;
+	static final String DISPLAY_PICTURE_MODE = DISPLAY_GROUP + LgLCDConstants.PICTURE_MODE;
+	static final String DISPLAY_BRIGHTNESS = DISPLAY_GROUP + LgLCDConstants.BRIGHTNESS;
+	static final String DISPLAY_BRIGHTNESS_VALUE = DISPLAY_GROUP + LgLCDConstants.BRIGHTNESS_VALUE;
+	static final String DISPLAY_SHARPNESS = DISPLAY_GROUP + LgLCDConstants.SHARPNESS;
+	static final String DISPLAY_SHARPNESS_VALUE = DISPLAY_GROUP + LgLCDConstants.SHARPNESS_VALUE;
+	static final String DISPLAY_SCREEN_COLOR = DISPLAY_GROUP + LgLCDConstants.SCREEN_COLOR;
+	static final String DISPLAY_SCREEN_COLOR_VALUE = DISPLAY_GROUP + LgLCDConstants.SCREEN_COLOR_VALUE;
+	static final String DISPLAY_TINT = DISPLAY_GROUP + LgLCDConstants.TINT;
+	static final String DISPLAY_COLOR_TEMPERATURE = DISPLAY_GROUP + LgLCDConstants.COLOR_TEMPERATURE;
+	static final String DISPLAY_COLOR_TEMPERATURE_VALUE = DISPLAY_GROUP + LgLCDConstants.COLOR_TEMPERATURE_VALUE;
+	static final String DISPLAY_BACKLIGHT = DISPLAY_GROUP + LgLCDConstants.BACKLIGHT;
+	static final String DISPLAY_BACKLIGHT_VALUE = DISPLAY_GROUP + LgLCDConstants.BACKLIGHT_VALUE;
+
+	static final String SOUND_GROUP = LgLCDConstants.SOUND + LgLCDConstants.HASH;
+	static final String SOUND_BALANCE = SOUND_GROUP + LgLCDConstants.BALANCE;
+	static final String SOUND_MODE = SOUND_GROUP + LgLCDConstants.SOUND_MODE;
+	static final String SOUND_MUTE = SOUND_GROUP + LgLCDConstants.MUTE;
+	static final String SOUND_VOLUME = SOUND_GROUP + LgLCDConstants.VOLUME;
+	static final String SOUND_VOLUME_VALUE = SOUND_GROUP + LgLCDConstants.VOLUME_VALUE;
+
+	static final String POWER_MANAGEMENT_GROUP = LgLCDConstants.POWER_MANAGEMENT + LgLCDConstants.HASH;
+	static final String POWER_MANAGEMENT_POWER_ON_STATUS = POWER_MANAGEMENT_GROUP + LgLCDConstants.POWER_ON_STATUS;
+	static final String POWER_MANAGEMENT_NO_SIGNAL_POWER_OFF = POWER_MANAGEMENT_GROUP + LgLCDConstants.NO_SIGNAL_POWER_OFF;
+	static final String POWER_MANAGEMENT_NO_IR_POWER_OFF = POWER_MANAGEMENT_GROUP + LgLCDConstants.NO_IR_POWER_OFF;
+	static final String POWER_MANAGEMENT_DISPLAY_STAND_BY_MODE = POWER_MANAGEMENT_GROUP + LgLCDConstants.DISPLAY_STAND_BY_MODE;
+	static final String POWER_MANAGEMENT_MODE = POWER_MANAGEMENT_GROUP + LgLCDConstants.POWER_MANAGEMENT_MODE;
+
+	static final String TILE_MODE_GROUP = LgLCDConstants.TILE_MODE_SETTINGS + LgLCDConstants.HASH;
+	static final String TILE_MODE = TILE_MODE_GROUP + LgLCDConstants.TILE_MODE;
+	static final String TILE_MODE_COLUMN = TILE_MODE_GROUP + LgLCDConstants.TILE_MODE_COLUMN;
+	static final String TILE_MODE_ROW = TILE_MODE_GROUP + LgLCDConstants.TILE_MODE_ROW;
+	static final String TILE_MODE_ID = TILE_MODE_GROUP + LgLCDConstants.TILE_MODE_ID;
+	static final String TILE_MODE_NATURAL_MODE = TILE_MODE_GROUP + LgLCDConstants.NATURAL_MODE;
+	static final String TILE_MODE_NATURAL_SIZE = TILE_MODE_GROUP + LgLCDConstants.NATURAL_SIZE;
+
+	static final String FAILOVER_GROUP = LgLCDConstants.FAILOVER + LgLCDConstants.HASH;
+	static final String FAILOVER_INPUT_PRIORITY = FAILOVER_GROUP + LgLCDConstants.INPUT_PRIORITY;
+	static final String FAILOVER_MODE = FAILOVER_GROUP + LgLCDConstants.FAILOVER_MODE;
+	static final String FAILOVER_PRIORITY_INPUT = FAILOVER_GROUP + LgLCDConstants.PRIORITY_INPUT;
+	static final String FAILOVER_PRIORITY_UP = FAILOVER_GROUP + LgLCDConstants.PRIORITY_UP;
+	static final String FAILOVER_PRIORITY_DOWN = FAILOVER_GROUP + LgLCDConstants.PRIORITY_DOWN;
+
+	static final String WALL_GROUP = LgLCDConstants.WALL + LgLCDConstants.HASH;
+	static final String WALL_POWER = WALL_GROUP + LgLCDConstants.POWER;
+	static final String WALL_BACKLIGHT = WALL_GROUP + LgLCDConstants.BACKLIGHT;
+	static final String WALL_INPUT_SELECT = WALL_GROUP + LgLCDConstants.INPUT_SELECT;
+	static final String WALL_LAST_CONTROL_DURATION = WALL_GROUP + LgLCDConstants.WALL_LAST_CONTROL_DURATION;
+
+	/**
+	 * Key of every input priority, the key at index 0 is the key of the highest priority
+	 */
+	private static final String[] FAILOVER_PRIORITIES = new String[FailOverInputSourceEnum.values().length];
+
+	/**
+	 * Key of the wall status of every set ID
+	 */
+	private static final String[] WALL_TILES = new String[LgLCDConstants.MAX_SET_ID + 1];
+
+	static {
+		for (int i = 0; i < FAILOVER_PRIORITIES.length; i++) {
+			FAILOVER_PRIORITIES[i] = FAILOVER_GROUP + LgLCDConstants.PRIORITY + (i + 1);
+		}
+		for (int setID = 0; setID < WALL_TILES.length; setID++) {
+			WALL_TILES[setID] = WALL_GROUP + LgLCDConstants.WALL_TILE + String.format("%02d", setID);
+		}
+	}
+
+	private LgLCDPropertyKeys() {
+	}
+
+	/**
+	 * Get the key of an input priority
+	 *
+	 * @param index the index is priority of the input, 0 is the highest priority
+	 * @return String key of the priority in the FailOver group
+	 */
+	static String getFailOverPriority(int index) {
+		return index < FAILOVER_PRIORITIES.length ? FAILOVER_PRIORITIES[index] : FAILOVER_GROUP + LgLCDConstants.PRIORITY + (index + 1);
+	}
+
+	/**
+	 * Get the key of the wall status of a tile
+	 *
+	 * @param setID the setID is set ID of the tile
+	 * @return String key of the tile in the Wall group
+	 */
+	static String getWallTile(int setID) {
+		return setID >= 0 && setID < WALL_TILES.length ? WALL_TILES[setID] : WALL_GROUP + LgLCDConstants.WALL_TILE + String.format("%02d", setID);
+	}
+}
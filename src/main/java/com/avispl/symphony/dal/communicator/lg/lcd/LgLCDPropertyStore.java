@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LgLCDPropertyStore keeps the last value read from the device for every property.
+ * The value of a {@link LgControllingCommand} is stored at the ordinal of the command, the properties decoded from the reply of another command,
+ * such as the columns of the tile mode or the addresses of the network setting, follow the commands.
+ * The slots of the properties are resolved once in a table shared by every instance, and numbers are stored as primitive int
+ * so a number read on every polling cycle does not allocate a new String.
+ * The store also records which properties changed value since the statistics were last published.
+ * The store is shared by the polling cycle and the commands run by the command queue, every access is synchronized.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDPropertyStore {
+
+	/**
+	 * Properties decoded from the reply of another command, stored after the commands
+	 */
+	private static final String[] DERIVED_PROPERTIES = { LgLCDConstants.TILE_MODE_COLUMN, LgLCDConstants.TILE_MODE_ROW, LgLCDConstants.IP_ADDRESS,
+			LgLCDConstants.SUBNET_MASK, LgLCDConstants.GATEWAY, LgLCDConstants.DNS_SERVER, LgLCDConstants.BRIGHTNESS_VALUE };
+
+	/**
+	 * Slot of every property name
+	 */
+	private static final Map<String, Integer> SLOTS;
+
+	/**
+	 * Name of the property at every slot
+	 */
+	private static final String[] NAMES;
+
+	/**
+	 * Decimal text of the numbers sent in one byte by the device
+	 */
+	private static final String[] NUMBER_TEXTS = new String[256];
+
+	private static final int SIZE;
+	private static final byte EMPTY = 0;
+	private static final byte TEXT = 1;
+	private static final byte NUMBER = 2;
+
+	static {
+		Map<String, Integer> slots = new HashMap<>();
+		LgControllingCommand[] commands = LgControllingCommand.values();
+		for (LgControllingCommand command : commands) {
+			slots.put(command.getName(), command.ordinal());
+		}
+		for (int i = 0; i < DERIVED_PROPERTIES.length; i++) {
+			slots.put(DERIVED_PROPERTIES[i], commands.length + i);
+		}
+		SLOTS = Collections.unmodifiableMap(slots);
+		SIZE = commands.length + DERIVED_PROPERTIES.length;
+		NAMES = new String[SIZE];
+		for (Map.Entry<String, Integer> slot : slots.entrySet()) {
+			NAMES[slot.getValue()] = slot.getKey();
+		}
+		for (int i = 0; i < NUMBER_TEXTS.length; i++) {
+			NUMBER_TEXTS[i] = String.valueOf(i);
+		}
+	}
+
+	private final byte[] kinds = new byte[SIZE];
+	private final String[] texts = new String[SIZE];
+	private final int[] numbers = new int[SIZE];
+	private final BitSet changedSlots = new BitSet(SIZE);
+	private int count;
+
+	/**
+	 * Get the value of a property
+	 *
+	 * @param name the name is name of the property
+	 * @return String value of the property, null if the property has no value
+	 */
+	synchronized String get(String name) {
+		Integer slot = SLOTS.get(name);
+		return slot == null ? null : get(slot);
+	}
+
+	/**
+	 * Get the value of the property of a command
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 * @return String value of the property, null if the property has no value
+	 */
+	synchronized String get(LgControllingCommand command) {
+		return get(command.ordinal());
+	}
+
+	/**
+	 * Store the text value of a property, the value of a property which is not part of the store is ignored
+	 *
+	 * @param name the name is name of the property
+	 * @param value the value is text value of the property
+	 */
+	synchronized void put(String name, String value) {
+		Integer slot = SLOTS.get(name);
+		if (slot == null) {
+			return;
+		}
+		if (value == null) {
+			remove(slot);
+			return;
+		}
+		if (kinds[slot] != TEXT || !value.equals(texts[slot])) {
+			changedSlots.set(slot);
+		}
+		markPresent(slot, TEXT);
+		texts[slot] = value;
+	}
+
+	/**
+	 * Store the number value of a property, the value of a property which is not part of the store is ignored
+	 *
+	 * @param name the name is name of the property
+	 * @param value the value is number value of the property
+	 */
+	synchronized void putNumber(String name, int value) {
+		Integer slot = SLOTS.get(name);
+		if (slot == null) {
+			return;
+		}
+		if (kinds[slot] != NUMBER || numbers[slot] != value) {
+			changedSlots.set(slot);
+		}
+		markPresent(slot, NUMBER);
+		texts[slot] = null;
+		numbers[slot] = value;
+	}
+
+	/**
+	 * Drop the value of a property
+	 *
+	 * @param name the name is name of the property
+	 */
+	synchronized void remove(String name) {
+		Integer slot = SLOTS.get(name);
+		if (slot != null) {
+			remove(slot);
+		}
+	}
+
+	/**
+	 * Drop the value of the property of a command
+	 *
+	 * @param command the command is LgControllingCommand enum instance
+	 */
+	synchronized void remove(LgControllingCommand command) {
+		remove(command.ordinal());
+	}
+
+	/**
+	 * Check whether no property has a value
+	 *
+	 * @return true if the store is empty
+	 */
+	synchronized boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Check whether a property changed value since the last call of {@link #clearChanges()}
+	 *
+	 * @return true if at least one property changed
+	 */
+	synchronized boolean hasChanges() {
+		return !changedSlots.isEmpty();
+	}
+
+	/**
+	 * Get the names of the properties which changed value since the last call of {@link #clearChanges()}
+	 *
+	 * @return List of property names
+	 */
+	synchronized List<String> getChangedProperties() {
+		List<String> changedProperties = new ArrayList<>(changedSlots.cardinality());
+		for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1)) {
+			changedProperties.add(NAMES[slot]);
+		}
+		return changedProperties;
+	}
+
+	/**
+	 * Forget the changes, called right before the statistics are built from the current values,
+	 * so a value stored while they are built stays changed for the next polling cycle
+	 */
+	synchronized void clearChanges() {
+		changedSlots.clear();
+	}
+
+	/**
+	 * Drop every value
+	 */
+	synchronized void clear() {
+		for (int slot = 0; slot < SIZE; slot++) {
+			if (kinds[slot] != EMPTY) {
+				changedSlots.set(slot);
+			}
+		}
+		Arrays.fill(kinds, EMPTY);
+		Arrays.fill(texts, null);
+		count = 0;
+	}
+
+	/**
+	 * Write every value, keyed by property name so a snapshot survives a change of the order of the commands
+	 *
+	 * @param output the output is stream receiving the values
+	 * @throws IOException if the values can not be written
+	 */
+	synchronized void writeTo(DataOutput output) throws IOException {
+		output.writeInt(count);
+		for (int slot = 0; slot < SIZE; slot++) {
+			if (kinds[slot] == EMPTY) {
+				continue;
+			}
+			output.writeUTF(NAMES[slot]);
+			output.writeByte(kinds[slot]);
+			if (kinds[slot] == NUMBER) {
+				output.writeInt(numbers[slot]);
+			} else {
+				output.writeUTF(texts[slot]);
+			}
+		}
+	}
+
+	/**
+	 * Replace every value with the values written by {@link #writeTo(DataOutput)}, the properties no longer part of the store are skipped
+	 *
+	 * @param input the input is stream holding the values
+	 * @throws IOException if the values can not be read
+	 */
+	synchronized void readFrom(DataInput input) throws IOException {
+		clear();
+		int size = input.readInt();
+		for (int i = 0; i < size; i++) {
+			String name = input.readUTF();
+			if (input.readByte() == NUMBER) {
+				putNumber(name, input.readInt());
+			} else {
+				put(name, input.readUTF());
+			}
+		}
+	}
+
+	/**
+	 * Get the value stored at a slot
+	 *
+	 * @param slot the slot is index of the property
+	 * @return String value of the property, null if the property has no value
+	 */
+	private String get(int slot) {
+		switch (kinds[slot]) {
+			case TEXT:
+				return texts[slot];
+			case NUMBER:
+				int number = numbers[slot];
+				return number >= 0 && number < NUMBER_TEXTS.length ? NUMBER_TEXTS[number] : String.valueOf(number);
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Mark a slot as holding a value
+	 *
+	 * @param slot the slot is index of the property
+	 * @param kind the kind is TEXT or NUMBER
+	 */
+	private void markPresent(int slot, byte kind) {
+		if (kinds[slot] == EMPTY) {
+			count++;
+		}
+		kinds[slot] = kind;
+	}
+
+	/**
+	 * Drop the value stored at a slot
+	 *
+	 * @param slot the slot is index of the property
+	 */
+	private void remove(int slot) {
+		if (kinds[slot] != EMPTY) {
+			count--;
+			changedSlots.set(slot);
+		}
+		kinds[slot] = EMPTY;
+		texts[slot] = null;
+	}
+}
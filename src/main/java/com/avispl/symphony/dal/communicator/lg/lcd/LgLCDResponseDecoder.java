@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+/**
+ * LgLCDResponseDecoder decodes the data of an OK reply "[Command2][ ][Set ID][ ][OK][Data][x]" of one command
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@FunctionalInterface
+interface LgLCDResponseDecoder {
+
+	/**
+	 * Decode the reply, reading the data in place from the response buffer
+	 *
+	 * @param response the response is the whole reply of the device
+	 * @return Object decoded value or null if the data is not a known value
+	 */
+	Object decode(byte[] response);
+}
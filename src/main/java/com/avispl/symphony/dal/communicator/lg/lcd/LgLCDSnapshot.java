@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * LgLCDSnapshot saves the last known values of a display to a local file and loads them back after a restart of the adapter:
+ * the values of {@link LgLCDPropertyStore}, the read times of {@link LgLCDPropertyCache} and the priority input list.
+ * The file is written to a temporary file first then moved over the previous one, so a crash while saving never leaves a truncated snapshot.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDSnapshot {
+
+	private static final int MAGIC = 0x4C47534E;
+	private static final int VERSION = 2;
+
+	private LgLCDSnapshot() {
+	}
+
+	/**
+	 * Get the snapshot file of a display
+	 *
+	 * @param directory the directory is directory of the snapshots
+	 * @param host the host is host of the display
+	 * @param port the port is port of the display
+	 * @param monitorID the monitorID is set ID of the display
+	 * @return Path of the snapshot file
+	 */
+	static Path getSnapshotFile(Path directory, String host, int port, int monitorID) {
+		String name = String.format("lg-%s-%d-%d.snapshot", host, port, monitorID).replaceAll("[^A-Za-z0-9._-]", "_");
+		return directory.resolve(name);
+	}
+
+	/**
+	 * Save the last known values of a display
+	 *
+	 * @param file the file is snapshot file
+	 * @param timestamp the timestamp is time of the snapshot
+	 * @param propertyStore the propertyStore is values of the properties
+	 * @param propertyCache the propertyCache is read times of the commands
+	 * @param priorityInputs the priorityInputs is priority input list
+	 * @throws IOException if the snapshot can not be written
+	 */
+	static void save(Path file, long timestamp, LgLCDPropertyStore propertyStore, LgLCDPropertyCache propertyCache, LgLCDPriorityInputs priorityInputs) throws IOException {
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(timestamp);
+			propertyStore.writeTo(output);
+			propertyCache.writeTo(output);
+			priorityInputs.writeTo(output);
+		}
+		try {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Load the last known values of a display, nothing is changed if the file does not hold a snapshot of this version.
+	 * The caches may be partly loaded when an IOException is thrown, the caller has to clear them.
+	 *
+	 * @param file the file is snapshot file
+	 * @param propertyStore the propertyStore receives the values of the properties
+	 * @param propertyCache the propertyCache receives the read times of the commands
+	 * @param priorityInputs the priorityInputs receives the priority input list
+	 * @return time of the snapshot, 0 if there is no snapshot to load
+	 * @throws IOException if the snapshot can not be read
+	 */
+	static long load(Path file, LgLCDPropertyStore propertyStore, LgLCDPropertyCache propertyCache, LgLCDPriorityInputs priorityInputs) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return 0;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				return 0;
+			}
+			long timestamp = input.readLong();
+			propertyStore.readFrom(input);
+			propertyCache.readFrom(input);
+			priorityInputs.readFrom(input);
+			return timestamp;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * LgLCDStatisticsSection keeps one part of the published statistics, such as the monitoring values or one group of controls,
+ * with the names of the properties of {@link LgLCDPropertyStore} it was built from.
+ * A polling cycle rebuilds only the sections reading a property which changed, the other sections keep their statistics and control instances.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+class LgLCDStatisticsSection {
+
+	private final Set<String> readProperties = new HashSet<>();
+	private Map<String, String> statistics = new HashMap<>();
+	private Map<String, String> dynamicStatistics = new HashMap<>();
+	private List<AdvancedControllableProperty> controls = new ArrayList<>();
+
+	/**
+	 * Drop the content of the section before it is built again, the previous maps and list are left untouched
+	 */
+	void reset() {
+		readProperties.clear();
+		statistics = new HashMap<>();
+		dynamicStatistics = new HashMap<>();
+		controls = new ArrayList<>();
+	}
+
+	/**
+	 * Record a property read while the section is built
+	 *
+	 * @param name the name is name of the property
+	 */
+	void addReadProperty(String name) {
+		readProperties.add(name);
+	}
+
+	/**
+	 * Check whether the section was built from one of the properties
+	 *
+	 * @param names the names are names of the properties
+	 * @return true if the section reads one of the properties
+	 */
+	boolean isReading(Collection<String> names) {
+		for (String name : names) {
+			if (readProperties.contains(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieves {@link #statistics}
+	 *
+	 * @return value of {@link #statistics}
+	 */
+	Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Retrieves {@link #dynamicStatistics}
+	 *
+	 * @return value of {@link #dynamicStatistics}
+	 */
+	Map<String, String> getDynamicStatistics() {
+		return dynamicStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #controls}
+	 *
+	 * @return value of {@link #controls}
+	 */
+	List<AdvancedControllableProperty> getControls() {
+		return controls;
+	}
+}
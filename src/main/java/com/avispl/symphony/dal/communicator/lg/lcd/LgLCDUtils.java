@@ -3,47 +3,130 @@
  */
 package com.avispl.symphony.dal.communicator.lg.lcd;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.Button;
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.ControllableType;
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.DropDown;
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.Slider;
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.Switch;
 
 /**
  * Class support build String to byte
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 30/1/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
 public class LgLCDUtils {
 
+	/**
+	 * Build the frame "[Command1][Command2][ ][Set ID][ ][Data][Cr]", the set ID is always written as two hex digits
+	 *
+	 * @param monitorID the monitorID is set ID of the display
+	 * @param command the command is two bytes command
+	 * @param param the param is data of the command
+	 * @return byte[] frame of the command
+	 */
 	static byte[] buildSendString(byte monitorID, byte[] command, byte[] param) {
-		List<Byte> bytes = new ArrayList<>();
-
-		for (int i = 0; i < command.length; i++) {
-			bytes.add(command[i]);
-		}
-		bytes.add((byte) ' ');
-		if (monitorID < 17) {
-			bytes.add((byte) '0');
-		}
+		return LgLCDFrameEncoder.encode(monitorID & 0xFF, command, param);
+	}
 
-		String ID = Integer.toHexString(monitorID);
+	/**
+	 * Parse hex digits without creating intermediate Strings
+	 *
+	 * @param data the data is the buffer holding ASCII hex digits
+	 * @param from the from is index of the first digit (inclusive)
+	 * @param to the to is index after the last digit (exclusive)
+	 * @return int value of the hex digits or -1 if a byte is not a hex digit
+	 */
+	static int parseHexValue(byte[] data, int from, int to) {
+		return parseValue(data, from, to, 16);
+	}
 
-		for (byte b : ID.getBytes()) {
-			bytes.add(b);
+	/**
+	 * Parse digits of the given radix without creating intermediate Strings
+	 *
+	 * @param data the data is the buffer holding ASCII digits
+	 * @param from the from is index of the first digit (inclusive)
+	 * @param to the to is index after the last digit (exclusive)
+	 * @param radix the radix is radix of the digits
+	 * @return int value of the digits or -1 if a byte is not a digit
+	 */
+	static int parseValue(byte[] data, int from, int to, int radix) {
+		int value = 0;
+		for (int i = from; i < to; i++) {
+			int digit = Character.digit(data[i], radix);
+			if (digit < 0) {
+				return -1;
+			}
+			value = value * radix + digit;
 		}
+		return value;
+	}
 
-		bytes.add((byte) ' ');
-		for (int i = 0; i < param.length; i++) {
-			bytes.add(param[i]);
+	/**
+	 * Build a lookup array of enums indexed by the value of their two hex digits code
+	 *
+	 * @param enumType the enumType is class of the enum
+	 * @param codes the codes are codes of the enums
+	 * @param from the from is index of the two hex digits inside each code
+	 * @return enum array of 256 entries, null where no enum has the code
+	 */
+	static <T extends Enum<T>> T[] buildCodeLookup(Class<T> enumType, Map<T, byte[]> codes, int from) {
+		@SuppressWarnings("unchecked")
+		T[] codeLookup = (T[]) Array.newInstance(enumType, 256);
+		for (Map.Entry<T, byte[]> entry : codes.entrySet()) {
+			byte[] code = entry.getValue();
+			if (code.length < from + 2) {
+				continue;
+			}
+			int value = parseHexValue(code, from, from + 2);
+			if (value >= 0) {
+				codeLookup[value] = entry.getKey();
+			}
 		}
-		bytes.add((byte) '\r');
+		return codeLookup;
+	}
 
-		byte[] byteArray = new byte[bytes.size()];
-		for (int i = 0; i < bytes.size(); i++) {
-			byteArray[i] = bytes.get(i);
+	/**
+	 * Check whether two controls have the same name, value and options
+	 *
+	 * @param control the control is first control
+	 * @param other the other is second control
+	 * @return true if the controls show the same thing to the operator
+	 */
+	static boolean isSameControl(AdvancedControllableProperty control, AdvancedControllableProperty other) {
+		if (!Objects.equals(control.getName(), other.getName()) || !Objects.equals(String.valueOf(control.getValue()), String.valueOf(other.getValue()))) {
+			return false;
 		}
-
-		return byteArray;
+		ControllableType type = control.getType();
+		ControllableType otherType = other.getType();
+		if (type == null || otherType == null || type.getClass() != otherType.getClass()) {
+			return type == otherType;
+		}
+		if (type instanceof DropDown) {
+			return Arrays.equals(((DropDown) type).getOptions(), ((DropDown) otherType).getOptions())
+					&& Arrays.equals(((DropDown) type).getLabels(), ((DropDown) otherType).getLabels());
+		}
+		if (type instanceof Slider) {
+			Slider slider = (Slider) type;
+			Slider otherSlider = (Slider) otherType;
+			return Objects.equals(slider.getRangeStart(), otherSlider.getRangeStart()) && Objects.equals(slider.getRangeEnd(), otherSlider.getRangeEnd())
+					&& Objects.equals(slider.getLabelStart(), otherSlider.getLabelStart()) && Objects.equals(slider.getLabelEnd(), otherSlider.getLabelEnd());
+		}
+		if (type instanceof Switch) {
+			return Objects.equals(((Switch) type).getLabelOn(), ((Switch) otherType).getLabelOn()) && Objects.equals(((Switch) type).getLabelOff(), ((Switch) otherType).getLabelOff());
+		}
+		if (type instanceof Button) {
+			return Objects.equals(((Button) type).getLabel(), ((Button) otherType).getLabel()) && Objects.equals(((Button) type).getLabelPressed(), ((Button) otherType).getLabelPressed())
+					&& Objects.equals(((Button) type).getGracePeriod(), ((Button) otherType).getGracePeriod());
+		}
+		return false;
 	}
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+/**
+ * NameValueEnum is implemented by the enums mapping a display name to the value sent to the device
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public interface NameValueEnum {
+
+	/**
+	 * Get the display name of the enum constant
+	 *
+	 * @return String name shown on the property
+	 */
+	String getName();
+
+	/**
+	 * Get the value of the enum constant in the device protocol
+	 *
+	 * @return String value sent to or received from the device
+	 */
+	String getValue();
+}
@@ -8,10 +8,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 12/1/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum PowerManagement {
+public enum PowerManagement implements NameValueEnum {
 
 	OFF("Off", "00"),
 	SECOND_10("10 seconds", "02"),
@@ -8,10 +8,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 12/28/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum PowerManagementModeEnum {
+public enum PowerManagementModeEnum implements NameValueEnum {
 
 	POWER_OFF("Power Off", "00"),
 	SUSTAIN_ASPECT_RATIO("Sustain Aspect Ratio", "01"),
@@ -9,10 +9,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 1/11/2023
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum PowerStatus {
+public enum PowerStatus implements NameValueEnum {
 
 	LST("LST (Last Status)", "00"),
 	STD("STD (Standby)", "01"),
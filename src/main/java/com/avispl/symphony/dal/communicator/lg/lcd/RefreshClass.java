@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+/**
+ * RefreshClass defines how often the value of a {@link LgControllingCommand} is read from the device
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public enum RefreshClass {
+
+	/**
+	 * Read on every polling cycle
+	 */
+	EVERY_CYCLE,
+
+	/**
+	 * Read again once the periodicRefreshInterval has elapsed, settings that only change from a control or the on screen menu
+	 */
+	PERIODIC,
+
+	/**
+	 * Read once per connection to the device, values that only change after a firmware update or a reboot
+	 */
+	ON_CONNECT
+}
@@ -9,10 +9,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 12/1/2022
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum TileMode {
+public enum TileMode implements NameValueEnum {
 
 	ON("On", "01", true),
 	OFF("Off", "00", true);
@@ -8,10 +8,10 @@ package com.avispl.symphony.dal.communicator.lg.lcd;
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 4/19/2023
- * @version 1.4.0
+ * @version 1.5.0
  * @since 1.4.0
  */
-public enum Tint {
+public enum Tint implements NameValueEnum {
 
 	R50("R50", "00"),
 	R49("R49", "01"),
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for AdaptiveCoolDownDelay
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class AdaptiveCoolDownDelayTest {
+
+	/**
+	 * Test the delay shrinks after a streak of fast replies and never goes below MIN_DELAY_TIME
+	 */
+	@Tag("Mock")
+	@Test
+	void testDelayDecreasesWhileDeviceKeepsUp() {
+		AdaptiveCoolDownDelay adaptiveCoolDownDelay = new AdaptiveCoolDownDelay(LgLCDConstants.DEFAULT_DELAY_TIME);
+		for (int i = 0; i < LgLCDConstants.ADAPTIVE_DELAY_SUCCESS_STREAK; i++) {
+			adaptiveCoolDownDelay.onSuccess(50);
+		}
+		Assertions.assertEquals(LgLCDConstants.DEFAULT_DELAY_TIME - LgLCDConstants.ADAPTIVE_DELAY_DECREASE_STEP, adaptiveCoolDownDelay.getDelay());
+		for (int i = 0; i < 1000; i++) {
+			adaptiveCoolDownDelay.onSuccess(50);
+		}
+		Assertions.assertEquals(LgLCDConstants.MIN_DELAY_TIME, adaptiveCoolDownDelay.getDelay());
+	}
+
+	/**
+	 * Test the delay backs off on failure and never goes above MAX_DELAY_TIME
+	 */
+	@Tag("Mock")
+	@Test
+	void testDelayIncreasesOnFailure() {
+		AdaptiveCoolDownDelay adaptiveCoolDownDelay = new AdaptiveCoolDownDelay(LgLCDConstants.MIN_DELAY_TIME);
+		adaptiveCoolDownDelay.onFailure();
+		Assertions.assertEquals(LgLCDConstants.MIN_DELAY_TIME * LgLCDConstants.ADAPTIVE_DELAY_INCREASE_FACTOR, adaptiveCoolDownDelay.getDelay());
+		for (int i = 0; i < 10; i++) {
+			adaptiveCoolDownDelay.onFailure();
+		}
+		Assertions.assertEquals(LgLCDConstants.MAX_DELAY_TIME, adaptiveCoolDownDelay.getDelay());
+		Assertions.assertEquals(1.0, adaptiveCoolDownDelay.getFailureRate());
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
+
+/**
+ * Unit test for LgLCDCommandMetrics
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDCommandMetricsTest {
+
+	/**
+	 * Test replies, NG replies and timeouts are counted on the command of the frame with their bytes and latency
+	 */
+	@Tag("Mock")
+	@Test
+	void testRecordReplies() {
+		LgLCDCommandMetrics commandMetrics = new LgLCDCommandMetrics();
+		byte[] frame = LgLCDFrameEncoder.encode(1, LgLCDConstants.commands.get(commandNames.VOLUME), LgLCDConstants.commands.get(commandNames.GET));
+		byte[] reply = "f 01 OK20x".getBytes();
+		for (int i = 0; i < 19; i++) {
+			commandMetrics.recordReply(frame, reply, false, 20);
+		}
+		commandMetrics.recordReply(frame, reply, true, 400);
+		commandMetrics.recordReply(frame, null, false, 0);
+		commandMetrics.recordTimeout(frame);
+
+		LgLCDCommandMetrics.CommandSummary summary = commandMetrics.getSummary(LgControllingCommand.VOLUME);
+		Assertions.assertEquals(22, summary.getRequests());
+		Assertions.assertEquals(2, summary.getTimeouts());
+		Assertions.assertEquals(1, summary.getNGReplies());
+		Assertions.assertEquals(22L * frame.length, summary.getBytesSent());
+		Assertions.assertEquals(20L * reply.length, summary.getBytesReceived());
+		Assertions.assertEquals(25, summary.getLatencyPercentile(50));
+		Assertions.assertEquals(25, summary.getLatencyPercentile(95));
+		Assertions.assertEquals(400, summary.getLatencyPercentile(100));
+		Assertions.assertEquals(400, summary.getMaxLatency());
+		Assertions.assertEquals(39, summary.getAverageLatency());
+
+		Map<String, LgLCDCommandMetrics.CommandSummary> summaries = commandMetrics.getSummaries();
+		Assertions.assertEquals(1, summaries.size());
+		Assertions.assertTrue(summaries.containsKey(LgLCDConstants.VOLUME));
+		Assertions.assertEquals(22, commandMetrics.getTotal().getRequests());
+	}
+
+	/**
+	 * Test the commands sharing a command code are told apart by their sub-command
+	 */
+	@Tag("Mock")
+	@Test
+	void testSharedCommandCode() {
+		byte[] networkSetting = LgLCDFrameEncoder.encode(1, LgLCDConstants.commands.get(commandNames.NETWORK_SETTING), LgLCDConstants.commands.get(commandNames.NETWORK_SETTING_PARAM));
+		byte[] naturalSize = LgLCDFrameEncoder.encode(1, LgLCDConstants.commands.get(commandNames.NATURAL_SIZE), LgLCDConstants.commands.get(commandNames.NATURAL_SIZE_PARAM));
+		byte[] failover = LgLCDFrameEncoder.encode(1, LgLCDConstants.commands.get(commandNames.FAILOVER), LgLCDConstants.commands.get(commandNames.GET));
+		Assertions.assertEquals(LgControllingCommand.NETWORK_SETTING.ordinal(), LgLCDCommandMetrics.getSlot(networkSetting));
+		Assertions.assertEquals(LgControllingCommand.NATURAL_SIZE.ordinal(), LgLCDCommandMetrics.getSlot(naturalSize));
+		Assertions.assertEquals(LgControllingCommand.FAILOVER.ordinal(), LgLCDCommandMetrics.getSlot(failover));
+
+		LgLCDCommandMetrics commandMetrics = new LgLCDCommandMetrics();
+		commandMetrics.recordError("zz 01 FF\r".getBytes());
+		LgLCDCommandMetrics.CommandSummary other = commandMetrics.getSummaries().get(LgLCDConstants.METRICS_OTHER);
+		Assertions.assertEquals(1, other.getErrors());
+		Assertions.assertEquals(0, other.getLatencyPercentile(95));
+	}
+
+	/**
+	 * Test every command code, followed by its sub-command if it has one, is resolved to a command sending this code, and an unknown code to the slot of the other commands
+	 */
+	@Tag("Mock")
+	@Test
+	void testEveryCommandCodeHasItsSlot() {
+		for (LgControllingCommand command : LgControllingCommand.values()) {
+			byte[] code = LgLCDConstants.commands.get(command.getCommandNames());
+			if (code == null) {
+				continue;
+			}
+			byte[] data = LgLCDConstants.commands.get(commandNames.GET);
+			for (commandNames param : commandNames.values()) {
+				if (param.name().equals(command.getCommandNames().name() + "_PARAM")) {
+					data = LgLCDConstants.commands.get(param);
+				}
+			}
+			int slot = LgLCDCommandMetrics.getSlot(LgLCDFrameEncoder.encode(1, code, data));
+			Assertions.assertTrue(slot < LgControllingCommand.values().length, command.name());
+			Assertions.assertArrayEquals(code, LgLCDConstants.commands.get(LgControllingCommand.values()[slot].getCommandNames()), command.name());
+		}
+		Assertions.assertEquals(LgControllingCommand.values().length, LgLCDCommandMetrics.getSlot("zz 01 FF\r".getBytes()));
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for LgLCDCommandQueue
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDCommandQueueTest {
+
+	/**
+	 * Test a control queued after polling commands is sent before them
+	 */
+	@Tag("Mock")
+	@Test
+	void testControlGoesAheadOfQueuedPolling() throws Exception {
+		LgLCDCommandQueue commandQueue = new LgLCDCommandQueue();
+		try {
+			CountDownLatch inFlight = new CountDownLatch(1);
+			List<String> sentCommands = new CopyOnWriteArrayList<>();
+			commandQueue.submit(() -> {
+				inFlight.await();
+				return null;
+			}, CommandPriority.POLL);
+			commandQueue.submit(() -> sentCommands.add("poll1"), CommandPriority.POLL);
+			commandQueue.submit(() -> sentCommands.add("poll2"), CommandPriority.POLL);
+			Future<Boolean> control = commandQueue.submit(() -> sentCommands.add("control"), CommandPriority.CONTROL);
+			Future<Boolean> lastPoll = commandQueue.submit(() -> sentCommands.add("poll3"), CommandPriority.POLL);
+			inFlight.countDown();
+			control.get(1, TimeUnit.SECONDS);
+			lastPoll.get(1, TimeUnit.SECONDS);
+			Assertions.assertEquals("[control, poll1, poll2, poll3]", sentCommands.toString());
+		} finally {
+			commandQueue.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test the polling cycle waits for the pending controls and the control latency is recorded
+	 */
+	@Tag("Mock")
+	@Test
+	void testPendingControls() throws Exception {
+		LgLCDCommandQueue commandQueue = new LgLCDCommandQueue();
+		try {
+			Assertions.assertFalse(commandQueue.hasPendingControls());
+			long startTime = commandQueue.beginControl();
+			Assertions.assertTrue(commandQueue.hasPendingControls());
+			Thread control = new Thread(() -> {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				commandQueue.endControl(startTime);
+			});
+			control.start();
+			commandQueue.awaitControls();
+			Assertions.assertFalse(commandQueue.hasPendingControls());
+			Assertions.assertEquals(1, commandQueue.getControlCount());
+			Assertions.assertTrue(commandQueue.getLastControlLatency() >= 50);
+			Assertions.assertEquals(commandQueue.getLastControlLatency(), commandQueue.getMaxControlLatency());
+		} finally {
+			commandQueue.shutdownNow();
+		}
+	}
+}
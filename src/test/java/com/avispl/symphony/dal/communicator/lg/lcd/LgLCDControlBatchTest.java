@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.controlProperties;
+
+/**
+ * Unit test for LgLCDControlBatch
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDControlBatchTest {
+
+	/**
+	 * Test the dependent controls follow their prerequisite, the power on comes first and only the latest value of a property is kept
+	 */
+	@Tag("Mock")
+	@Test
+	void testOrder() {
+		List<ControllableProperty> batch = LgLCDControlBatch.order(Arrays.asList(
+				createControl("Display#" + LgLCDConstants.NATURAL_MODE, "1"),
+				createControl("Display#" + LgLCDConstants.VOLUME, "10"),
+				createControl("Input#" + LgLCDConstants.PRIORITY_UP, "1"),
+				createControl("Display#" + LgLCDConstants.TILE_MODE, "1"),
+				createControl("Input#" + LgLCDConstants.INPUT_PRIORITY, "1"),
+				createControl("Input#" + LgLCDConstants.PRIORITY_UP, "1"),
+				createControl("Input#" + LgLCDConstants.FAILOVER_MODE, "1"),
+				createControl(controlProperties.power.name(), "1"),
+				createControl("Display#" + LgLCDConstants.VOLUME, "30")));
+
+		List<String> properties = batch.stream().map(item -> item.getProperty().substring(item.getProperty().indexOf(LgLCDConstants.HASH) + 1)).collect(Collectors.toList());
+		Assertions.assertEquals(Arrays.asList(controlProperties.power.name(), LgLCDConstants.TILE_MODE, LgLCDConstants.FAILOVER_MODE, LgLCDConstants.VOLUME,
+				LgLCDConstants.NATURAL_MODE, LgLCDConstants.INPUT_PRIORITY, LgLCDConstants.PRIORITY_UP, LgLCDConstants.PRIORITY_UP), properties);
+		Assertions.assertEquals("30", batch.get(3).getValue());
+	}
+
+	/**
+	 * Test the power off and the reboot are applied after every other control
+	 */
+	@Tag("Mock")
+	@Test
+	void testPowerOffLast() {
+		List<ControllableProperty> batch = LgLCDControlBatch.order(Arrays.asList(
+				createControl(controlProperties.power.name(), "0"),
+				createControl("Display#" + LgLCDConstants.REBOOT, "1"),
+				createControl("Display#" + LgLCDConstants.BACKLIGHT, "50")));
+		Assertions.assertEquals("Display#" + LgLCDConstants.BACKLIGHT, batch.get(0).getProperty());
+		Assertions.assertEquals(controlProperties.power.name(), batch.get(1).getProperty());
+		Assertions.assertEquals(LgControllingCommand.TILE_MODE, LgLCDControlBatch.getPrerequisite(LgControllingCommand.NATURAL_MODE));
+		Assertions.assertNull(LgLCDControlBatch.getCommand(LgLCDConstants.WALL + LgLCDConstants.HASH + LgLCDConstants.POWER));
+	}
+
+	/**
+	 * Create a control
+	 *
+	 * @param property the property is name of the controlled property
+	 * @param value the value is value of the control
+	 * @return ControllableProperty instance
+	 */
+	private ControllableProperty createControl(String property, String value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		return controllableProperty;
+	}
+}
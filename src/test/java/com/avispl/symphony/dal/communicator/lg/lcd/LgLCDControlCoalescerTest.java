@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for LgLCDControlCoalescer
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDControlCoalescerTest {
+
+	/**
+	 * Test the requests made while the leader waits are acknowledged right away and only the latest value is sent
+	 */
+	@Tag("Mock")
+	@Test
+	void testLatestValueIsSent() throws Exception {
+		LgLCDControlCoalescer controlCoalescer = new LgLCDControlCoalescer();
+		CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> {
+			try {
+				return controlCoalescer.offer(LgControllingCommand.VOLUME, "10", 500) ? controlCoalescer.take(LgControllingCommand.VOLUME) : null;
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		Thread.sleep(100);
+		long startTime = System.currentTimeMillis();
+		Assertions.assertFalse(controlCoalescer.offer(LgControllingCommand.VOLUME, "20", 500));
+		Assertions.assertFalse(controlCoalescer.offer(LgControllingCommand.VOLUME, "30", 500));
+		Assertions.assertTrue(System.currentTimeMillis() - startTime < 100);
+		Assertions.assertTrue(controlCoalescer.offer(LgControllingCommand.BACKLIGHT, "50", 0));
+		Assertions.assertEquals("50", controlCoalescer.take(LgControllingCommand.BACKLIGHT));
+
+		Assertions.assertEquals("30", leader.get(2, TimeUnit.SECONDS));
+		Assertions.assertEquals(2, controlCoalescer.getSupersededCount());
+		Assertions.assertTrue(controlCoalescer.offer(LgControllingCommand.VOLUME, "40", 0));
+		Assertions.assertEquals("40", controlCoalescer.take(LgControllingCommand.VOLUME));
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for LgLCDFleetScheduler
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDFleetSchedulerTest {
+
+	/**
+	 * Test the displays take turns and never have more than the concurrency cap of commands in flight
+	 */
+	@Tag("Mock")
+	@Test
+	void testDisplaysTakeTurnsUnderConcurrencyCap() throws Exception {
+		LgLCDFleetScheduler fleetScheduler = new LgLCDFleetScheduler(1);
+		LgLCDCommandQueue firstDisplay = new LgLCDCommandQueue(fleetScheduler, () -> 0);
+		LgLCDCommandQueue secondDisplay = new LgLCDCommandQueue(fleetScheduler, () -> 0);
+		CountDownLatch inFlight = new CountDownLatch(1);
+		AtomicInteger runningCount = new AtomicInteger();
+		AtomicInteger maxRunningCount = new AtomicInteger();
+		List<String> sentCommands = new CopyOnWriteArrayList<>();
+		List<Future<Boolean>> futures = new ArrayList<>();
+		firstDisplay.submit(() -> {
+			inFlight.await();
+			return true;
+		}, CommandPriority.POLL);
+		for (int i = 1; i <= 2; i++) {
+			for (LgLCDCommandQueue display : new LgLCDCommandQueue[] { firstDisplay, secondDisplay }) {
+				String command = (display == firstDisplay ? "first" : "second") + i;
+				futures.add(display.submit(() -> {
+					maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+					sentCommands.add(command);
+					runningCount.decrementAndGet();
+					return true;
+				}, CommandPriority.POLL));
+			}
+		}
+		inFlight.countDown();
+		for (Future<Boolean> future : futures) {
+			future.get(1, TimeUnit.SECONDS);
+		}
+		Assertions.assertEquals("[second1, first1, second2, first2]", sentCommands.toString());
+		Assertions.assertEquals(1, maxRunningCount.get());
+	}
+
+	/**
+	 * Test a display is not handed its next command before its cool down delay has elapsed
+	 */
+	@Tag("Mock")
+	@Test
+	void testCoolDownDelayIsApplied() throws Exception {
+		LgLCDFleetScheduler fleetScheduler = new LgLCDFleetScheduler(4);
+		AtomicLong lastCommandTimestamp = new AtomicLong();
+		LgLCDCommandQueue display = new LgLCDCommandQueue(fleetScheduler, () -> 100 - (System.currentTimeMillis() - lastCommandTimestamp.get()));
+		List<Long> timestamps = new CopyOnWriteArrayList<>();
+		Future<Boolean> lastCommand = null;
+		for (int i = 0; i < 3; i++) {
+			lastCommand = display.submit(() -> {
+				lastCommandTimestamp.set(System.currentTimeMillis());
+				return timestamps.add(lastCommandTimestamp.get());
+			}, CommandPriority.POLL);
+		}
+		lastCommand.get(1, TimeUnit.SECONDS);
+		Assertions.assertEquals(3, timestamps.size());
+		for (int i = 1; i < timestamps.size(); i++) {
+			//Allow for the millisecond rounding of the timer
+			Assertions.assertTrue(timestamps.get(i) - timestamps.get(i - 1) >= 95);
+		}
+	}
+
+	/**
+	 * Test a command waiting for its turn while every worker is busy times out after its deadline and is never sent
+	 */
+	@Tag("Mock")
+	@Test
+	void testQueuedCommandTimesOutWhenWorkersAreSaturated() throws Exception {
+		LgLCDFleetScheduler fleetScheduler = new LgLCDFleetScheduler(1);
+		LgLCDCommandQueue firstDisplay = new LgLCDCommandQueue(fleetScheduler, () -> 0);
+		LgLCDCommandQueue secondDisplay = new LgLCDCommandQueue(fleetScheduler, () -> 0);
+		CountDownLatch inFlight = new CountDownLatch(1);
+		AtomicBoolean isSent = new AtomicBoolean();
+		try {
+			firstDisplay.submit(() -> {
+				inFlight.await();
+				return true;
+			}, CommandPriority.POLL);
+			Future<Boolean> queuedCommand = secondDisplay.submit(() -> {
+				isSent.set(true);
+				return true;
+			}, CommandPriority.POLL);
+			long startTime = System.currentTimeMillis();
+			Assertions.assertThrows(TimeoutException.class, () -> queuedCommand.get(200, TimeUnit.MILLISECONDS));
+			Assertions.assertTrue(System.currentTimeMillis() - startTime < 1000);
+			Assertions.assertTrue(queuedCommand.isCancelled());
+		} finally {
+			inFlight.countDown();
+		}
+		//The worker is free again, the cancelled command must still not be sent
+		secondDisplay.submit(() -> true, CommandPriority.POLL).get(1, TimeUnit.SECONDS);
+		Assertions.assertFalse(isSent.get());
+	}
+}
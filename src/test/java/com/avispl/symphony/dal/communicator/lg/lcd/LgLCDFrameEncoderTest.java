@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
+
+/**
+ * Unit test for LgLCDFrameEncoder
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDFrameEncoderTest {
+
+	/**
+	 * Test the set ID is always written as two hex digits
+	 */
+	@Tag("Mock")
+	@Test
+	void testEncodeSetID() {
+		byte[] command = LgLCDConstants.commands.get(commandNames.POWER);
+		byte[] param = LgLCDConstants.commands.get(commandNames.GET);
+		Assertions.assertEquals("kd 01 FF\r", new String(LgLCDUtils.buildSendString((byte) 1, command, param), StandardCharsets.US_ASCII));
+		Assertions.assertEquals("kd 10 FF\r", new String(LgLCDUtils.buildSendString((byte) 16, command, param), StandardCharsets.US_ASCII));
+		Assertions.assertEquals("kd c8 FF\r", new String(LgLCDUtils.buildSendString((byte) 200, command, param), StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Test request frames are built once per encoder
+	 */
+	@Tag("Mock")
+	@Test
+	void testRequestFrameIsReused() {
+		LgLCDFrameEncoder encoder = new LgLCDFrameEncoder(1);
+		byte[] frame = encoder.getRequestFrame(commandNames.SYNC_STATUS, commandNames.SYNC_STATUS_PARAM);
+		Assertions.assertEquals("sv 01 02 FF\r", new String(frame, StandardCharsets.US_ASCII));
+		Assertions.assertSame(frame, encoder.getRequestFrame(commandNames.SYNC_STATUS, commandNames.SYNC_STATUS_PARAM));
+	}
+}
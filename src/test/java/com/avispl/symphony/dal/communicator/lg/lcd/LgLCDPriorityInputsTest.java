@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for LgLCDPriorityInputs
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDPriorityInputsTest {
+
+	/**
+	 * Test a reply carrying the same list keeps the revision and the dropdown options of the list
+	 */
+	@Tag("Mock")
+	@Test
+	void testSameReplyKeepsTheList() {
+		LgLCDPriorityInputs priorityInputs = new LgLCDPriorityInputs();
+		byte[] reply = "j 01 OK9091c0x".getBytes(StandardCharsets.US_ASCII);
+		priorityInputs.setInputs(reply, 7, reply.length - 1);
+		Assertions.assertArrayEquals(new String[] { "HDMI1", "HDMI2", "DISPLAYPORT" }, priorityInputs.getPriorityOptions());
+		Assertions.assertArrayEquals(new String[] { "DISPLAYPORT", "HDMI1", "HDMI2", LgLCDConstants.PLAY_VIA_URL }, priorityInputs.getInputOptions());
+		int revision = priorityInputs.getRevision();
+		String[] options = priorityInputs.getPriorityOptions();
+
+		priorityInputs.setInputs(reply, 7, reply.length - 1);
+		Assertions.assertEquals(revision, priorityInputs.getRevision());
+		Assertions.assertSame(options, priorityInputs.getPriorityOptions());
+
+		byte[] shorterReply = "j 01 OK9091x".getBytes(StandardCharsets.US_ASCII);
+		priorityInputs.setInputs(shorterReply, 7, shorterReply.length - 1);
+		Assertions.assertNotEquals(revision, priorityInputs.getRevision());
+		Assertions.assertEquals(2, priorityInputs.size());
+		Assertions.assertNull(priorityInputs.get(2));
+	}
+
+	/**
+	 * Test moving an input changes its priority and the codes sent to the display
+	 */
+	@Tag("Mock")
+	@Test
+	void testSwapInputs() {
+		LgLCDPriorityInputs priorityInputs = new LgLCDPriorityInputs();
+		byte[] inputList = "90 ff91".getBytes(StandardCharsets.US_ASCII);
+		priorityInputs.setInputs(inputList, 0, inputList.length);
+		Assertions.assertEquals(LgLCDConstants.NA, priorityInputs.get(1));
+		Assertions.assertEquals("90 91", priorityInputs.getCodes());
+		Assertions.assertEquals(2, priorityInputs.indexOf("HDMI2"));
+
+		priorityInputs.swap(2, 1);
+		priorityInputs.swap(1, 0);
+		priorityInputs.swap(0, -1);
+		Assertions.assertEquals(0, priorityInputs.indexOf("HDMI2"));
+		Assertions.assertEquals("91 90", priorityInputs.getCodes());
+
+		priorityInputs.clear();
+		Assertions.assertTrue(priorityInputs.isEmpty());
+		Assertions.assertEquals(0, priorityInputs.getPriorityOptions().length);
+	}
+}
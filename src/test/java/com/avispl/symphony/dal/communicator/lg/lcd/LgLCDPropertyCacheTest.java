@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for LgLCDPropertyCache
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDPropertyCacheTest {
+
+	/**
+	 * Test an entry is fresh within its time to live and is dropped on the first access after it
+	 */
+	@Tag("Mock")
+	@Test
+	void testEntryExpiresOnAccess() {
+		LgLCDPropertyCache propertyCache = new LgLCDPropertyCache();
+		Assertions.assertFalse(propertyCache.isFresh(LgControllingCommand.BACKLIGHT, 0));
+		propertyCache.put(LgControllingCommand.BACKLIGHT, 1000, 500);
+		Assertions.assertTrue(propertyCache.isFresh(LgControllingCommand.BACKLIGHT, 1499));
+		Assertions.assertEquals(300, propertyCache.getAge(LgControllingCommand.BACKLIGHT, 1300));
+		Assertions.assertFalse(propertyCache.isFresh(LgControllingCommand.BACKLIGHT, 1300, 200));
+		Assertions.assertFalse(propertyCache.isFresh(LgControllingCommand.BACKLIGHT, 1500));
+		Assertions.assertEquals(-1, propertyCache.getAge(LgControllingCommand.BACKLIGHT, 1000));
+		Assertions.assertFalse(propertyCache.isFresh(LgControllingCommand.VOLUME, 1000));
+	}
+
+	/**
+	 * Test an entry without expiry stays fresh
+	 */
+	@Tag("Mock")
+	@Test
+	void testEntryWithoutExpiry() {
+		LgLCDPropertyCache propertyCache = new LgLCDPropertyCache();
+		propertyCache.put(LgControllingCommand.SERIAL_NUMBER, 1000, Long.MAX_VALUE);
+		Assertions.assertTrue(propertyCache.isFresh(LgControllingCommand.SERIAL_NUMBER, Long.MAX_VALUE - 1));
+		propertyCache.remove(LgControllingCommand.SERIAL_NUMBER);
+		Assertions.assertFalse(propertyCache.isFresh(LgControllingCommand.SERIAL_NUMBER, 1000));
+	}
+}
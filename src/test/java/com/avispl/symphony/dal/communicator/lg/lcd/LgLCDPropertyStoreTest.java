@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for LgLCDPropertyStore
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDPropertyStoreTest {
+
+	/**
+	 * Test numbers and texts are read back as text, and the number text is shared between reads
+	 */
+	@Tag("Mock")
+	@Test
+	void testNumberAndTextValues() {
+		LgLCDPropertyStore propertyStore = new LgLCDPropertyStore();
+		Assertions.assertTrue(propertyStore.isEmpty());
+		propertyStore.putNumber(LgLCDConstants.VOLUME, 42);
+		propertyStore.put(LgLCDConstants.INPUT_SELECT, "HDMI1");
+		propertyStore.putNumber(LgLCDConstants.TILE_MODE_COLUMN, 1000);
+		Assertions.assertEquals("42", propertyStore.get(LgLCDConstants.VOLUME));
+		Assertions.assertSame(propertyStore.get(LgLCDConstants.VOLUME), propertyStore.get(LgControllingCommand.VOLUME));
+		Assertions.assertEquals("HDMI1", propertyStore.get(LgLCDConstants.INPUT_SELECT));
+		Assertions.assertEquals("1000", propertyStore.get(LgLCDConstants.TILE_MODE_COLUMN));
+		propertyStore.put(LgLCDConstants.VOLUME, LgLCDConstants.NA);
+		Assertions.assertEquals(LgLCDConstants.NA, propertyStore.get(LgLCDConstants.VOLUME));
+	}
+
+	/**
+	 * Test values are dropped by name, by command and all at once, and unknown names are ignored
+	 */
+	@Tag("Mock")
+	@Test
+	void testRemoveAndClear() {
+		LgLCDPropertyStore propertyStore = new LgLCDPropertyStore();
+		propertyStore.put("Unknown", "value");
+		Assertions.assertNull(propertyStore.get("Unknown"));
+		Assertions.assertTrue(propertyStore.isEmpty());
+		propertyStore.put(LgLCDConstants.IP_ADDRESS, "10.0.0.1");
+		propertyStore.putNumber(LgLCDConstants.BACKLIGHT, 80);
+		propertyStore.remove(LgControllingCommand.BACKLIGHT);
+		Assertions.assertNull(propertyStore.get(LgLCDConstants.BACKLIGHT));
+		Assertions.assertFalse(propertyStore.isEmpty());
+		propertyStore.remove(LgLCDConstants.IP_ADDRESS);
+		Assertions.assertTrue(propertyStore.isEmpty());
+		propertyStore.put(LgLCDConstants.SERIAL_NUMBER, "123");
+		propertyStore.clear();
+		Assertions.assertNull(propertyStore.get(LgLCDConstants.SERIAL_NUMBER));
+		Assertions.assertTrue(propertyStore.isEmpty());
+	}
+
+	/**
+	 * Test only the properties whose value changed are reported as changed
+	 */
+	@Tag("Mock")
+	@Test
+	void testChangedProperties() {
+		LgLCDPropertyStore propertyStore = new LgLCDPropertyStore();
+		propertyStore.putNumber(LgLCDConstants.VOLUME, 42);
+		propertyStore.put(LgLCDConstants.INPUT_SELECT, "HDMI1");
+		Assertions.assertEquals(2, propertyStore.getChangedProperties().size());
+		propertyStore.clearChanges();
+		propertyStore.putNumber(LgLCDConstants.VOLUME, 42);
+		propertyStore.put(LgLCDConstants.INPUT_SELECT, "HDMI1");
+		Assertions.assertFalse(propertyStore.hasChanges());
+		propertyStore.putNumber(LgLCDConstants.VOLUME, 43);
+		propertyStore.remove(LgLCDConstants.INPUT_SELECT);
+		propertyStore.remove(LgLCDConstants.IP_ADDRESS);
+		Assertions.assertTrue(propertyStore.getChangedProperties().contains(LgLCDConstants.VOLUME));
+		Assertions.assertTrue(propertyStore.getChangedProperties().contains(LgLCDConstants.INPUT_SELECT));
+		Assertions.assertEquals(2, propertyStore.getChangedProperties().size());
+	}
+}
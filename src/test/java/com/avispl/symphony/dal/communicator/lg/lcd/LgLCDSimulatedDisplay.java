@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LgLCDSimulatedDisplay holds the state of one virtual display and builds its replies
+ * "[Command2][ ][Set ID][ ][OK/NG][Data][x]" to the command frames "[Command1][Command2][ ][Set ID][ ][Data][Cr]".
+ * A command whose data is "FF" reads the current value, any other data is stored and echoed back.
+ * The "sn" and "sv" commands carry a sub command as first data field, their values are kept per sub command.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDSimulatedDisplay {
+
+	private static final String GET = "ff";
+
+	private final int setID;
+	private final Map<String, String> values = new ConcurrentHashMap<>();
+
+	/**
+	 * LgLCDSimulatedDisplay instantiation with the values of a display powered on with default settings
+	 *
+	 * @param setID the setID is set ID of the display
+	 */
+	public LgLCDSimulatedDisplay(int setID) {
+		this.setID = setID;
+		values.put("kd", "00");
+		values.put("xb", "90");
+		values.put("dn", "2d");
+		values.put("dw", "01");
+		values.put("sv02", "01");
+		values.put("fy", "SN" + String.format("%010d", setID));
+		values.put("fz", "031520");
+		values.put("mi", "00");
+		values.put("mj", "90a0c0d0");
+		values.put("fa", "100a11");
+		values.put("fx", "0e1e00");
+		values.put("dz", "000101");
+		values.put("fj", "00");
+		values.put("mg", "32");
+		values.put("ke", "00");
+		values.put("kf", "14");
+		values.put("sn0c", "00");
+		values.put("sn82", " 192168001" + String.format("%03d", setID % 256) + " 255255255000 192168001001 008008008008");
+		values.put("sna5", "1e");
+		values.put("di", "01");
+		values.put("dj", "00");
+		values.put("dd", "00");
+		values.put("kc", "02");
+		values.put("jq", "00");
+		values.put("kg", "46");
+		values.put("dx", "01");
+		values.put("kh", "32");
+		values.put("kk", "10");
+		values.put("ki", "32");
+		values.put("kj", "32");
+		values.put("xu", "20");
+		values.put("kt", "32");
+		values.put("dy", "01");
+		values.put("fg", "00");
+		values.put("mn", "00");
+		values.put("fi", "03");
+		values.put("tr", "00");
+		values.put("ka", "02");
+	}
+
+	/**
+	 * Retrieves {@link #setID}
+	 *
+	 * @return value of {@link #setID}
+	 */
+	public int getSetID() {
+		return setID;
+	}
+
+	/**
+	 * Get the current value of a command
+	 *
+	 * @param key the key is two letters command, followed by the sub command for "sn" and "sv"
+	 * @return String value or null if the command is unknown
+	 */
+	public String getValue(String key) {
+		return values.get(key);
+	}
+
+	/**
+	 * Set the current value of a command
+	 *
+	 * @param key the key is two letters command, followed by the sub command for "sn" and "sv"
+	 * @param value the value is data returned by the next read of the command
+	 */
+	public void setValue(String key, String value) {
+		values.put(key, value);
+	}
+
+	/**
+	 * Build the reply of a command
+	 *
+	 * @param command the command is two letters command
+	 * @param data the data is data of the frame
+	 * @param isNG the isNG is true to reply NG whatever the command
+	 * @return byte[] reply of the display
+	 */
+	byte[] reply(String command, String data, boolean isNG) {
+		String subCommand = "";
+		String argument = data;
+		if (isSubCommand(command) && data.length() >= 2) {
+			subCommand = data.substring(0, 2);
+			argument = data.substring(2).trim();
+		}
+		String key = command + subCommand;
+		String value = values.get(key);
+		String status = "OK";
+		if (isNG || value == null) {
+			status = "NG";
+			value = argument;
+		} else if (!GET.equalsIgnoreCase(argument)) {
+			value = argument;
+			values.put(key, value);
+		}
+		String reply = String.format("%c %02x %s%s%sx", command.charAt(1), setID, status, subCommand, value);
+		return reply.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Check whether the command carries a sub command as first data field
+	 */
+	private static boolean isSubCommand(String command) {
+		return "sn".equals(command) || "sv".equals(command);
+	}
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LgLCDSimulator serves virtual LG displays over TCP, speaking the same RS-232C frames as the real devices.
+ * Each endpoint listens on its own port and hosts one or more set IDs, like a daisy chain behind a single serial gateway.
+ * A single selector thread serves every endpoint, so hundreds of virtual displays can run in one JVM.
+ * Each connection answers its commands one at a time, after the configured latency and jitter,
+ * and can drop commands or reply NG at the configured rates.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDSimulator implements AutoCloseable {
+
+	private static final int READ_BUFFER_SIZE = 1024;
+	private static final int MIN_FRAME_LENGTH = 6;
+
+	private final Map<Integer, NavigableMap<Integer, LgLCDSimulatedDisplay>> displaysByPort = new ConcurrentHashMap<>();
+	private final Map<String, Integer> commandLatencies = new ConcurrentHashMap<>();
+	private final Queue<ServerSocketChannel> pendingServerChannels = new ConcurrentLinkedQueue<>();
+	private final Set<ServerSocketChannel> serverChannels = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final Set<ClientConnection> clientConnections = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final AtomicLong receivedFrameCount = new AtomicLong();
+	private final AtomicLong droppedFrameCount = new AtomicLong();
+	private final AtomicLong ngReplyCount = new AtomicLong();
+	private final AtomicLong acceptedConnectionCount = new AtomicLong();
+	private final Random random;
+	private final Selector selector;
+	private final ScheduledExecutorService replyScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "lg-simulator-reply");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile int latency;
+	private volatile int jitter;
+	private volatile double dropRate;
+	private volatile double ngRate;
+	private volatile boolean isBroadcastAcknowledged = true;
+	private volatile boolean isRunning;
+	private Thread selectorThread;
+
+	/**
+	 * LgLCDSimulator instantiation
+	 */
+	public LgLCDSimulator() throws IOException {
+		this(System.nanoTime());
+	}
+
+	/**
+	 * LgLCDSimulator instantiation with a fixed seed, so that jitter, drops and NG replies are reproducible
+	 *
+	 * @param seed the seed is seed of the random generator
+	 */
+	public LgLCDSimulator(long seed) throws IOException {
+		this.random = new Random(seed);
+		this.selector = Selector.open();
+	}
+
+	/**
+	 * Listen on a port on the loopback interface and host the given set IDs on it
+	 *
+	 * @param port the port is port to listen on, 0 picks a free port
+	 * @param setIDs the setIDs are set IDs of the displays behind the port, set ID 1 when empty
+	 * @return int port the endpoint listens on
+	 */
+	public int addEndpoint(int port, int... setIDs) throws IOException {
+		ServerSocketChannel serverChannel = ServerSocketChannel.open();
+		serverChannel.bind(new InetSocketAddress("127.0.0.1", port));
+		serverChannel.configureBlocking(false);
+		int localPort = serverChannel.socket().getLocalPort();
+		NavigableMap<Integer, LgLCDSimulatedDisplay> displays = new ConcurrentSkipListMap<>();
+		if (setIDs.length == 0) {
+			displays.put(1, new LgLCDSimulatedDisplay(1));
+		}
+		for (int setID : setIDs) {
+			displays.put(setID, new LgLCDSimulatedDisplay(setID));
+		}
+		displaysByPort.put(localPort, displays);
+		serverChannels.add(serverChannel);
+		pendingServerChannels.add(serverChannel);
+		selector.wakeup();
+		return localPort;
+	}
+
+	/**
+	 * Start serving the endpoints
+	 */
+	public synchronized void start() {
+		if (isRunning) {
+			return;
+		}
+		isRunning = true;
+		selectorThread = new Thread(this::serve, "lg-simulator-selector");
+		selectorThread.setDaemon(true);
+		selectorThread.start();
+	}
+
+	/**
+	 * Get a virtual display to read or change its state
+	 *
+	 * @param port the port is port of the endpoint
+	 * @param setID the setID is set ID of the display
+	 * @return LgLCDSimulatedDisplay or null if there is no such display
+	 */
+	public LgLCDSimulatedDisplay getDisplay(int port, int setID) {
+		Map<Integer, LgLCDSimulatedDisplay> displays = displaysByPort.get(port);
+		return displays == null ? null : displays.get(setID);
+	}
+
+	/**
+	 * Sets {@link #latency} value
+	 *
+	 * @param latency new value of {@link #latency} in ms, applied to commands without their own latency
+	 */
+	public void setLatency(int latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * Set the latency of one command
+	 *
+	 * @param command the command is two letters command such as "kf"
+	 * @param latency the latency is time in ms before the reply
+	 */
+	public void setLatency(String command, int latency) {
+		commandLatencies.put(command, latency);
+	}
+
+	/**
+	 * Sets {@link #jitter} value
+	 *
+	 * @param jitter new value of {@link #jitter}, the upper bound in ms of a random delay added to every reply
+	 */
+	public void setJitter(int jitter) {
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Sets {@link #dropRate} value
+	 *
+	 * @param dropRate new value of {@link #dropRate}, the share of commands left without reply
+	 */
+	public void setDropRate(double dropRate) {
+		this.dropRate = dropRate;
+	}
+
+	/**
+	 * Sets {@link #ngRate} value
+	 *
+	 * @param ngRate new value of {@link #ngRate}, the share of commands answered NG
+	 */
+	public void setNgRate(double ngRate) {
+		this.ngRate = ngRate;
+	}
+
+	/**
+	 * Sets {@link #isBroadcastAcknowledged} value
+	 *
+	 * @param isBroadcastAcknowledged new value of {@link #isBroadcastAcknowledged}, false for a wall which applies a broadcast frame without replying
+	 */
+	public void setBroadcastAcknowledged(boolean isBroadcastAcknowledged) {
+		this.isBroadcastAcknowledged = isBroadcastAcknowledged;
+	}
+
+	/**
+	 * Get the number of command frames received on every endpoint
+	 *
+	 * @return long number of frames
+	 */
+	public long getReceivedFrameCount() {
+		return receivedFrameCount.get();
+	}
+
+	/**
+	 * Get the number of command frames left without reply on purpose
+	 *
+	 * @return long number of frames
+	 */
+	public long getDroppedFrameCount() {
+		return droppedFrameCount.get();
+	}
+
+	/**
+	 * Get the number of NG replies injected
+	 *
+	 * @return long number of replies
+	 */
+	public long getNgReplyCount() {
+		return ngReplyCount.get();
+	}
+
+	/**
+	 * Get the number of TCP connections accepted on every endpoint
+	 *
+	 * @return long number of connections
+	 */
+	public long getAcceptedConnectionCount() {
+		return acceptedConnectionCount.get();
+	}
+
+	/**
+	 * Close every client connection, the endpoints keep listening
+	 */
+	public void disconnectAll() {
+		for (ClientConnection connection : clientConnections) {
+			connection.close();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		isRunning = false;
+		selector.wakeup();
+		if (selectorThread != null) {
+			try {
+				selectorThread.join(1000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		replyScheduler.shutdownNow();
+		disconnectAll();
+		for (ServerSocketChannel serverChannel : serverChannels) {
+			serverChannel.close();
+		}
+		selector.close();
+	}
+
+	/**
+	 * Selector loop accepting connections and reading command frames
+	 */
+	private void serve() {
+		ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		while (isRunning) {
+			try {
+				ServerSocketChannel pending;
+				while ((pending = pendingServerChannels.poll()) != null) {
+					pending.register(selector, SelectionKey.OP_ACCEPT);
+				}
+				selector.select();
+				for (SelectionKey key : selector.selectedKeys()) {
+					if (!key.isValid()) {
+						continue;
+					}
+					if (key.isAcceptable()) {
+						accept((ServerSocketChannel) key.channel());
+					} else if (key.isReadable()) {
+						read((ClientConnection) key.attachment(), readBuffer);
+					}
+				}
+				selector.selectedKeys().clear();
+			} catch (IOException e) {
+				if (isRunning) {
+					e.printStackTrace();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Accept a client connection
+	 */
+	private void accept(ServerSocketChannel serverChannel) throws IOException {
+		SocketChannel channel = serverChannel.accept();
+		if (channel == null) {
+			return;
+		}
+		channel.configureBlocking(false);
+		ClientConnection connection = new ClientConnection(channel, serverChannel.socket().getLocalPort());
+		channel.register(selector, SelectionKey.OP_READ, connection);
+		clientConnections.add(connection);
+		acceptedConnectionCount.incrementAndGet();
+	}
+
+	/**
+	 * Read the available bytes of a client and handle every complete frame
+	 */
+	private void read(ClientConnection connection, ByteBuffer readBuffer) {
+		readBuffer.clear();
+		int count;
+		try {
+			count = connection.channel.read(readBuffer);
+		} catch (IOException e) {
+			count = -1;
+		}
+		if (count < 0) {
+			connection.close();
+			return;
+		}
+		for (int i = 0; i < count; i++) {
+			byte value = readBuffer.get(i);
+			if (value == '\r') {
+				String frame = new String(connection.pendingFrame.toByteArray(), StandardCharsets.US_ASCII);
+				connection.pendingFrame.reset();
+				handleFrame(connection, frame);
+			} else {
+				connection.pendingFrame.write(value);
+			}
+		}
+	}
+
+	/**
+	 * Apply a frame "[Command1][Command2][ ][Set ID][ ][Data]" to the addressed displays and schedule the reply.
+	 * Set ID 0 addresses every display of the endpoint and only the lowest set ID replies, unless broadcast frames are not acknowledged.
+	 */
+	private void handleFrame(ClientConnection connection, String frame) {
+		if (frame.length() < MIN_FRAME_LENGTH) {
+			return;
+		}
+		receivedFrameCount.incrementAndGet();
+		String command = frame.substring(0, 2);
+		String data = frame.length() > MIN_FRAME_LENGTH ? frame.substring(MIN_FRAME_LENGTH) : "";
+		int setID;
+		try {
+			setID = Integer.parseInt(frame.substring(3, 5), 16);
+		} catch (NumberFormatException e) {
+			return;
+		}
+		NavigableMap<Integer, LgLCDSimulatedDisplay> displays = displaysByPort.get(connection.port);
+		if (random.nextDouble() < dropRate) {
+			droppedFrameCount.incrementAndGet();
+			return;
+		}
+		boolean isNG = random.nextDouble() < ngRate;
+		if (isNG) {
+			ngReplyCount.incrementAndGet();
+		}
+		byte[] reply = null;
+		if (setID == 0) {
+			for (LgLCDSimulatedDisplay display : displays.values()) {
+				byte[] displayReply = display.reply(command, data, isNG);
+				if (reply == null) {
+					reply = displayReply;
+				}
+			}
+		} else {
+			LgLCDSimulatedDisplay display = displays.get(setID);
+			if (display != null) {
+				reply = display.reply(command, data, isNG);
+			}
+		}
+		if (reply == null || setID == 0 && !isBroadcastAcknowledged) {
+			return;
+		}
+		int delay = commandLatencies.getOrDefault(command, latency);
+		if (jitter > 0) {
+			delay += random.nextInt(jitter + 1);
+		}
+		// A display answers its commands one at a time
+		long now = System.currentTimeMillis();
+		long replyTime = Math.max(now, connection.busyUntil) + delay;
+		connection.busyUntil = replyTime;
+		byte[] finalReply = reply;
+		replyScheduler.schedule(() -> connection.write(finalReply), replyTime - now, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Run a fleet of virtual displays until the process is stopped
+	 *
+	 * @param args base port, number of displays and optional latency in ms
+	 */
+	public static void main(String[] args) throws Exception {
+		int basePort = args.length > 0 ? Integer.parseInt(args[0]) : 9761;
+		int count = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+		LgLCDSimulator simulator = new LgLCDSimulator();
+		if (args.length > 2) {
+			simulator.setLatency(Integer.parseInt(args[2]));
+		}
+		for (int i = 0; i < count; i++) {
+			simulator.addEndpoint(basePort + i, 1);
+		}
+		simulator.start();
+		System.out.println("Simulating " + count + " LG displays on ports " + basePort + " to " + (basePort + count - 1));
+		Thread.currentThread().join();
+	}
+
+	/**
+	 * State of one client connection
+	 */
+	private class ClientConnection {
+		private final SocketChannel channel;
+		private final int port;
+		private final ByteArrayOutputStream pendingFrame = new ByteArrayOutputStream();
+		private long busyUntil;
+
+		ClientConnection(SocketChannel channel, int port) {
+			this.channel = channel;
+			this.port = port;
+		}
+
+		synchronized void write(byte[] reply) {
+			ByteBuffer buffer = ByteBuffer.wrap(reply);
+			try {
+				while (buffer.hasRemaining() && channel.isOpen()) {
+					if (channel.write(buffer) == 0) {
+						Thread.yield();
+					}
+				}
+			} catch (IOException e) {
+				close();
+			}
+		}
+
+		void close() {
+			clientConnections.remove(this);
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// already closed
+			}
+		}
+	}
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.communicator.lg.lcd.LgLCDConstants.commandNames;
+
+/**
+ * Unit test for LgLCDDevice against LgLCDSimulator
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDSimulatorTest {
+
+	private LgLCDSimulator simulator;
+	private LgLCDDevice lgLCDDevice;
+	private int port;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		simulator = new LgLCDSimulator(1);
+		port = simulator.addEndpoint(0, 1);
+		simulator.setLatency(5);
+		simulator.start();
+		lgLCDDevice = new LgLCDDevice();
+		lgLCDDevice.setHost("127.0.0.1");
+		lgLCDDevice.setPort(port);
+		lgLCDDevice.setCoolDownDelay("100");
+		lgLCDDevice.setPersistentConnection("true");
+		lgLCDDevice.init();
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		lgLCDDevice.destroy();
+		simulator.close();
+	}
+
+	/**
+	 * Test a full polling interval against the simulator over one persistent connection
+	 * Expected the statistics carry the values of the virtual display
+	 */
+	@Tag("Mock")
+	@Test
+	void testGetMultipleStatistics() throws Exception {
+		lgLCDDevice.getMultipleStatistics();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistics.getStatistics();
+		Assertions.assertEquals("SN0000000001", statistics.get(LgLCDConstants.SERIAL_NUMBER));
+		Assertions.assertEquals("03.15.20", statistics.get(LgLCDConstants.SOFTWARE_VERSION));
+		Assertions.assertEquals("192.168.1.1", statistics.get(LgLCDConstants.IP_ADDRESS));
+		Assertions.assertEquals(1, simulator.getAcceptedConnectionCount());
+	}
+
+	/**
+	 * Test the adapters of a daisy chain share one connection
+	 * Expected each adapter reports the values of its own set ID and the simulator accepts a single connection
+	 */
+	@Tag("Mock")
+	@Test
+	void testDaisyChainSharesOneConnection() throws Exception {
+		int chainPort = simulator.addEndpoint(0, 1, 2, 3);
+		List<LgLCDDevice> panels = new ArrayList<>();
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+		try {
+			for (int setID = 1; setID <= 3; setID++) {
+				LgLCDDevice panel = new LgLCDDevice();
+				panel.setHost("127.0.0.1");
+				panel.setPort(chainPort);
+				panel.setMonitorID(setID);
+				panel.setCoolDownDelay("100");
+				panel.setPersistentConnection("true");
+				panel.init();
+				panels.add(panel);
+			}
+			List<Future<ExtendedStatistics>> statistics = new ArrayList<>();
+			for (LgLCDDevice panel : panels) {
+				statistics.add(executorService.submit(() -> {
+					panel.getMultipleStatistics();
+					return (ExtendedStatistics) panel.getMultipleStatistics().get(0);
+				}));
+			}
+			for (int setID = 1; setID <= 3; setID++) {
+				Map<String, String> panelStatistics = statistics.get(setID - 1).get().getStatistics();
+				Assertions.assertEquals(String.format("SN%010d", setID), panelStatistics.get(LgLCDConstants.SERIAL_NUMBER));
+				Assertions.assertEquals("192.168.1." + setID, panelStatistics.get(LgLCDConstants.IP_ADDRESS));
+			}
+			Assertions.assertEquals(1, simulator.getAcceptedConnectionCount());
+		} finally {
+			executorService.shutdownNow();
+			for (LgLCDDevice panel : panels) {
+				panel.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Test a set ID of the daisy chain which does not reply does not close the connection shared with the other set IDs
+	 * Expected the next set ID is read on the same connection
+	 */
+	@Tag("Mock")
+	@Test
+	void testMissingSetIDKeepsConnection() throws Exception {
+		int chainPort = simulator.addEndpoint(0, 1, 2);
+		LgLCDConnection connection = new LgLCDConnection("127.0.0.1", chainPort, LgLCDConstants.DEFAULT_CONNECTION_IDLE_TIMEOUT, LgLCDConstants.DEFAULT_CONNECT_TIMEOUT);
+		try {
+			byte[] missingPanel = LgLCDFrameEncoder.encode(3, LgLCDConstants.commands.get(commandNames.VOLUME), LgLCDConstants.commands.get(commandNames.GET));
+			byte[] panel = LgLCDFrameEncoder.encode(2, LgLCDConstants.commands.get(commandNames.VOLUME), LgLCDConstants.commands.get(commandNames.GET));
+			Assertions.assertThrows(SocketTimeoutException.class, () -> connection.send(missingPanel, 200));
+			Assertions.assertTrue(connection.isConnected());
+			Assertions.assertNotNull(connection.send(panel, 2000));
+			Assertions.assertEquals(0, connection.getReconnectCount());
+			Assertions.assertEquals(1, simulator.getAcceptedConnectionCount());
+		} finally {
+			connection.close();
+		}
+	}
+
+	/**
+	 * Test destroy releases the endpoint shared by the set IDs of the daisy chain
+	 * Expected the endpoint is no longer referenced and a released endpoint does not open a connection again
+	 */
+	@Tag("Mock")
+	@Test
+	void testDestroyReleasesEndpoint() throws Exception {
+		lgLCDDevice.getMultipleStatistics();
+		lgLCDDevice.destroy();
+		Assertions.assertEquals(0, lgLCDDevice.getReconnectCount());
+		LgLCDEndpoint endpoint = LgLCDEndpoint.acquire("127.0.0.1", port);
+		Assertions.assertFalse(endpoint.isShared());
+		endpoint.release();
+		Assertions.assertThrows(IllegalStateException.class, () -> endpoint.getConnection(LgLCDConstants.DEFAULT_CONNECTION_IDLE_TIMEOUT));
+	}
+
+	/**
+	 * Test a wall control is sent once to the broadcast set ID and read back from every tile
+	 * Expected every tile of the chain applies the value and reports OK
+	 */
+	@Tag("Mock")
+	@Test
+	void testWallControlBroadcast() throws Exception {
+		int wallPort = simulator.addEndpoint(0, 1, 2, 3, 4);
+		LgLCDDevice wall = new LgLCDDevice();
+		wall.setHost("127.0.0.1");
+		wall.setPort(wallPort);
+		wall.setCoolDownDelay("100");
+		wall.setPersistentConnection("true");
+		wall.setConfigManagement("true");
+		wall.setWallSetIDs("1-4");
+		wall.init();
+		try {
+			wall.getMultipleStatistics();
+			wall.getMultipleStatistics();
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty("Wall#" + LgLCDConstants.BACKLIGHT);
+			controllableProperty.setValue("60");
+			wall.controlProperty(controllableProperty);
+			Map<String, String> statistics = ((ExtendedStatistics) wall.getMultipleStatistics().get(0)).getStatistics();
+			for (int setID = 1; setID <= 4; setID++) {
+				Assertions.assertEquals("3c", simulator.getDisplay(wallPort, setID).getValue("mg"));
+				Assertions.assertEquals(LgLCDConstants.WALL_TILE_OK, statistics.get("Wall#" + LgLCDConstants.WALL_TILE + String.format("%02d", setID)));
+			}
+		} finally {
+			wall.destroy();
+		}
+	}
+
+	/**
+	 * Test a wall control does not wait for the acknowledgement of a wall which does not acknowledge broadcast frames
+	 * Expected the control completes well within the config timeout and every tile reports OK
+	 */
+	@Tag("Mock")
+	@Test
+	void testWallControlWithoutBroadcastReply() throws Exception {
+		simulator.setBroadcastAcknowledged(false);
+		int wallPort = simulator.addEndpoint(0, 1, 2, 3, 4);
+		LgLCDDevice wall = new LgLCDDevice();
+		wall.setHost("127.0.0.1");
+		wall.setPort(wallPort);
+		wall.setCoolDownDelay("100");
+		wall.setPersistentConnection("true");
+		wall.setConfigManagement("true");
+		wall.setWallSetIDs("1-4");
+		wall.init();
+		try {
+			wall.getMultipleStatistics();
+			wall.getMultipleStatistics();
+			long timeouts = wall.getCommandMetrics().values().stream().mapToLong(LgLCDCommandMetrics.CommandSummary::getTimeouts).sum();
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty("Wall#" + LgLCDConstants.BACKLIGHT);
+			controllableProperty.setValue("60");
+			long startTime = System.currentTimeMillis();
+			wall.controlProperty(controllableProperty);
+			Assertions.assertTrue(System.currentTimeMillis() - startTime < LgLCDConstants.DEFAULT_CONFIG_TIMEOUT);
+			Assertions.assertEquals(timeouts, wall.getCommandMetrics().values().stream().mapToLong(LgLCDCommandMetrics.CommandSummary::getTimeouts).sum());
+			Map<String, String> statistics = ((ExtendedStatistics) wall.getMultipleStatistics().get(0)).getStatistics();
+			for (int setID = 1; setID <= 4; setID++) {
+				Assertions.assertEquals(LgLCDConstants.WALL_TILE_OK, statistics.get("Wall#" + LgLCDConstants.WALL_TILE + String.format("%02d", setID)));
+			}
+		} finally {
+			wall.destroy();
+		}
+	}
+
+	/**
+	 * Test an optimistic control returns once acknowledged and is read back afterwards
+	 * Expected the value changed on the display after the acknowledgement is reported as a control drift
+	 */
+	@Tag("Mock")
+	@Test
+	void testOptimisticControlReadBack() throws Exception {
+		lgLCDDevice.setOptimisticControl("true");
+		lgLCDDevice.getMultipleStatistics();
+		lgLCDDevice.getMultipleStatistics();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Display#" + LgLCDConstants.VOLUME);
+		controllableProperty.setValue("30");
+		lgLCDDevice.controlProperty(controllableProperty);
+		Assertions.assertEquals("1e", simulator.getDisplay(port, 1).getValue("kf"));
+		//The display changes the value before the queued read back runs
+		simulator.getDisplay(port, 1).setValue("kf", "14");
+		Thread.sleep(500);
+		Assertions.assertEquals(1, lgLCDDevice.getControlDriftCount());
+	}
+
+	/**
+	 * Test a read back completing while a polling cycle builds the statistics
+	 * Expected the value read back is published by a following polling cycle
+	 */
+	@Tag("Mock")
+	@Test
+	void testOptimisticControlReadBackDuringPolling() throws Exception {
+		lgLCDDevice.setOptimisticControl("true");
+		lgLCDDevice.setConfigManagement("true");
+		for (int i = 0; i < 3; i++) {
+			lgLCDDevice.getMultipleStatistics();
+		}
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Sound#" + LgLCDConstants.VOLUME);
+		controllableProperty.setValue("30");
+		lgLCDDevice.controlProperty(controllableProperty);
+		//The read back is queued with the polling commands and its reply comes late in the polling cycle
+		simulator.getDisplay(port, 1).setValue("kf", "14");
+		simulator.setLatency("kf", 200);
+		lgLCDDevice.getMultipleStatistics();
+		simulator.setLatency("kf", 5);
+		Map<String, String> statistics = null;
+		for (int i = 0; i < 3; i++) {
+			statistics = ((ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0)).getStatistics();
+		}
+		Assertions.assertEquals(1, lgLCDDevice.getControlDriftCount());
+		Assertions.assertEquals("1", statistics.get(LgLCDConstants.CONTROL_DRIFT_COUNT));
+		Assertions.assertEquals("20", statistics.get("Sound#" + LgLCDConstants.VOLUME_VALUE));
+	}
+
+	/**
+	 * Test a control publishes new statistics instead of changing the ones returned before
+	 * Expected the statistics returned before the control keep their values and can't be modified
+	 */
+	@Tag("Mock")
+	@Test
+	void testControlPublishesNewStatistics() throws Exception {
+		lgLCDDevice.getMultipleStatistics();
+		ExtendedStatistics before = (ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0);
+		String volumeBefore = before.getStatistics().get("Display#" + LgLCDConstants.VOLUME_VALUE);
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Display#" + LgLCDConstants.VOLUME);
+		controllableProperty.setValue("30");
+		lgLCDDevice.controlProperty(controllableProperty);
+		ExtendedStatistics after = (ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0);
+		Assertions.assertNotSame(before, after);
+		Assertions.assertEquals(volumeBefore, before.getStatistics().get("Display#" + LgLCDConstants.VOLUME_VALUE));
+		Assertions.assertEquals("30", after.getStatistics().get("Display#" + LgLCDConstants.VOLUME_VALUE));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> after.getStatistics().put(LgLCDConstants.VOLUME, "0"));
+	}
+
+	/**
+	 * Test a polling cycle builds again only the statistics and controls of the values which changed on the display
+	 * Expected the volume is updated while the controls whose value did not change keep the instances published before
+	 */
+	@Tag("Mock")
+	@Test
+	void testPollingPatchesChangedValues() throws Exception {
+		LgLCDSimulatedDisplay display = simulator.getDisplay(port, 1);
+		display.setValue("kf", "0a");
+		lgLCDDevice.setPeriodicRefreshInterval("0");
+		lgLCDDevice.setConfigManagement("true");
+		lgLCDDevice.getMultipleStatistics();
+		lgLCDDevice.getMultipleStatistics();
+		ExtendedStatistics after = (ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0);
+		Assertions.assertEquals("10", after.getStatistics().get(LgLCDPropertyKeys.SOUND_VOLUME_VALUE));
+
+		display.setValue("kf", "14");
+		ExtendedStatistics before = after;
+		for (int i = 0; i < 5 && "10".equals(after.getStatistics().get(LgLCDPropertyKeys.SOUND_VOLUME_VALUE)); i++) {
+			before = after;
+			after = (ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0);
+		}
+		Assertions.assertEquals("20", after.getStatistics().get(LgLCDPropertyKeys.SOUND_VOLUME_VALUE));
+		Assertions.assertEquals("10", before.getStatistics().get(LgLCDPropertyKeys.SOUND_VOLUME_VALUE));
+		Assertions.assertEquals(before.getControllableProperties().size(), after.getControllableProperties().size());
+		for (int i = 0; i < after.getControllableProperties().size(); i++) {
+			AdvancedControllableProperty publishedControl = before.getControllableProperties().get(i);
+			AdvancedControllableProperty control = after.getControllableProperties().get(i);
+			Assertions.assertEquals(publishedControl.getName(), control.getName());
+			if (LgLCDPropertyKeys.SOUND_VOLUME.equals(control.getName())) {
+				Assertions.assertNotSame(publishedControl, control);
+			} else if (String.valueOf(publishedControl.getValue()).equals(String.valueOf(control.getValue()))) {
+				Assertions.assertSame(publishedControl, control, control.getName());
+			}
+		}
+		Assertions.assertEquals(before.getStatistics().keySet(), after.getStatistics().keySet());
+	}
+
+	/**
+	 * Test a batch of controls reports the controls which failed or were skipped
+	 * Expected one exception listing the failed control and the control depending on it, the first failure being kept as cause
+	 */
+	@Tag("Mock")
+	@Test
+	void testControlBatchReportsFailures() throws Exception {
+		lgLCDDevice.getMultipleStatistics();
+		simulator.setNgRate(1);
+		ControllableProperty failOverMode = new ControllableProperty();
+		failOverMode.setProperty("Input#" + LgLCDConstants.FAILOVER_MODE);
+		failOverMode.setValue("1");
+		ControllableProperty inputPriority = new ControllableProperty();
+		inputPriority.setProperty("Input#" + LgLCDConstants.INPUT_PRIORITY);
+		inputPriority.setValue("1");
+		ResourceNotReachableException exception = Assertions.assertThrows(ResourceNotReachableException.class,
+				() -> lgLCDDevice.controlProperties(Arrays.asList(inputPriority, failOverMode)));
+		Assertions.assertEquals("2 of 2 controls failed: Input#FailOverMode: Can't control property FAILOVER. The device has responded with an error.; "
+				+ "Input#InputPriority: Skipped, FailOverMode failed", exception.getMessage());
+		Assertions.assertEquals("NG reply", exception.getCause().getCause().getMessage());
+	}
+
+	/**
+	 * Test moving the selected input down the failover priority list
+	 * Expected the input swaps place with the next one on the display and in the statistics
+	 */
+	@Tag("Mock")
+	@Test
+	void testControlInputPriorityDown() throws Exception {
+		LgLCDSimulatedDisplay display = simulator.getDisplay(port, 1);
+		display.setValue("mi", "02");
+		display.setValue("mj", "909199");
+		lgLCDDevice.setConfigManagement("true");
+		lgLCDDevice.getMultipleStatistics();
+		lgLCDDevice.getMultipleStatistics();
+		Map<String, String> statistics = ((ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("HDMI1", statistics.get("FailOver#Priority1"));
+		Assertions.assertEquals("HDMI2", statistics.get("FailOver#Priority2"));
+
+		ControllableProperty priorityInput = new ControllableProperty();
+		priorityInput.setProperty(LgLCDPropertyKeys.FAILOVER_PRIORITY_INPUT);
+		priorityInput.setValue("HDMI2");
+		lgLCDDevice.controlProperty(priorityInput);
+		ControllableProperty priorityDown = new ControllableProperty();
+		priorityDown.setProperty(LgLCDPropertyKeys.FAILOVER_PRIORITY_DOWN);
+		priorityDown.setValue("1");
+		lgLCDDevice.controlProperty(priorityDown);
+
+		Assertions.assertEquals("90 99 91", display.getValue("mj"));
+		statistics = ((ExtendedStatistics) lgLCDDevice.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("HDMI2/OPS", statistics.get("FailOver#Priority2"));
+		Assertions.assertEquals("HDMI2", statistics.get("FailOver#Priority3"));
+	}
+
+	/**
+	 * Test the pipelined commands are recorded with the latency of their own reply
+	 * Expected the slow command keeps its latency instead of sharing the average latency of the batch
+	 */
+	@Tag("Mock")
+	@Test
+	void testPipelinedRepliesKeepTheirLatency() throws Exception {
+		simulator.setLatency("dn", 200);
+		LgLCDDevice pipelinedDevice = new LgLCDDevice();
+		pipelinedDevice.setHost("127.0.0.1");
+		pipelinedDevice.setPort(port);
+		pipelinedDevice.setCoolDownDelay("100");
+		pipelinedDevice.setPersistentConnection("true");
+		pipelinedDevice.setPipelineWindow("4");
+		pipelinedDevice.init();
+		try {
+			pipelinedDevice.getMultipleStatistics();
+			Map<String, LgLCDCommandMetrics.CommandSummary> commandMetrics = pipelinedDevice.getCommandMetrics();
+			Assertions.assertTrue(commandMetrics.get(LgControllingCommand.TEMPERATURE.getName()).getMaxLatency() >= 200);
+			long fastestLatency = commandMetrics.values().stream().mapToLong(LgLCDCommandMetrics.CommandSummary::getMaxLatency).min().orElse(0);
+			Assertions.assertTrue(fastestLatency < 100);
+		} finally {
+			pipelinedDevice.destroy();
+		}
+	}
+
+	/**
+	 * Test ping reuses the latency of the replies of the display instead of connecting to it
+	 * Expected ping connects to the display only before the first command, then no connection is opened for it
+	 */
+	@Tag("Mock")
+	@Test
+	void testPingReusesReplyLatency() throws Exception {
+		Assertions.assertTrue(lgLCDDevice.ping() >= 1);
+		//The simulator accepts the connections of the ping on its own thread, after the ping returned
+		long deadline = System.currentTimeMillis() + 1000;
+		while (simulator.getAcceptedConnectionCount() < 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assertions.assertEquals(1, simulator.getAcceptedConnectionCount());
+		lgLCDDevice.getMultipleStatistics();
+		long acceptedConnectionCount = simulator.getAcceptedConnectionCount();
+		Assertions.assertTrue(lgLCDDevice.ping() >= 1);
+		Assertions.assertEquals(acceptedConnectionCount, simulator.getAcceptedConnectionCount());
+	}
+
+	/**
+	 * Test ping after a command failed while the persistent connection is open
+	 * Expected the display is probed with a command on the persistent connection instead of a new connection
+	 */
+	@Tag("Mock")
+	@Test
+	void testPingProbesPersistentConnection() throws Exception {
+		lgLCDDevice.setConfigTimeout("300");
+		lgLCDDevice.getMultipleStatistics();
+		long acceptedConnectionCount = simulator.getAcceptedConnectionCount();
+		byte[] missingPanel = LgLCDUtils.buildSendString((byte) 2, LgLCDConstants.commands.get(commandNames.VOLUME), LgLCDConstants.commands.get(commandNames.GET));
+		Assertions.assertThrows(SocketTimeoutException.class, () -> lgLCDDevice.send(missingPanel));
+		Assertions.assertTrue(lgLCDDevice.ping() >= 1);
+		Assertions.assertEquals(acceptedConnectionCount, simulator.getAcceptedConnectionCount());
+	}
+
+	/**
+	 * Test NG injection of the simulator
+	 * Expected digestResponse throws NG reply
+	 */
+	@Tag("Mock")
+	@Test
+	void testNgReply() throws Exception {
+		simulator.setNgRate(1);
+		byte[] response = lgLCDDevice.send(LgLCDUtils.buildSendString((byte) 1, LgLCDConstants.commands.get(commandNames.VOLUME), LgLCDConstants.commands.get(commandNames.GET)));
+		ResourceNotReachableException exception = Assertions.assertThrows(ResourceNotReachableException.class, () -> lgLCDDevice.digestResponse(response, commandNames.VOLUME));
+		Assertions.assertEquals("NG reply", exception.getMessage());
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lg.lcd;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit test for LgLCDSnapshot
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LgLCDSnapshotTest {
+
+	@TempDir
+	Path snapshotDirectory;
+
+	/**
+	 * Test the values, read times and priority inputs saved to a snapshot are loaded back
+	 */
+	@Tag("Mock")
+	@Test
+	void testSaveAndLoad() throws Exception {
+		LgLCDPropertyStore propertyStore = new LgLCDPropertyStore();
+		propertyStore.putNumber(LgLCDConstants.VOLUME, 42);
+		propertyStore.put(LgLCDConstants.IP_ADDRESS, "10.0.0.1");
+		LgLCDPropertyCache propertyCache = new LgLCDPropertyCache();
+		propertyCache.put(LgControllingCommand.VOLUME, 1000, 500);
+		LgLCDPriorityInputs priorityInputs = new LgLCDPriorityInputs();
+		byte[] inputList = "9190".getBytes(StandardCharsets.US_ASCII);
+		priorityInputs.setInputs(inputList, 0, inputList.length);
+		Path snapshotFile = LgLCDSnapshot.getSnapshotFile(snapshotDirectory, "10.0.0.1", 9761, 1);
+		LgLCDSnapshot.save(snapshotFile, 2000, propertyStore, propertyCache, priorityInputs);
+
+		LgLCDPropertyStore loadedPropertyStore = new LgLCDPropertyStore();
+		LgLCDPropertyCache loadedPropertyCache = new LgLCDPropertyCache();
+		LgLCDPriorityInputs loadedPriorityInputs = new LgLCDPriorityInputs();
+		Assertions.assertEquals(2000, LgLCDSnapshot.load(snapshotFile, loadedPropertyStore, loadedPropertyCache, loadedPriorityInputs));
+		Assertions.assertEquals("42", loadedPropertyStore.get(LgLCDConstants.VOLUME));
+		Assertions.assertEquals("10.0.0.1", loadedPropertyStore.get(LgLCDConstants.IP_ADDRESS));
+		Assertions.assertEquals(200, loadedPropertyCache.getAge(LgControllingCommand.VOLUME, 1200));
+		Assertions.assertArrayEquals(new String[] { "HDMI2", "HDMI1" }, loadedPriorityInputs.getPriorityOptions());
+	}
+
+	/**
+	 * Test nothing is loaded when there is no snapshot
+	 */
+	@Tag("Mock")
+	@Test
+	void testLoadWithoutSnapshot() throws Exception {
+		LgLCDPropertyStore propertyStore = new LgLCDPropertyStore();
+		Path snapshotFile = LgLCDSnapshot.getSnapshotFile(snapshotDirectory, "10.0.0.1", 9761, 1);
+		Assertions.assertEquals(0, LgLCDSnapshot.load(snapshotFile, propertyStore, new LgLCDPropertyCache(), new LgLCDPriorityInputs()));
+		Assertions.assertTrue(propertyStore.isEmpty());
+	}
+}